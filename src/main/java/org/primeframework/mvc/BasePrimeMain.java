@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021-2025, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2021-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,15 +15,22 @@
  */
 package org.primeframework.mvc;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
+import com.google.inject.Binding;
 import com.google.inject.Injector;
+import com.google.inject.Key;
 import com.google.inject.Module;
 import io.fusionauth.http.server.HTTPServer;
 import io.fusionauth.http.server.HTTPServerConfiguration;
 import org.primeframework.mvc.config.MVCConfiguration;
+import org.primeframework.mvc.freemarker.TemplateWarmer;
+import org.primeframework.mvc.freemarker.TemplateWatcher;
 import org.primeframework.mvc.guice.GuiceBootstrap;
+import org.primeframework.mvc.http.RequestWarmUpTiming;
+import org.primeframework.mvc.http.RequestWarmer;
 import org.primeframework.mvc.log.SLF4JLoggerFactoryAdapter;
 
 /**
@@ -54,23 +61,67 @@ public abstract class BasePrimeMain {
 
   private PrimeMVCInstrumenter instrumenter;
 
+  private volatile boolean ready;
+
   private List<PrimeHTTPServer> servers = new LinkedList<>();
 
+  private volatile List<RequestWarmUpTiming> warmUpTimings = Collections.emptyList();
+
   public abstract HTTPServerConfiguration[] configuration();
 
   public Injector getInjector() {
     return injector;
   }
 
+  /**
+   * @return The timings of the request warm-up of the current injector. This is empty if the warm-up is disabled.
+   */
+  public List<RequestWarmUpTiming> getWarmUpTimings() {
+    return warmUpTimings;
+  }
+
   /**
    * This method handles swapping out the injector into a running HTTP server. It is production ready and should be
    * thread safe.
+   * <p>
+   * If the template warm-up is enabled, the templates are parsed before the new injector is swapped in. If that fails,
+   * the running servers keep using the previous injector. If the request warm-up is enabled, requests are then sent
+   * through the new injector (see {@link RequestWarmer}) before it is swapped in.
+   * <p>
+   * The {@link TemplateWatcher} of the previous injector is closed once the new injector is swapped in, and the one of
+   * the new injector is closed if the warm-up fails, so that a hup doesn't leak a watcher thread.
    */
   public void hup() {
-    injector = GuiceBootstrap.initialize(modules());
+    Injector injector = GuiceBootstrap.initialize(modules());
+    try {
+      injector.getInstance(TemplateWarmer.class).warmUp();
+      warmUpTimings = injector.getInstance(RequestWarmer.class).warmUp();
+    } catch (RuntimeException e) {
+      // The new injector never handled a request, so all of its resources (including the template watcher) are closed
+      GuiceBootstrap.shutdown(injector);
+      throw e;
+    }
+
+    Injector previous = this.injector;
+    this.injector = injector;
     injector.injectMembers(this);
     servers.forEach(server -> server.handler.updateInjector(injector));
     instrumenter.updateInjector(injector);
+
+    if (previous != null) {
+      closeTemplateWatcher(previous);
+    }
+  }
+
+  /**
+   * The readiness signal, which can be used by health checks. This is false until {@link #start()} has warmed up the
+   * injector and started the servers, and after {@link #shutdown()} is called. It stays true during a hup because the
+   * servers keep handling requests with the previous injector until the new one is warmed up.
+   *
+   * @return True if the servers are accepting requests.
+   */
+  public boolean isReady() {
+    return ready;
   }
 
   /**
@@ -87,6 +138,7 @@ public abstract class BasePrimeMain {
    * the shutdown hook if it has been registered.
    */
   public void shutdown() {
+    ready = false;
     servers.forEach(server -> {
       server.server.close();
       server.handler.close();
@@ -136,10 +188,19 @@ public abstract class BasePrimeMain {
 
     // Start the server(s)
     servers.forEach(server -> server.server.start());
+    ready = true;
   }
 
   protected abstract Module[] modules();
 
+  private void closeTemplateWatcher(Injector injector) {
+    // Only close a watcher the injector already has, getInstance would create one for an injector that doesn't bind it
+    Binding<TemplateWatcher> binding = injector.getExistingBinding(Key.get(TemplateWatcher.class));
+    if (binding != null) {
+      binding.getProvider().get().close();
+    }
+  }
+
   private void configureLoggerFactory(HTTPServerConfiguration config) {
     // If there is no loggerFactory, or the config is still using the java-http default, let's use SLF4J, cause that is how we roll.
     if (config.getLoggerFactory() == null || config.getLoggerFactory().getClass().equals(new HTTPServerConfiguration().getLoggerFactory().getClass())) {
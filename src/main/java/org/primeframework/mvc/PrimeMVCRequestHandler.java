@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021-2025, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2021-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -65,22 +65,18 @@ public class PrimeMVCRequestHandler implements HTTPHandler, Closeable {
       request.setMethod(HTTPMethod.of(methodOverride));
     }
 
-    HTTPObjectsHolder.setRequest(request);
-    HTTPObjectsHolder.setResponse(response);
-
     // Do not catch any exceptions, the HTTP server will handle exceptions.
     // - If we do want to log or perform any specific handling when an unexpected
     //   exception is thrown, you may configure an UnexpectedException handler.
     //   See HTTPServerConfiguration.withUnexpectedExceptionHandler
-    try {
-      injector.getInstance(MVCWorkflow.class).perform(null);
-    } finally {
-      HTTPObjectsHolder.clearRequest();
-      HTTPObjectsHolder.clearResponse();
-
-      // Execute the finalizer
-      injector.getInstance(MVCWorkflowFinalizer.class).run();
-    }
+    HTTPObjectsHolder.run(request, response, () -> {
+      try {
+        injector.getInstance(MVCWorkflow.class).perform(null);
+      } finally {
+        // Execute the finalizer while the request and response are still bound so it can write to the response
+        injector.getInstance(MVCWorkflowFinalizer.class).run();
+      }
+    });
   }
 
   public void updateInjector(Injector injector) {
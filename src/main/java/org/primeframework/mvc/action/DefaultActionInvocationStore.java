@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2015, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,10 +19,12 @@ import java.util.ArrayDeque;
 import java.util.Deque;
 
 import com.google.inject.Inject;
+import com.google.inject.Provider;
 import io.fusionauth.http.server.HTTPRequest;
 
 /**
- * This class is the default action invocation store.
+ * This class is the default action invocation store. It stores the invocations in the current request's attributes and
+ * looks the request up each time, which allows it to be a singleton.
  *
  * @author Brian Pontarelli
  */
@@ -32,10 +34,10 @@ public class DefaultActionInvocationStore implements ActionInvocationStore {
 
   public static final String ACTION_INVOCATION_KEY = "primeActionInvocation";
 
-  private final HTTPRequest request;
+  private final Provider<HTTPRequest> request;
 
   @Inject
-  public DefaultActionInvocationStore(HTTPRequest request) {
+  public DefaultActionInvocationStore(Provider<HTTPRequest> request) {
     this.request = request;
   }
 
@@ -43,7 +45,7 @@ public class DefaultActionInvocationStore implements ActionInvocationStore {
    * {@inheritDoc}
    */
   public ActionInvocation getCurrent() {
-    Deque<ActionInvocation> deque = (Deque<ActionInvocation>) request.getAttribute(ACTION_INVOCATION_DEQUE_KEY);
+    Deque<ActionInvocation> deque = (Deque<ActionInvocation>) request.get().getAttribute(ACTION_INVOCATION_DEQUE_KEY);
     if (deque == null) {
       return null;
     }
@@ -55,6 +57,7 @@ public class DefaultActionInvocationStore implements ActionInvocationStore {
    * {@inheritDoc}
    */
   public void setCurrent(ActionInvocation actionInvocation) {
+    HTTPRequest request = this.request.get();
     Deque<ActionInvocation> deque = (Deque<ActionInvocation>) request.getAttribute(ACTION_INVOCATION_DEQUE_KEY);
     if (deque == null) {
       deque = new ArrayDeque<>();
@@ -69,13 +72,14 @@ public class DefaultActionInvocationStore implements ActionInvocationStore {
    * {@inheritDoc}
    */
   public Deque<ActionInvocation> getDeque() {
-    return (Deque<ActionInvocation>) request.getAttribute(ACTION_INVOCATION_DEQUE_KEY);
+    return (Deque<ActionInvocation>) request.get().getAttribute(ACTION_INVOCATION_DEQUE_KEY);
   }
 
   /**
    * {@inheritDoc}
    */
   public void removeCurrent() {
+    HTTPRequest request = this.request.get();
     Deque<ActionInvocation> deque = (Deque<ActionInvocation>) request.getAttribute(ACTION_INVOCATION_DEQUE_KEY);
     if (deque == null) {
       return;
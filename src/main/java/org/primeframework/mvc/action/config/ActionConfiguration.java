@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2024, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.fusionauth.http.HTTPMethod;
 import org.primeframework.mvc.action.AuthorizationMethodConfiguration;
@@ -36,6 +37,7 @@ import org.primeframework.mvc.action.annotation.Action;
 import org.primeframework.mvc.parameter.annotation.PreParameter;
 import org.primeframework.mvc.parameter.fileupload.annotation.FileUpload;
 import org.primeframework.mvc.scope.ScopeField;
+import org.primeframework.mvc.security.SecurityPlan;
 import org.primeframework.mvc.validation.Validatable;
 
 /**
@@ -92,6 +94,9 @@ public class ActionConfiguration {
 
   public final List<String> securitySchemes;
 
+  // Built lazily by the security workflow the first time each HTTP method is requested
+  public final Map<HTTPMethod, SecurityPlan> securityPlans = new ConcurrentHashMap<>();
+
   public final Field unknownParametersField;
 
   public final String uri;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2012-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,4 +28,14 @@ public interface ActionConfigurationBuilder {
    * @return The action configuration and never null.
    */
   ActionConfiguration build(Class<?> actionClass);
+
+  /**
+   * Returns a key that identifies the configurations built by this builder (see {@link ActionConfigurator#cacheKey()}).
+   * The action configurations are reused across injectors (i.e. after a hup) as long as the keys are equal.
+   *
+   * @return The key or null if the configurations must be built for each injector.
+   */
+  default Object cacheKey() {
+    return null;
+  }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013-2016, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2013-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,4 +29,15 @@ public interface ActionConfigurator {
    * @return The configuration or null.
    */
   Object configure(Class<?> actionClass);
+
+  /**
+   * Returns a key that identifies the results of this configurator. The action configurations are reused across
+   * injectors (i.e. after a hup) as long as the keys are equal, so a configurator whose results depend on injected
+   * state, such as the MVCConfiguration, must include that state in the key.
+   *
+   * @return The key or null if the results must be built for each injector, which is the default.
+   */
+  default Object cacheKey() {
+    return null;
+  }
 }
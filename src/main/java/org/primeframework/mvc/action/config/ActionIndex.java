@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.action.config;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.ZipException;
+
+import org.primeframework.mvc.action.annotation.Action;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the action index files that are written at build time by the {@link ActionIndexProcessor}. Each index file
+ * lists the binary names of the action classes of the classpath entry (directory or JAR file) it is in, one per line. Blank lines and lines starting with
+ * <code>#</code> are ignored.
+ */
+public final class ActionIndex {
+  /**
+   * The location of the index files in the classpath.
+   */
+  public static final String LOCATION = "META-INF/prime-mvc/actions.idx";
+
+  private static final Logger logger = LoggerFactory.getLogger(ActionIndex.class);
+
+  private ActionIndex() {
+  }
+
+  /**
+   * Loads the action classes listed in an index file.
+   *
+   * @param names       The class names from the index file.
+   * @param root        The classpath entry that contains the index file. This is only used for logging.
+   * @param classLoader The ClassLoader used to load the classes.
+   * @return The action classes.
+   */
+  public static Set<Class<?>> load(Set<String> names, String root, ClassLoader classLoader) {
+    Set<Class<?>> classes = new LinkedHashSet<>();
+    for (String name : names) {
+      try {
+        Class<?> type = Class.forName(name, false, classLoader);
+        if (type.isAnnotationPresent(Action.class)) {
+          classes.add(type);
+        } else {
+          logger.warn("The class [{}] listed in the action index of [{}] is not annotated with @Action. Skipping it.", name, root);
+        }
+      } catch (ClassNotFoundException | LinkageError e) {
+        // This is most likely a stale index left behind by an incremental compile
+        logger.warn("Unable to load the action class [{}] listed in the action index of [{}]. Skipping it.", name, root);
+      }
+    }
+
+    return classes;
+  }
+
+  /**
+   * Reads the class names from the index file of a classpath entry. The index only covers the classes of the entry it
+   * is in, so an entry without one must still be scanned.
+   *
+   * @param root The classpath entry, which is either a directory or a JAR file.
+   * @return The class names or null if the entry doesn't have an index file.
+   * @throws IOException If the index file could not be read.
+   */
+  public static Set<String> read(File root) throws IOException {
+    if (root.isDirectory()) {
+      File index = new File(root, LOCATION);
+      if (!index.isFile()) {
+        return null;
+      }
+
+      try (InputStream is = new FileInputStream(index)) {
+        return read(is);
+      }
+    } else if (root.isFile()) {
+      try (JarFile jarFile = new JarFile(root)) {
+        JarEntry entry = jarFile.getJarEntry(LOCATION);
+        if (entry == null) {
+          return null;
+        }
+
+        try (InputStream is = jarFile.getInputStream(entry)) {
+          return read(is);
+        }
+      } catch (ZipException e) {
+        // Not a JAR file, the scan skips it as well
+        return null;
+      }
+    }
+
+    return null;
+  }
+
+  static Set<String> read(InputStream is) throws IOException {
+    Set<String> names = new LinkedHashSet<>();
+    BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+    String line;
+    while ((line = reader.readLine()) != null) {
+      line = line.trim();
+      if (!line.isEmpty() && !line.startsWith("#")) {
+        names.add(line);
+      }
+    }
+
+    return names;
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.action.config;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.primeframework.mvc.action.annotation.Action;
+
+/**
+ * An annotation processor that writes the action index (see {@link ActionIndex}) so that the
+ * {@link DefaultActionConfigurationProvider} doesn't have to scan the classpath for action classes at startup.
+ * <p>
+ * The processor is not registered as a service, so it must be enabled explicitly in the build using
+ * <code>-processor org.primeframework.mvc.action.config.ActionIndexProcessor</code> (or the equivalent setting of your
+ * build tool). It applies the same rule as the classpath scan, which means that only classes in a package that has an
+ * <code>action</code> segment (i.e. <code>com.example.action.user</code>) are indexed.
+ * <p>
+ * The index is written from the classes in a single compilation. Incremental compiles that only include some of the
+ * action classes will produce a partial index, so always produce the index from a full compile. The index is read per
+ * classpath entry, so a directory or JAR with an index is not scanned, while the entries without one are still scanned
+ * for action classes.
+ */
+@SupportedAnnotationTypes("org.primeframework.mvc.action.annotation.Action")
+public class ActionIndexProcessor extends AbstractProcessor {
+  private final Set<String> actions = new TreeSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      if (!actions.isEmpty()) {
+        write();
+      }
+
+      return false;
+    }
+
+    for (Element element : roundEnv.getElementsAnnotatedWith(Action.class)) {
+      if (element.getKind() != ElementKind.CLASS) {
+        continue;
+      }
+
+      TypeElement type = (TypeElement) element;
+      PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+      if (inActionPackage(pkg.getQualifiedName().toString())) {
+        actions.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+      }
+    }
+
+    return false;
+  }
+
+  static boolean inActionPackage(String packageName) {
+    for (String segment : packageName.split("\\.")) {
+      if (segment.equals("action")) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private void write() {
+    try {
+      FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", ActionIndex.LOCATION);
+      try (Writer writer = file.openWriter()) {
+        writer.write("# Generated by " + ActionIndexProcessor.class.getName() + "\n");
+        for (String action : actions) {
+          writer.write(action);
+          writer.write('\n');
+        }
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Kind.ERROR, "Unable to write the action index [" + ActionIndex.LOCATION + "]. " + e.getMessage());
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012-2025, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2012-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -86,6 +87,32 @@ public class DefaultActionConfigurationBuilder implements ActionConfigurationBui
     this.configurators = configurators;
   }
 
+  /**
+   * The configurations only depend on the action classes, the URIBuilder and the configurators, so they can be reused
+   * when all of those provide a key.
+   *
+   * @return The key or null if the URIBuilder or any of the configurators doesn't provide one.
+   */
+  @Override
+  public Object cacheKey() {
+    Object uriBuilderKey = uriBuilder.cacheKey();
+    if (uriBuilderKey == null) {
+      return null;
+    }
+
+    Set<Object> configuratorKeys = new HashSet<>();
+    for (ActionConfigurator configurator : configurators) {
+      Object key = configurator.cacheKey();
+      if (key == null) {
+        return null;
+      }
+
+      configuratorKeys.add(key);
+    }
+
+    return List.of(getClass(), uriBuilderKey, configuratorKeys);
+  }
+
   /**
    * Builds the action configuration using the class.
    *
@@ -495,19 +522,20 @@ public class DefaultActionConfigurationBuilder implements ActionConfigurationBui
    */
   protected List<ScopeField> findScopeFields(Class<?> actionClass) {
     List<ScopeField> scopeFields = new ArrayList<>();
-    while (actionClass != Object.class) {
-      Field[] fields = actionClass.getDeclaredFields();
+    Class<?> current = actionClass;
+    while (current != Object.class) {
+      Field[] fields = current.getDeclaredFields();
       for (Field field : fields) {
         Annotation[] annotations = field.getAnnotations();
         for (Annotation annotation : annotations) {
           Class<? extends Annotation> type = annotation.annotationType();
           if (type.isAnnotationPresent(ScopeAnnotation.class)) {
-            scopeFields.add(new ScopeField(field, annotation));
+            scopeFields.add(new ScopeField(field, annotation, actionClass));
           }
         }
       }
 
-      actionClass = actionClass.getSuperclass();
+      current = current.getSuperclass();
     }
 
     return scopeFields;
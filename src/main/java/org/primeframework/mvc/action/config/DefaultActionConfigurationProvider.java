@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2020, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,15 +15,19 @@
  */
 package org.primeframework.mvc.action.config;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import com.google.inject.Inject;
@@ -31,12 +35,14 @@ import org.primeframework.mvc.PrimeException;
 import org.primeframework.mvc.action.ActionInvocation;
 import org.primeframework.mvc.action.annotation.Action;
 import org.primeframework.mvc.util.ClassClasspathResolver;
+import org.primeframework.mvc.util.Classpath;
 import org.primeframework.mvc.util.URITools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * This class loads the configuration by scanning the classpath for packages and action classes.
+ * This class loads the configuration from the action indexes of the classpath entries that have one and by scanning the
+ * other classpath entries for packages and action classes.
  *
  * @author Brian Pontarelli
  */
@@ -44,20 +50,33 @@ import org.slf4j.LoggerFactory;
 public class DefaultActionConfigurationProvider implements ActionConfigurationProvider {
   private static final Logger logger = LoggerFactory.getLogger(DefaultActionConfigurationProvider.class);
 
-  private final List<ActionConfiguration> actionConfigurations = new ArrayList<>();
+  // The last configuration that was built. This is reused by the providers of later injectors (i.e. after a hup) until
+  // the ClassLoader or the builder changes. It references the action classes and therefore their ClassLoader, which is
+  // why only the last one is kept
+  private static volatile Snapshot snapshot;
 
-  private final Node root = new Node();
+  private final List<ActionConfiguration> actionConfigurations;
+
+  private final Node root;
 
   @Inject
   public DefaultActionConfigurationProvider(ActionConfigurationBuilder builder) {
-    ClassClasspathResolver<?> resolver = new ClassClasspathResolver<>();
-    Set<? extends Class<?>> actionClasses;
-    try {
-      actionClasses = resolver.findByLocators(new ClassClasspathResolver.AnnotatedWith(Action.class), true, null, "action");
-    } catch (IOException e) {
-      throw new PrimeException("Error discovering action classes", e);
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    Object builderKey = builder.cacheKey();
+    Snapshot last = snapshot;
+    boolean sameClasses = last != null && last.providerClass == getClass() && last.classLoader == classLoader;
+    if (sameClasses && builderKey != null && builderKey.equals(last.builderKey)) {
+      logger.debug("Reusing the action configuration for [{}] actions", last.actionConfigurations.size());
+      this.actionConfigurations = last.actionConfigurations;
+      this.root = last.root;
+      return;
     }
 
+    // The action classes only depend on the ClassLoader, so they are reused even if the builder has changed
+    Set<? extends Class<?>> actionClasses = sameClasses ? last.actionClasses : findActionClasses();
+    this.actionConfigurations = new ArrayList<>();
+    this.root = new Node();
+
     for (Class<?> actionClass : actionClasses) {
       // Only accept classes loaded by the ClassLoader for Prime. This prevents classes loaded by parent loader from
       // being included as available Actions. One situation that this can occur: A jar with Actions (Prime) is in the classpath
@@ -87,6 +106,60 @@ public class DefaultActionConfigurationProvider implements ActionConfigurationPr
         logger.debug("Added action configuration for [{}] and the uri [{}]", actionClass, actionConfiguration.uri);
       }
     }
+
+    snapshot = new Snapshot(getClass(), classLoader, actionClasses, builderKey, actionConfigurations, root);
+  }
+
+  /**
+   * Clears the action configuration that is reused across injectors.
+   */
+  static void clearCache() {
+    snapshot = null;
+  }
+
+  /**
+   * Finds the action classes. Each classpath entry that has an action index (see {@link ActionIndex}) is read from its
+   * index and the entries without one are scanned.
+   *
+   * @return The action classes.
+   */
+  private static Set<? extends Class<?>> findActionClasses() {
+    try {
+      ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+      Set<Class<?>> classes = new LinkedHashSet<>();
+      List<String> unindexed = new ArrayList<>();
+      for (String name : Classpath.getCurrentClassPath().getNames()) {
+        Set<String> names = ActionIndex.read(new File(name));
+        if (names == null) {
+          unindexed.add(name);
+        } else {
+          Set<Class<?>> indexed = ActionIndex.load(names, name, classLoader);
+          logger.debug("Loaded [{}] action classes from the action index of [{}]", indexed.size(), name);
+          classes.addAll(indexed);
+        }
+      }
+
+      if (!unindexed.isEmpty()) {
+        // The scan is blocking I/O, so it uses its own threads rather than the common pool
+        int threads = Math.min(Runtime.getRuntime().availableProcessors(), unindexed.size());
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+          Thread thread = new Thread(runnable, "Prime MVC action scan");
+          thread.setDaemon(true);
+          return thread;
+        });
+
+        try {
+          ClassClasspathResolver<?> resolver = new ClassClasspathResolver<>(executor);
+          classes.addAll(resolver.findByLocators(new Classpath(unindexed), new ClassClasspathResolver.AnnotatedWith(Action.class), true, null, "action"));
+        } finally {
+          executor.shutdownNow();
+        }
+      }
+
+      return classes;
+    } catch (IOException e) {
+      throw new PrimeException("Error discovering action classes", e);
+    }
   }
 
   @Override
@@ -328,6 +401,30 @@ public class DefaultActionConfigurationProvider implements ActionConfigurationPr
     }
   }
 
+  private static class Snapshot {
+    public final List<ActionConfiguration> actionConfigurations;
+
+    public final Set<? extends Class<?>> actionClasses;
+
+    public final Object builderKey;
+
+    public final ClassLoader classLoader;
+
+    public final Class<?> providerClass;
+
+    public final Node root;
+
+    public Snapshot(Class<?> providerClass, ClassLoader classLoader, Set<? extends Class<?>> actionClasses, Object builderKey,
+                    List<ActionConfiguration> actionConfigurations, Node root) {
+      this.providerClass = providerClass;
+      this.classLoader = classLoader;
+      this.actionClasses = actionClasses;
+      this.builderKey = builderKey;
+      this.actionConfigurations = actionConfigurations;
+      this.root = root;
+    }
+  }
+
   private static class TraversalState {
     public ActionConfiguration actionConfiguration;
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012-2025, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2012-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,11 +34,11 @@ import org.primeframework.mvc.action.config.DefaultActionConfigurationProvider;
 import org.primeframework.mvc.action.result.ActionResultDefinition;
 import org.primeframework.mvc.action.result.DefaultResourceLocator;
 import org.primeframework.mvc.action.result.DefaultResultInvocationWorkflow;
+import org.primeframework.mvc.action.result.RequestResultStore;
 import org.primeframework.mvc.action.result.ResourceLocator;
 import org.primeframework.mvc.action.result.ResultInvocationWorkflow;
 import org.primeframework.mvc.action.result.ResultStore;
 import org.primeframework.mvc.action.result.StatusActionResultDefinition;
-import org.primeframework.mvc.action.result.ThreadLocalResultStore;
 
 /**
  * Binds injections regarding actions such as extensions.
@@ -63,7 +63,7 @@ public class ActionModule extends AbstractModule {
   }
 
   protected void bindMapper() {
-    bind(ActionMapper.class).to(DefaultActionMapper.class);
+    bind(ActionMapper.class).to(DefaultActionMapper.class).in(Singleton.class);
   }
 
   protected void bindMappingWorkflow() {
@@ -79,15 +79,15 @@ public class ActionModule extends AbstractModule {
   }
 
   protected void bindResultStore() {
-    bind(ResultStore.class).to(ThreadLocalResultStore.class);
+    bind(ResultStore.class).to(RequestResultStore.class).in(Singleton.class);
   }
 
   protected void bindStore() {
-    bind(ActionInvocationStore.class).to(DefaultActionInvocationStore.class);
+    bind(ActionInvocationStore.class).to(DefaultActionInvocationStore.class).in(Singleton.class);
   }
 
   protected void bindWorkflow() {
-    bind(ActionInvocationWorkflow.class).to(DefaultActionInvocationWorkflow.class);
+    bind(ActionInvocationWorkflow.class).to(DefaultActionInvocationWorkflow.class).in(Singleton.class);
   }
 
   @Override
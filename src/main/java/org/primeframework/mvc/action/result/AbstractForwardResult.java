@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2019-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,9 @@
 package org.primeframework.mvc.action.result;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.lang.annotation.Annotation;
+import java.util.Locale;
 
 import io.fusionauth.http.server.HTTPResponse;
 import org.primeframework.mvc.PrimeException;
@@ -25,6 +27,8 @@ import org.primeframework.mvc.action.ActionInvocationStore;
 import org.primeframework.mvc.config.MVCConfiguration;
 import org.primeframework.mvc.freemarker.FreeMarkerMap;
 import org.primeframework.mvc.freemarker.FreeMarkerService;
+import org.primeframework.mvc.freemarker.StreamingWriter;
+import org.primeframework.mvc.io.UTF8Writer;
 import org.primeframework.mvc.parameter.el.ExpressionEvaluator;
 
 /**
@@ -87,9 +91,24 @@ public abstract class AbstractForwardResult<U extends Annotation> extends Abstra
       return true;
     }
 
-    // Locate the page and render the freemarker
+    // Locate the page and render the freemarker. When streaming, the errors that happen before the first flush can still
+    // be handled by the error workflow because nothing has been committed yet
     page = buildFullyQualifiedPath(actionInvocation, forward);
-    freeMarkerService.render(response.getWriter(), page, freeMarkerMap);
+    boolean streaming = configuration.templateStreamingEnabled() || getStreaming(forward);
+    if (!isUTF8(contentType)) {
+      Writer writer = response.getWriter();
+      freeMarkerService.render(streaming ? new StreamingWriter(writer) : writer, page, freeMarkerMap);
+      return true;
+    }
+
+    // Encode directly into a pooled buffer. If the render fails, the buffered output is discarded
+    UTF8Writer writer = new UTF8Writer(response.getOutputStream());
+    try {
+      freeMarkerService.render(streaming ? new StreamingWriter(writer) : writer, page, freeMarkerMap);
+      writer.close();
+    } finally {
+      writer.recycle();
+    }
 
     return true;
   }
@@ -108,6 +127,8 @@ public abstract class AbstractForwardResult<U extends Annotation> extends Abstra
 
   protected abstract String getStatusStr(U forward);
 
+  protected abstract boolean getStreaming(U forward);
+
   /**
    * Return a String representation of the absolute path in the container to the FreeMarker template.
    *
@@ -135,6 +156,32 @@ public abstract class AbstractForwardResult<U extends Annotation> extends Abstra
     return expandPage(page, actionInvocation);
   }
 
+  /**
+   * Determines if the charset parameter of the content type is UTF-8.
+   *
+   * @param contentType The content type.
+   * @return True if the content type declares the UTF-8 charset.
+   */
+  private boolean isUTF8(String contentType) {
+    if (contentType == null) {
+      return false;
+    }
+
+    int index = contentType.toLowerCase(Locale.ROOT).indexOf("charset=");
+    if (index < 0) {
+      return false;
+    }
+
+    String charset = contentType.substring(index + 8);
+    int end = charset.indexOf(';');
+    if (end >= 0) {
+      charset = charset.substring(0, end);
+    }
+
+    charset = charset.trim().replace("\"", "");
+    return charset.equalsIgnoreCase("UTF-8") || charset.equalsIgnoreCase("UTF8");
+  }
+
   /**
    * Locate the default template if one was not specified. Checks for results using this search order:
    * <p>
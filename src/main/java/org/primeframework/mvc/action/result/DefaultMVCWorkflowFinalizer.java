@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2023-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,20 +16,31 @@
 package org.primeframework.mvc.action.result;
 
 import com.google.inject.Inject;
+import com.google.inject.Provider;
+import org.primeframework.mvc.message.scope.FlashScope;
 
 /**
  * @author Daniel DeGroff
  */
 public class DefaultMVCWorkflowFinalizer implements MVCWorkflowFinalizer {
+  private final Provider<FlashScope> flashScopeProvider;
+
   private final ResultStore resultStore;
 
   @Inject
-  public DefaultMVCWorkflowFinalizer(ResultStore resultStore) {
+  public DefaultMVCWorkflowFinalizer(Provider<FlashScope> flashScopeProvider, ResultStore resultStore) {
+    this.flashScopeProvider = flashScopeProvider;
     this.resultStore = resultStore;
   }
 
   @Override
   public void run() {
-    resultStore.clear();
+    try {
+      // The result invocation flushes before rendering, this writes messages from chains that ended without a result or
+      // that were added by the result itself, such as a redirect moving the request messages to the flash scope
+      flashScopeProvider.get().flush();
+    } finally {
+      resultStore.clear();
+    }
   }
 }
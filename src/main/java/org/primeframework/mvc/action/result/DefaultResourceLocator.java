@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012-2015, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2012-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,7 @@
 package org.primeframework.mvc.action.result;
 
 import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.inject.Inject;
 import io.fusionauth.http.server.HTTPContext;
@@ -25,11 +25,14 @@ import org.primeframework.mvc.action.ActionInvocationStore;
 
 /**
  * Uses a lookup methodology for finding resources based on the action URI, extension, and result code.
+ * <p>
+ * Lookups are cached without holding a lock while the resource is located, so a virtual thread that blocks on I/O
+ * here does not pin its carrier thread. Two threads may locate the same resource concurrently, which is harmless.
  *
  * @author Brian Pontarelli
  */
 public class DefaultResourceLocator implements ResourceLocator {
-  private static final Map<String, String> resourceCache = new WeakHashMap<>();
+  private static final Map<String, String> resourceCache = new ConcurrentHashMap<>();
 
   private final ActionInvocationStore actionInvocationStore;
 
@@ -53,39 +56,37 @@ public class DefaultResourceLocator implements ResourceLocator {
     String resultCode = resultStore.get();
     String key = directory + actionURI + "-" + extension + "-" + resultCode;
 
-    synchronized (resourceCache) {
-      String resource = resourceCache.get(key);
-      if (resource != null) {
-        return resource;
-      }
-
-      if (actionURI.endsWith("/")) {
-        resource = findResource(directory + actionURI + "index.ftl");
-      } else {
-        if (extension != null) {
-          if (resultCode != null) {
-            resource = findResource(directory + actionURI + "-" + extension + "-" + resultCode + ".ftl");
-          }
-          if (resource == null) {
-            resource = findResource(directory + actionURI + "-" + extension + ".ftl");
-          }
-        }
+    String resource = resourceCache.get(key);
+    if (resource != null) {
+      return resource;
+    }
 
-        // Look for FTL results to forward to
-        if (resource == null && resultCode != null) {
-          resource = findResource(directory + actionURI + "-" + resultCode + ".ftl");
+    if (actionURI.endsWith("/")) {
+      resource = findResource(directory + actionURI + "index.ftl");
+    } else {
+      if (extension != null) {
+        if (resultCode != null) {
+          resource = findResource(directory + actionURI + "-" + extension + "-" + resultCode + ".ftl");
         }
         if (resource == null) {
-          resource = findResource(directory + actionURI + ".ftl");
+          resource = findResource(directory + actionURI + "-" + extension + ".ftl");
         }
       }
 
-      if (resource != null) {
-        resourceCache.put(key, resource);
+      // Look for FTL results to forward to
+      if (resource == null && resultCode != null) {
+        resource = findResource(directory + actionURI + "-" + resultCode + ".ftl");
+      }
+      if (resource == null) {
+        resource = findResource(directory + actionURI + ".ftl");
       }
+    }
 
-      return resource;
+    if (resource != null) {
+      resourceCache.put(key, resource);
     }
+
+    return resource;
   }
 
   @Override
@@ -93,22 +94,20 @@ public class DefaultResourceLocator implements ResourceLocator {
     ActionInvocation actionInvocation = actionInvocationStore.getCurrent();
     String actionURI = actionInvocation.actionURI;
     String key = directory + actionURI + "/index";
-    synchronized (resourceCache) {
-      String resource = resourceCache.get(key);
-      if (resource != null) {
-        return resource;
-      }
-
-      resource = findResource(directory + actionURI + "/index.ftl");
+    String resource = resourceCache.get(key);
+    if (resource != null) {
+      return resource;
+    }
 
-      // Return the redirect portion of the URI
-      if (resource != null) {
-        resource = actionURI + "/";
-        resourceCache.put(key, resource);
-      }
+    resource = findResource(directory + actionURI + "/index.ftl");
 
-      return resource;
+    // Return the redirect portion of the URI
+    if (resource != null) {
+      resource = actionURI + "/";
+      resourceCache.put(key, resource);
     }
+
+    return resource;
   }
 
   private String findResource(String path) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2025, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import org.primeframework.mvc.action.ActionInvocationStore;
 import org.primeframework.mvc.action.result.ForwardResult.ForwardImpl;
 import org.primeframework.mvc.action.result.RedirectResult.RedirectImpl;
 import org.primeframework.mvc.config.MVCConfiguration;
+import org.primeframework.mvc.message.scope.FlashScope;
 import org.primeframework.mvc.util.ReflectionUtils;
 import org.primeframework.mvc.workflow.WorkflowChain;
 import org.slf4j.Logger;
@@ -51,6 +52,8 @@ public class DefaultResultInvocationWorkflow implements ResultInvocationWorkflow
 
   private final ResultFactory factory;
 
+  private FlashScope flashScope;
+
   private final ResourceLocator resourceLocator;
 
   private final ResultStore resultStore;
@@ -81,6 +84,8 @@ public class DefaultResultInvocationWorkflow implements ResultInvocationWorkflow
    * <ul> <li>Lookup an result invocation using the action invocation, action URI and result code from the action</li>
    * <li>If it doesn't exist, error out</li> <li>If it does exist, call the ResultRegistry to find the Result</li>
    * <li>Invoke the Result</li> </ul>
+   * <p>
+   * The flash scope is flushed before the result is invoked, since the result may commit the response while it renders.
    *
    * @param chain The chain.
    * @throws IOException If the chain throws an IOException.
@@ -146,6 +151,10 @@ public class DefaultResultInvocationWorkflow implements ResultInvocationWorkflow
       long start = System.currentTimeMillis();
       @SuppressWarnings("rawtypes")
       Result result = factory.build(annotation.annotationType());
+      if (flashScope != null) {
+        flashScope.flush();
+      }
+
       boolean handled = result.execute(annotation);
 
       if (logger.isDebugEnabled()) {
@@ -158,6 +167,11 @@ public class DefaultResultInvocationWorkflow implements ResultInvocationWorkflow
     }
   }
 
+  @Inject
+  public void setFlashScope(FlashScope flashScope) {
+    this.flashScope = flashScope;
+  }
+
   @SuppressWarnings("unchecked")
   private void handleContinueOrRedirect(WorkflowChain chain) throws IOException {
     String uri = resourceLocator.locateIndex(configuration.templateDirectory());
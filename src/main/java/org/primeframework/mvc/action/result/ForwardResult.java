@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2019, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -74,6 +74,11 @@ public class ForwardResult extends AbstractForwardResult<Forward> {
     return forward.statusStr();
   }
 
+  @Override
+  protected boolean getStreaming(Forward forward) {
+    return forward.streaming();
+  }
+
   public static class ForwardImpl implements Forward {
     private final String cacheControl;
 
@@ -87,6 +92,8 @@ public class ForwardResult extends AbstractForwardResult<Forward> {
 
     private final String statusStr;
 
+    private final boolean streaming;
+
     private final String uri;
 
     public ForwardImpl(String uri, String code) {
@@ -96,6 +103,7 @@ public class ForwardResult extends AbstractForwardResult<Forward> {
       this.disableCacheControl = false;
       this.status = 200;
       this.statusStr = "";
+      this.streaming = false;
       this.uri = uri;
     }
 
@@ -106,6 +114,7 @@ public class ForwardResult extends AbstractForwardResult<Forward> {
       this.disableCacheControl = false;
       this.status = status;
       this.statusStr = "";
+      this.streaming = false;
       this.uri = uri;
     }
 
@@ -147,5 +156,10 @@ public class ForwardResult extends AbstractForwardResult<Forward> {
     public String statusStr() {
       return statusStr;
     }
+
+    @Override
+    public boolean streaming() {
+      return streaming;
+    }
   }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.action.result;
+
+import io.fusionauth.http.server.HTTPRequest;
+import org.primeframework.mvc.http.HTTPObjectsHolder;
+
+/**
+ * The default implementation of the result code store. It stores the result code as an attribute of the current
+ * request, so that the result code lives and dies with the request rather than with the thread that handles it.
+ */
+public class RequestResultStore implements ResultStore {
+  public static final String RESULT_CODE_KEY = "primeResultCode";
+
+  @Override
+  public void clear() {
+    HTTPRequest request = HTTPObjectsHolder.getRequest();
+    if (request != null) {
+      request.removeAttribute(RESULT_CODE_KEY);
+    }
+  }
+
+  @Override
+  public String get() {
+    HTTPRequest request = HTTPObjectsHolder.getRequest();
+    return request != null ? (String) request.getAttribute(RESULT_CODE_KEY) : null;
+  }
+
+  @Override
+  public void set(String resultCode) {
+    HTTPObjectsHolder.getRequest().setAttribute(RESULT_CODE_KEY, resultCode);
+  }
+}
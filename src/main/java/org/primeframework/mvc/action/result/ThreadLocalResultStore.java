@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012-2015, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2012-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,8 @@
 package org.primeframework.mvc.action.result;
 
 /**
- * The default implementation of the result code store. It uses a ThreadLocal.
+ * An implementation of the result code store that uses a ThreadLocal. The default is {@link RequestResultStore}, which
+ * does not leave anything behind on the thread that handled the request.
  *
  * @author Brian Pontarelli
  */
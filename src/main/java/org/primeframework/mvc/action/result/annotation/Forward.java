@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2019, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -73,6 +73,15 @@ public @interface Forward {
    */
   String statusStr() default "";
 
+  /**
+   * @return Set to true to stream the rendered template. Everything rendered so far is sent to the client after the
+   *     closing <code>&lt;/head&gt;</code> tag and at each <code>[@prime.flush/]</code> directive, which lets the browser
+   *     start fetching assets while the rest of the page renders. Errors after the first flush can no longer be handled
+   *     by the error workflow because the response has been committed. This is always enabled when
+   *     <code>MVCConfiguration.templateStreamingEnabled()</code> is true.
+   */
+  boolean streaming() default false;
+
   /**
    * A list of Forward annotations.
    */
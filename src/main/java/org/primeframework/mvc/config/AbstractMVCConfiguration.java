@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012-2024, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2012-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.primeframework.mvc.config;
 import java.lang.annotation.Annotation;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 
 import io.fusionauth.http.Cookie.SameSite;
@@ -64,6 +65,12 @@ public abstract class AbstractMVCConfiguration implements MVCConfiguration {
 
   public String missingPath = "/missing";
 
+  public boolean requestWarmUpEnabled;
+
+  public int requestWarmUpIterations = 10;
+
+  public List<String> requestWarmUpURIs = Collections.emptyList();
+
   public int savedRequestCookieMaximumSize = 16 * 1024; // 16 KB
 
   public String savedRequestCookieName = "prime-mvc-saved-request";
@@ -74,6 +81,16 @@ public abstract class AbstractMVCConfiguration implements MVCConfiguration {
 
   public String templateDirectory = "templates";
 
+  public boolean templateStreamingEnabled;
+
+  public boolean templateWarmUpEnabled;
+
+  public boolean templateWarmUpFailOnError = true;
+
+  public List<Locale> templateWarmUpLocales = Collections.emptyList();
+
+  public boolean templateWatchEnabled;
+
   public List<Class<? extends Annotation>> unwrapAnnotations = Collections.singletonList(FieldUnwrapped.class);
 
   @Override
@@ -136,6 +153,21 @@ public abstract class AbstractMVCConfiguration implements MVCConfiguration {
     return missingPath;
   }
 
+  @Override
+  public boolean requestWarmUpEnabled() {
+    return requestWarmUpEnabled;
+  }
+
+  @Override
+  public int requestWarmUpIterations() {
+    return requestWarmUpIterations;
+  }
+
+  @Override
+  public List<String> requestWarmUpURIs() {
+    return requestWarmUpURIs;
+  }
+
   @Override
   public int savedRequestCookieMaximumSize() {
     return savedRequestCookieMaximumSize;
@@ -161,6 +193,31 @@ public abstract class AbstractMVCConfiguration implements MVCConfiguration {
     return templateDirectory;
   }
 
+  @Override
+  public boolean templateStreamingEnabled() {
+    return templateStreamingEnabled;
+  }
+
+  @Override
+  public boolean templateWarmUpEnabled() {
+    return templateWarmUpEnabled;
+  }
+
+  @Override
+  public boolean templateWarmUpFailOnError() {
+    return templateWarmUpFailOnError;
+  }
+
+  @Override
+  public List<Locale> templateWarmUpLocales() {
+    return templateWarmUpLocales;
+  }
+
+  @Override
+  public boolean templateWatchEnabled() {
+    return templateWatchEnabled;
+  }
+
   @Override
   public List<Class<? extends Annotation>> unwrapAnnotations() {
     return unwrapAnnotations;
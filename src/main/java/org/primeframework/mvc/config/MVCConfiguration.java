@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012-2024, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2012-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,9 +19,11 @@ import java.lang.annotation.Annotation;
 import java.nio.file.Path;
 import java.security.Key;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 
 import io.fusionauth.http.Cookie.SameSite;
+import org.primeframework.mvc.action.result.annotation.Forward;
 import org.primeframework.mvc.parameter.el.ExpressionEvaluator;
 
 /**
@@ -113,6 +115,25 @@ public interface MVCConfiguration {
    */
   String missingPath();
 
+  /**
+   * @return true if synthetic GET requests should be sent through a new injector before the server accepts requests (on
+   *     start) or before the new injector is swapped in (on hup). This warms up the Guice bindings, the templates, the
+   *     reflection caches and the JIT. Defaults to false.
+   */
+  boolean requestWarmUpEnabled();
+
+  /**
+   * @return The number of times that each URI is requested during the request warm-up. Defaults to 10.
+   */
+  int requestWarmUpIterations();
+
+  /**
+   * @return The URIs requested during the request warm-up. If this is empty, every action that handles GET requests and
+   *     doesn't need URI parameters is requested. Since the requests invoke the actions, only use the default if it is
+   *     safe to call all of them.
+   */
+  List<String> requestWarmUpURIs();
+
   /**
    * @return The maximum size in bytes of the save request cookie. Defaults to 16kb.
    */
@@ -144,6 +165,40 @@ public interface MVCConfiguration {
    */
   String templateDirectory();
 
+  /**
+   * @return true if the forward results should stream the rendered templates. In this mode everything rendered so far is
+   *     sent to the client after the closing <code>&lt;/head&gt;</code> tag and at each <code>[@prime.flush/]</code>
+   *     directive. This can also be enabled for a single result using {@link Forward#streaming()}. Defaults to false.
+   */
+  boolean templateStreamingEnabled();
+
+  /**
+   * @return true if all the FreeMarker templates in the {@link #templateDirectory()} and
+   *     {@link #controlTemplateDirectory()} should be parsed into the FreeMarker template cache before the server accepts
+   *     requests (on start and hup). Defaults to false.
+   */
+  boolean templateWarmUpEnabled();
+
+  /**
+   * @return true if the template warm-up should fail when any template cannot be parsed, false if the errors should only
+   *     be logged. Defaults to true.
+   */
+  boolean templateWarmUpFailOnError();
+
+  /**
+   * @return The locales that each template is parsed for during the template warm-up. If this is empty, the FreeMarker
+   *     default locale is used.
+   */
+  List<Locale> templateWarmUpLocales();
+
+  /**
+   * @return true if the {@link #templateDirectory()} and {@link #controlTemplateDirectory()} should be watched for changes
+   *     using a {@link java.nio.file.WatchService} instead of having FreeMarker poll each template. When this is enabled,
+   *     {@link #templateCheckSeconds()} is ignored, the template sources are resolved once and cached, and the template
+   *     cache is cleared as soon as a change is detected. Defaults to false.
+   */
+  boolean templateWatchEnabled();
+
   /**
    * @return The annotations that identify a field to be un-wrapped - or be considered transparent by the
    *     {@link ExpressionEvaluator}.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013-2022, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2013-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,6 +38,16 @@ import org.primeframework.mvc.util.ReflectionUtils;
  * @author Brian Pontarelli
  */
 public class JacksonActionConfigurator implements ActionConfigurator {
+  /**
+   * The configuration only depends on the action class. Subclasses that depend on other state must override this.
+   *
+   * @return The class of this configurator.
+   */
+  @Override
+  public Object cacheKey() {
+    return getClass();
+  }
+
   @Override
   public Object configure(Class<?> actionClass) {
     List<Method> jsonFilterMethods = ReflectionUtils.findAllMethodsWithAnnotation(actionClass, JSONPropertyFilter.class);
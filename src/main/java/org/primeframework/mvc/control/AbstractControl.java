@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2024, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,8 +29,6 @@ import org.primeframework.mvc.action.ActionInvocationStore;
 import org.primeframework.mvc.config.MVCConfiguration;
 import org.primeframework.mvc.control.annotation.ControlAttribute;
 import org.primeframework.mvc.control.annotation.ControlAttributes;
-import org.primeframework.mvc.control.form.JoinMethod;
-import org.primeframework.mvc.control.message.Message;
 import org.primeframework.mvc.freemarker.FreeMarkerService;
 import org.primeframework.mvc.locale.LocaleProvider;
 import org.primeframework.mvc.message.l10n.MessageProvider;
@@ -54,6 +52,8 @@ public abstract class AbstractControl implements Control {
 
   protected MVCConfiguration configuration;
 
+  protected ControlRenderer controlRenderer;
+
   protected CSRFProvider csrfProvider;
 
   protected Configuration freeMarkerConfig;
@@ -89,7 +89,7 @@ public abstract class AbstractControl implements Control {
   public void renderEnd(Writer writer) {
     if (endTemplateName() != null) {
       String templateName = configuration.controlTemplateDirectory() + "/" + endTemplateName();
-      freeMarkerService.render(writer, templateName, root);
+      controlRenderer.render(writer, templateName, root);
     }
   }
 
@@ -118,7 +118,7 @@ public abstract class AbstractControl implements Control {
 
     if (startTemplateName() != null) {
       String templateName = configuration.controlTemplateDirectory() + "/" + startTemplateName();
-      freeMarkerService.render(writer, templateName, root);
+      controlRenderer.render(writer, templateName, root);
     }
   }
 
@@ -126,7 +126,9 @@ public abstract class AbstractControl implements Control {
   public void setServices(LocaleProvider localeProvider, HTTPRequest request,
                           ActionInvocationStore actionInvocationStore, FreeMarkerService freeMarkerService,
                           MVCConfiguration configuration, Configuration freeMarkerConfig,
-                          MessageProvider messageProvider, CSRFProvider csrfProvider) {
+                          MessageProvider messageProvider, CSRFProvider csrfProvider,
+                          ControlRenderer controlRenderer) {
+    this.controlRenderer = controlRenderer;
     this.csrfProvider = csrfProvider;
     this.localeProvider = localeProvider;
     this.request = request;
@@ -175,23 +177,19 @@ public abstract class AbstractControl implements Control {
    * values in the root map:
    * <p>
    * <ul>
-   * <li>csrfToken - The CSRF token in the session (if it exists)</li>
    * <li>attributes - The attributes</li>
    * <li>dynamic_attributes - The dynamic attributes</li>
+   * <li>The helpers shared by all the controls in the request. See {@link ControlRenderer#helpers()}</li>
    * </ul>
    *
    * @return The Parameters Map.
    */
   protected Map<String, Object> makeParameters() {
-    Map<String, Object> parameters = new HashMap<>();
-    if (configuration.csrfEnabled()) {
-      parameters.put("csrfToken", csrfProvider.getToken(request));
-      parameters.put("csrfTokenName", csrfProvider.getParameterName());
-    }
+    Map<String, Object> helpers = controlRenderer.helpers();
+    Map<String, Object> parameters = new HashMap<>(helpers.size() + 8);
+    parameters.putAll(helpers);
     parameters.put("attributes", attributes);
     parameters.put("dynamicAttributes", dynamicAttributes);
-    parameters.put("join", new JoinMethod(freeMarkerConfig.getObjectWrapper()));
-    parameters.put("message", new Message(messageProvider));
     return parameters;
   }
 
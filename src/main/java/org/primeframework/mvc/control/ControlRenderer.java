@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.control;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.google.inject.Inject;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import io.fusionauth.http.server.HTTPRequest;
+import org.primeframework.mvc.config.MVCConfiguration;
+import org.primeframework.mvc.control.form.JoinMethod;
+import org.primeframework.mvc.control.message.Message;
+import org.primeframework.mvc.freemarker.FreeMarkerRenderException;
+import org.primeframework.mvc.freemarker.MissingTemplateException;
+import org.primeframework.mvc.locale.LocaleProvider;
+import org.primeframework.mvc.message.l10n.MessageProvider;
+import org.primeframework.mvc.security.csrf.CSRFProvider;
+
+/**
+ * Renders the control templates and provides the helpers that every control passes to its templates. A page with a
+ * large form renders the same handful of control templates many times, so the resolved templates (per locale) and the
+ * helpers are kept in a request attribute and shared by all the controls rendered during the request.
+ * <p>
+ * The templates are only cached for the request so that the FreeMarker template cache still decides when a template
+ * is reloaded.
+ */
+public class ControlRenderer {
+  public static final String REQUEST_ATTRIBUTE = "primeControlRendererState";
+
+  private final MVCConfiguration configuration;
+
+  private final CSRFProvider csrfProvider;
+
+  private final Configuration freeMarkerConfig;
+
+  private final LocaleProvider localeProvider;
+
+  private final MessageProvider messageProvider;
+
+  private final HTTPRequest request;
+
+  @Inject
+  public ControlRenderer(MVCConfiguration configuration, CSRFProvider csrfProvider, Configuration freeMarkerConfig,
+                         LocaleProvider localeProvider, MessageProvider messageProvider, HTTPRequest request) {
+    this.configuration = configuration;
+    this.csrfProvider = csrfProvider;
+    this.freeMarkerConfig = freeMarkerConfig;
+    this.localeProvider = localeProvider;
+    this.messageProvider = messageProvider;
+    this.request = request;
+  }
+
+  /**
+   * Returns the helpers that are placed in the root of every control template:
+   * <p>
+   * <ul>
+   * <li>csrfToken - The CSRF token (if CSRF is enabled)</li>
+   * <li>csrfTokenName - The name of the CSRF token parameter (if CSRF is enabled)</li>
+   * <li>join - The {@link JoinMethod}</li>
+   * <li>message - The {@link Message} method</li>
+   * </ul>
+   *
+   * @return The helpers, which are created once per request and must not be modified.
+   */
+  public Map<String, Object> helpers() {
+    return state().helpers;
+  }
+
+  /**
+   * Renders the given control template using the current locale.
+   *
+   * @param writer       The writer to output to.
+   * @param templateName The fully qualified name of the control template.
+   * @param root         The root of the template.
+   * @throws FreeMarkerRenderException If the template fails to render.
+   * @throws MissingTemplateException  If the template does not exist.
+   */
+  public void render(Writer writer, String templateName, Object root)
+      throws FreeMarkerRenderException, MissingTemplateException {
+    try {
+      Locale locale = localeProvider.get();
+      Map<String, Template> templates = state().templates.computeIfAbsent(locale, key -> new HashMap<>());
+      Template template = templates.get(templateName);
+      if (template == null) {
+        template = freeMarkerConfig.getTemplate(templateName, locale);
+        templates.put(templateName, template);
+      }
+
+      template.process(root, writer);
+    } catch (FileNotFoundException fnfe) {
+      throw new MissingTemplateException(fnfe);
+    } catch (IOException | TemplateException e) {
+      throw new FreeMarkerRenderException(e);
+    }
+  }
+
+  private State state() {
+    State state = (State) request.getAttribute(REQUEST_ATTRIBUTE);
+    if (state == null) {
+      Map<String, Object> helpers = new HashMap<>();
+      if (configuration.csrfEnabled()) {
+        helpers.put("csrfToken", csrfProvider.getToken(request));
+        helpers.put("csrfTokenName", csrfProvider.getParameterName());
+      }
+      helpers.put("join", new JoinMethod(freeMarkerConfig.getObjectWrapper()));
+      helpers.put("message", new Message(messageProvider));
+
+      state = new State(Collections.unmodifiableMap(helpers));
+      request.setAttribute(REQUEST_ATTRIBUTE, state);
+    }
+
+    return state;
+  }
+
+  private static class State {
+    public final Map<String, Object> helpers;
+
+    public final Map<Locale, Map<String, Template>> templates = new HashMap<>();
+
+    public State(Map<String, Object> helpers) {
+      this.helpers = helpers;
+    }
+  }
+}
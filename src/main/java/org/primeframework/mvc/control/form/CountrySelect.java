@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2007, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,12 +15,14 @@
  */
 package org.primeframework.mvc.control.form;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.primeframework.mvc.control.annotation.ControlAttribute;
@@ -46,18 +48,27 @@ import org.primeframework.mvc.control.annotation.ControlAttributes;
     }
 )
 public class CountrySelect extends Select {
+  private static final Map<Locale, Map<String, String>> countriesByLocale = new ConcurrentHashMap<>();
+
   /**
-   * Adds the countries Map and then calls super.
+   * Adds the countries Map and then calls super. The sorted countries are computed once per display locale and shared,
+   * the blank and preferred countries are placed in front of them.
    */
   @Override
   protected Map<String, Object> makeParameters() {
-    LinkedHashMap<String, String> countries = new LinkedHashMap<>();
+    Map<String, String> all = countries(localeProvider.get());
+    boolean includeBlank = attributes.containsKey("includeBlank") && (Boolean) attributes.get("includeBlank");
+    String preferred = (String) attributes.get("preferredCodes");
+    if (!includeBlank && preferred == null) {
+      attributes.put("items", all);
+      return super.makeParameters();
+    }
 
-    if (attributes.containsKey("includeBlank") && (Boolean) attributes.get("includeBlank")) {
+    LinkedHashMap<String, String> countries = new LinkedHashMap<>();
+    if (includeBlank) {
       countries.put("", "");
     }
 
-    String preferred = (String) attributes.get("preferredCodes");
     if (preferred != null) {
       String[] parts = preferred.split(",");
       for (String part : parts) {
@@ -66,7 +77,31 @@ public class CountrySelect extends Select {
       }
     }
 
-    SortedSet<Locale> alphabetical = new TreeSet<>(new LocaleComparator(localeProvider.get()));
+    for (Map.Entry<String, String> entry : all.entrySet()) {
+      countries.putIfAbsent(entry.getKey(), entry.getValue());
+    }
+
+    attributes.put("items", countries);
+
+    return super.makeParameters();
+  }
+
+  private static Map<String, String> countries(Locale displayLocale) {
+    // The locale comes from the request (cookie or Accept-Language), so the size check keeps clients from growing the
+    // cache without bound
+    Map<String, String> countries = countriesByLocale.get(displayLocale);
+    if (countries == null) {
+      countries = makeCountries(displayLocale);
+      if (countriesByLocale.size() < 1_000) {
+        countriesByLocale.put(displayLocale, countries);
+      }
+    }
+
+    return countries;
+  }
+
+  private static Map<String, String> makeCountries(Locale displayLocale) {
+    SortedSet<Locale> alphabetical = new TreeSet<>(new LocaleComparator(displayLocale));
     Locale[] locales = Locale.getAvailableLocales();
     for (Locale locale : locales) {
       if (StringUtils.isNotBlank(locale.getCountry()) && StringUtils.isNotBlank(locale.getDisplayCountry(locale))) {
@@ -74,15 +109,14 @@ public class CountrySelect extends Select {
       }
     }
 
+    LinkedHashMap<String, String> countries = new LinkedHashMap<>();
     for (Locale locale : alphabetical) {
       if (!countries.containsKey(locale.getCountry())) {
-        countries.put(locale.getCountry(), locale.getDisplayCountry(localeProvider.get()));
+        countries.put(locale.getCountry(), locale.getDisplayCountry(displayLocale));
       }
     }
 
-    attributes.put("items", countries);
-
-    return super.makeParameters();
+    return Collections.unmodifiableMap(countries);
   }
 
   public static class LocaleComparator implements Comparator<Locale> {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2019, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2015-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.inject.Inject;
 import org.apache.commons.lang3.LocaleUtils;
@@ -49,41 +50,73 @@ import org.primeframework.mvc.control.annotation.ControlAttributes;
     }
 )
 public class LocaleSelect extends Select {
+  private static final Map<Locale, Map<Locale, String>> languagesByLocale = new ConcurrentHashMap<>();
+
+  private static final Map<Locale, Map<Locale, String>> localesByLocale = new ConcurrentHashMap<>();
+
   @Inject
   public LocaleSelect() {
   }
 
   /**
-   * Adds the countries Map and then calls super.
+   * Adds the countries Map and then calls super. The sorted locales are computed once per display locale and shared,
+   * the preferred locales are placed in front of them.
    */
   @Override
   protected Map<String, Object> makeParameters() {
-    LinkedHashMap<Locale, String> locales = new LinkedHashMap<>();
-    String preferred = (String) attributes.get("preferredLocales");
     Locale userLocale = localeProvider.get();
-    if (preferred != null) {
-      String[] parts = preferred.split(",");
-      for (String part : parts) {
-        Locale locale = LocaleUtils.toLocale(part);
-        locales.put(locale, locale.getDisplayName(userLocale));
+    boolean includeCountries = attributes.containsKey("includeCountries") ? (Boolean) attributes.get("includeCountries") : true;
+    Map<Locale, String> all = locales(userLocale, includeCountries);
+
+    String preferred = (String) attributes.get("preferredLocales");
+    if (preferred == null) {
+      attributes.put("items", all);
+      return super.makeParameters();
+    }
+
+    LinkedHashMap<Locale, String> locales = new LinkedHashMap<>();
+    String[] parts = preferred.split(",");
+    for (String part : parts) {
+      Locale locale = LocaleUtils.toLocale(part);
+      locales.put(locale, locale.getDisplayName(userLocale));
+    }
+
+    for (Map.Entry<Locale, String> entry : all.entrySet()) {
+      locales.putIfAbsent(entry.getKey(), entry.getValue());
+    }
+
+    attributes.put("items", locales);
+
+    return super.makeParameters();
+  }
+
+  private static Map<Locale, String> locales(Locale userLocale, boolean includeCountries) {
+    // The locale comes from the request (cookie or Accept-Language), so the size check keeps clients from growing the
+    // cache without bound
+    Map<Locale, Map<Locale, String>> cache = includeCountries ? localesByLocale : languagesByLocale;
+    Map<Locale, String> locales = cache.get(userLocale);
+    if (locales == null) {
+      locales = makeLocales(userLocale, includeCountries);
+      if (cache.size() < 1_000) {
+        cache.put(userLocale, locales);
       }
     }
 
-    boolean includeCountries = attributes.containsKey("includeCountries") ? (Boolean) attributes.get("includeCountries") : true;
+    return locales;
+  }
+
+  private static Map<Locale, String> makeLocales(Locale userLocale, boolean includeCountries) {
     List<Locale> allLocales = new ArrayList<>();
     Collections.addAll(allLocales, Locale.getAvailableLocales());
     allLocales.removeIf((locale) -> locale.getLanguage().isEmpty() || locale.hasExtensions() || !locale.getScript().isEmpty() ||
         !locale.getVariant().isEmpty() || (!includeCountries && !locale.getCountry().isEmpty()));
     allLocales.sort(Comparator.comparing(one -> one.getDisplayName(userLocale)));
 
+    LinkedHashMap<Locale, String> locales = new LinkedHashMap<>();
     for (Locale locale : allLocales) {
-      if (!locales.containsKey(locale)) {
-        locales.put(locale, locale.getDisplayName(userLocale));
-      }
+      locales.put(locale, locale.getDisplayName(userLocale));
     }
 
-    attributes.put("items", locales);
-
-    return super.makeParameters();
+    return Collections.unmodifiableMap(locales);
   }
-}
\ No newline at end of file
+}
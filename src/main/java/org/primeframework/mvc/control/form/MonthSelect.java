@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2007, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,8 +17,11 @@ package org.primeframework.mvc.control.form;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Locale;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.primeframework.mvc.control.annotation.ControlAttribute;
 import org.primeframework.mvc.control.annotation.ControlAttributes;
@@ -42,21 +45,39 @@ import org.primeframework.mvc.control.annotation.ControlAttributes;
     }
 )
 public class MonthSelect extends Select {
+  private static final Map<Locale, Map<Integer, String>> monthsByLocale = new ConcurrentHashMap<>();
 
   /**
-   * Calls super then adds the months Map.
+   * Calls super then adds the months Map, which is computed once per locale and shared.
    */
   @Override
   protected void addAdditionalAttributes() {
     super.addAdditionalAttributes();
+    attributes.put("items", months(localeProvider.get()));
+  }
+
+  private static Map<Integer, String> months(Locale locale) {
+    // The locale comes from the request (cookie or Accept-Language), so the size check keeps clients from growing the
+    // cache without bound
+    Map<Integer, String> months = monthsByLocale.get(locale);
+    if (months == null) {
+      months = makeMonths(locale);
+      if (monthsByLocale.size() < 1_000) {
+        monthsByLocale.put(locale, months);
+      }
+    }
+
+    return months;
+  }
 
+  private static Map<Integer, String> makeMonths(Locale locale) {
     Map<Integer, String> months = new TreeMap<>();
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMMM").withLocale(localeProvider.get());
+    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMMM").withLocale(locale);
     for (int i = 1; i <= 12; i++) {
       LocalDate date = LocalDate.of(2008, i, 1);
       months.put(i, date.format(formatter));
     }
 
-    attributes.put("items", months);
+    return Collections.unmodifiableMap(months);
   }
-}
\ No newline at end of file
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2012-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package org.primeframework.mvc.control.form;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -41,71 +42,78 @@ import org.primeframework.mvc.control.annotation.ControlAttributes;
     }
 )
 public class StateSelect extends Select {
+  private static final Map<String, String> states;
+
+  static {
+    LinkedHashMap<String, String> map = new LinkedHashMap<>();
+    map.put("AL", "Alabama");
+    map.put("AK", "Alaska");
+    map.put("AZ", "Arizona");
+    map.put("AR", "Arkansas");
+    map.put("CA", "California");
+    map.put("CO", "Colorado");
+    map.put("CT", "Connecticut");
+    map.put("DC", "District of Columbia");
+    map.put("DE", "Delaware");
+    map.put("FL", "Florida");
+    map.put("GA", "Georgia");
+    map.put("HI", "Hawaii");
+    map.put("ID", "Idaho");
+    map.put("IL", "Illinois");
+    map.put("IN", "Indiana");
+    map.put("IA", "Iowa");
+    map.put("KA", "Kansas");
+    map.put("KY", "Kentucky");
+    map.put("LA", "Louisiana");
+    map.put("ME", "Maine");
+    map.put("MD", "Maryland");
+    map.put("MA", "Massachusetts");
+    map.put("MI", "Michigan");
+    map.put("MN", "Minnesota");
+    map.put("MS", "Mississippi");
+    map.put("MO", "Missouri");
+    map.put("MT", "Montana");
+    map.put("NE", "Nebraska");
+    map.put("NV", "Nevada");
+    map.put("NH", "New Hampshire");
+    map.put("NJ", "New Jersey");
+    map.put("NM", "New Mexico");
+    map.put("NY", "New York");
+    map.put("NC", "North Carolina");
+    map.put("ND", "North Dakota");
+    map.put("OH", "Ohio");
+    map.put("OK", "Oklahoma");
+    map.put("OR", "Oregon");
+    map.put("PA", "Pennsylvania");
+    map.put("RI", "Rhode Island");
+    map.put("SC", "South Carolina");
+    map.put("SD", "South Dakota");
+    map.put("TN", "Tennessee");
+    map.put("TX", "Texas");
+    map.put("UT", "Utah");
+    map.put("VT", "Vermont");
+    map.put("VA", "Virginia");
+    map.put("WA", "Washington");
+    map.put("WV", "West Virginia");
+    map.put("WI", "Wisconsin");
+    map.put("WY", "Wyoming");
+    states = Collections.unmodifiableMap(map);
+  }
+
   /**
    * Adds the states to a Map and then calls super.
    */
   @Override
   protected Map<String, Object> makeParameters() {
-    LinkedHashMap<String, String> states = new LinkedHashMap<String, String>();
-
     if (attributes.containsKey("includeBlank") && (Boolean) attributes.get("includeBlank")) {
-      states.put("", "");
+      LinkedHashMap<String, String> withBlank = new LinkedHashMap<>();
+      withBlank.put("", "");
+      withBlank.putAll(states);
+      attributes.put("items", withBlank);
+    } else {
+      attributes.put("items", states);
     }
 
-    states.put("AL", "Alabama");
-    states.put("AK", "Alaska");
-    states.put("AZ", "Arizona");
-    states.put("AR", "Arkansas");
-    states.put("CA", "California");
-    states.put("CO", "Colorado");
-    states.put("CT", "Connecticut");
-    states.put("DC", "District of Columbia");
-    states.put("DE", "Delaware");
-    states.put("FL", "Florida");
-    states.put("GA", "Georgia");
-    states.put("HI", "Hawaii");
-    states.put("ID", "Idaho");
-    states.put("IL", "Illinois");
-    states.put("IN", "Indiana");
-    states.put("IA", "Iowa");
-    states.put("KA", "Kansas");
-    states.put("KY", "Kentucky");
-    states.put("LA", "Louisiana");
-    states.put("ME", "Maine");
-    states.put("MD", "Maryland");
-    states.put("MA", "Massachusetts");
-    states.put("MI", "Michigan");
-    states.put("MN", "Minnesota");
-    states.put("MS", "Mississippi");
-    states.put("MO", "Missouri");
-    states.put("MT", "Montana");
-    states.put("NE", "Nebraska");
-    states.put("NV", "Nevada");
-    states.put("NH", "New Hampshire");
-    states.put("NJ", "New Jersey");
-    states.put("NM", "New Mexico");
-    states.put("NY", "New York");
-    states.put("NC", "North Carolina");
-    states.put("ND", "North Dakota");
-    states.put("OH", "Ohio");
-    states.put("OK", "Oklahoma");
-    states.put("OR", "Oregon");
-    states.put("PA", "Pennsylvania");
-    states.put("RI", "Rhode Island");
-    states.put("SC", "South Carolina");
-    states.put("SD", "South Dakota");
-    states.put("TN", "Tennessee");
-    states.put("TX", "Texas");
-    states.put("UT", "Utah");
-    states.put("VT", "Vermont");
-    states.put("VA", "Virginia");
-    states.put("WA", "Washington");
-    states.put("WV", "West Virginia");
-    states.put("WI", "Wisconsin");
-    states.put("WY", "Wyoming");
-
-    attributes.put("items", states);
-
     return super.makeParameters();
   }
-}
\ No newline at end of file
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2007, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,10 @@
 package org.primeframework.mvc.control.form;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 
 import org.primeframework.mvc.control.annotation.ControlAttribute;
 import org.primeframework.mvc.control.annotation.ControlAttributes;
@@ -44,6 +46,8 @@ import org.primeframework.mvc.control.annotation.ControlAttributes;
     }
 )
 public class YearSelect extends Select {
+  private static final Map<Long, List<Integer>> yearsByRange = new ConcurrentHashMap<>();
+
   /**
    * Calls super then adds the years Map.
    */
@@ -66,11 +70,20 @@ public class YearSelect extends Select {
       end = end.intValue() + 1;
     }
 
-    List<Integer> years = new ArrayList<>();
-    for (int i = start.intValue(); i < end.intValue(); i++) {
-      years.add(i);
+    attributes.put("items", years(start.intValue(), end.intValue()));
+  }
+
+  private static List<Integer> years(int start, int end) {
+    // The ranges come from the templates, so there are only ever a few of them. The size check is just a safety net
+    long key = ((long) start << 32) | (end & 0xFFFFFFFFL);
+    List<Integer> years = yearsByRange.get(key);
+    if (years == null) {
+      years = IntStream.range(start, end).boxed().toList();
+      if (yearsByRange.size() < 1_000) {
+        yearsByRange.put(key, years);
+      }
     }
 
-    attributes.put("items", years);
+    return years;
   }
 }
\ No newline at end of file
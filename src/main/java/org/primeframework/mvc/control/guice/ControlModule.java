@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2012-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package org.primeframework.mvc.control.guice;
 
 import com.google.inject.AbstractModule;
+import org.primeframework.mvc.control.ControlRenderer;
 import org.primeframework.mvc.control.form.Button;
 import org.primeframework.mvc.control.form.Checkbox;
 import org.primeframework.mvc.control.form.CheckboxList;
@@ -53,6 +54,7 @@ public class ControlModule extends AbstractModule {
   @Override
   protected void configure() {
     bind(ControlFactory.class);
+    bind(ControlRenderer.class);
     ControlFactory.addControl(binder(), "control", "button", Button.class);
     ControlFactory.addControl(binder(), "control", "checkbox", Checkbox.class);
     ControlFactory.addControl(binder(), "control", "checkbox_list", CheckboxList.class);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2024, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2022-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,11 +18,14 @@ package org.primeframework.mvc.cors;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -50,6 +53,12 @@ import org.slf4j.LoggerFactory;
  * request.</li>
  * </ul>
  *
+ * <p>
+ * Once configured, a filter may be shared between requests and threads. Origins are matched by hashing, allowed origins
+ * in the form <code>https://*.example.com</code> are compiled into subdomain rules, and the path include/exclude
+ * decisions and complete pre-flight responses are cached in bounded maps. Calling any of the <code>with</code> methods
+ * clears these caches.
+ *
  * @author Mohit Soni
  * @author Trevor Smith
  * @author Daniel DeGroff
@@ -68,6 +77,11 @@ public final class CORSFilter {
    */
   private static final Collection<String> SimpleHTTPRequestContentTypes = Set.of("application/x-www-form-urlencoded", "multipart/form-data", "text/plain");
 
+  /**
+   * The maximum number of entries kept in each of the origin, path and pre-flight caches before they are cleared.
+   */
+  private static final int MaxCacheSize = 1024;
+
   private static final Logger logger = LoggerFactory.getLogger(CORSFilter.class);
 
   /**
@@ -97,6 +111,31 @@ public final class CORSFilter {
    */
   private final Collection<String> exposedHeaders = new LinkedHashSet<>();
 
+  /**
+   * The cached path include/exclude decisions for the path patterns, keyed by the request path.
+   */
+  private final Map<String, Boolean> excludedPaths = new ConcurrentHashMap<>();
+
+  /**
+   * The cached validity and allowed status of the Origin header values seen by this filter.
+   */
+  private final Map<String, OriginStatus> origins = new ConcurrentHashMap<>();
+
+  /**
+   * The cached pre-flight responses keyed by the origin, requested method and requested headers.
+   */
+  private final Map<String, Preflight> preflights = new ConcurrentHashMap<>();
+
+  /**
+   * The compiled allowed origins that contain a wildcard subdomain such as <code>https://*.example.com</code>.
+   */
+  private final List<WildcardOrigin> wildcardOrigins = new ArrayList<>();
+
+  /**
+   * The pre-computed value of the Access-Control-Allow-Headers header, or null if there are no allowed headers.
+   */
+  private String allowedHTTPHeadersValue;
+
   /**
    * Determines if any origin is allowed to make request.
    */
@@ -122,6 +161,11 @@ public final class CORSFilter {
    */
   private Pattern excludedPathPattern;
 
+  /**
+   * The pre-computed value of the Access-Control-Expose-Headers header, or null if there are no exposed headers.
+   */
+  private String exposedHeadersValue;
+
   /**
    * Allow a predicate to decide whether to include in CORS
    */
@@ -156,6 +200,22 @@ public final class CORSFilter {
    */
   public void doFilter(HTTPRequest request, final HTTPResponse response, WorkflowChain workflowChain)
       throws IOException {
+    doFilter(request, response, workflowChain, debugger);
+  }
+
+  /**
+   * Filter the request and update response based on CORS rules using the given debugger rather than the one this filter
+   * was configured with. This allows a single configured filter to be shared across requests that each have their own
+   * debugger.
+   *
+   * @param request       The {@link HTTPRequest}
+   * @param response      The {@link HTTPResponse}
+   * @param workflowChain The {@link WorkflowChain} to continue workflow processing
+   * @param debugger      The optional debugger for this request.
+   */
+  public void doFilter(HTTPRequest request, final HTTPResponse response, WorkflowChain workflowChain,
+                       CORSDebugger debugger)
+      throws IOException {
     // Allow a same site request with an origin header. This means that FusionAuth can make requests to itself w/out going through the CORS filter.
     // - For example, regardless of the CORS configuration we want to be able to POST to the /oauth2/authorize endpoint
     String origin = request.getHeader(Headers.Origin);
@@ -171,7 +231,7 @@ public final class CORSFilter {
     String requestURI = request.getPath();
     if (excludedRequestURI(requestURI)) {
       if (requestType == CORSRequestType.PRE_FLIGHT) {
-        handleInvalidCORS(request, response, InvalidCORSReason.PreFlightUnexpected, requestURI);
+        handleInvalidCORS(request, response, debugger, InvalidCORSReason.PreFlightUnexpected, requestURI);
         return;
       } else {
         requestType = CORSRequestType.NOT_CORS;
@@ -183,15 +243,16 @@ public final class CORSFilter {
     // Handles a Normal request that is not a cross-origin request.
     // Handles a CORS request that violates specification.
     switch (requestType) {
-      case SIMPLE, ACTUAL -> handleSimpleCORS(request, response, workflowChain);
-      case PRE_FLIGHT -> handlePreflightCORS(request, response);
+      case SIMPLE, ACTUAL -> handleSimpleCORS(request, response, debugger, origin, workflowChain);
+      case PRE_FLIGHT -> handlePreflightCORS(request, response, debugger, origin);
       case NOT_CORS -> workflowChain.continueWorkflow();
-      default -> handleInvalidCORS(request, response, InvalidCORSReason.UnhandledCORSRequestType, requestType);
+      default -> handleInvalidCORS(request, response, debugger, InvalidCORSReason.UnhandledCORSRequestType, requestType);
     }
   }
 
   public CORSFilter withAllowCredentials(boolean allow) {
     this.supportsCredentials = allow;
+    clearCaches();
     return this;
   }
 
@@ -203,6 +264,8 @@ public final class CORSFilter {
         this.allowedHTTPHeaders.add(header.toLowerCase());
         this.allowedHTTPHeadersOriginal.add(header);
       }
+      this.allowedHTTPHeadersValue = allowedHTTPHeaders.isEmpty() ? null : String.join(",", allowedHTTPHeadersOriginal);
+      clearCaches();
     }
     return this;
   }
@@ -211,6 +274,7 @@ public final class CORSFilter {
     if (methods != null) {
       this.allowedHTTPMethods.clear();
       this.allowedHTTPMethods.addAll(methods);
+      clearCaches();
     }
     return this;
   }
@@ -222,8 +286,18 @@ public final class CORSFilter {
       } else {
         this.anyOriginAllowed = false;
         this.allowedOrigins.clear();
-        origins.forEach(o -> this.allowedOrigins.add(o.toString()));
+        this.wildcardOrigins.clear();
+        for (URI o : origins) {
+          String origin = o.toString();
+          int index = origin.indexOf("://*.");
+          if (index > 0) {
+            wildcardOrigins.add(new WildcardOrigin(origin.substring(0, index + 3), origin.substring(index + 4)));
+          } else {
+            this.allowedOrigins.add(origin);
+          }
+        }
       }
+      clearCaches();
     }
     return this;
   }
@@ -240,6 +314,7 @@ public final class CORSFilter {
 
   public CORSFilter withExcludeURIPredicate(Predicate<String> excludeURIPredicate) {
     this.excludeURIPredicate = excludeURIPredicate;
+    clearCaches();
     return this;
   }
 
@@ -252,6 +327,7 @@ public final class CORSFilter {
    */
   public CORSFilter withExcludedPathPattern(Pattern pattern) {
     this.excludedPathPattern = pattern;
+    clearCaches();
     return this;
   }
 
@@ -259,25 +335,56 @@ public final class CORSFilter {
     if (headers != null) {
       this.exposedHeaders.clear();
       this.exposedHeaders.addAll(headers);
+      this.exposedHeadersValue = exposedHeaders.isEmpty() ? null : String.join(",", exposedHeaders);
     }
     return this;
   }
 
   public CORSFilter withIncludeURIPredicate(Predicate<String> includeURIPredicate) {
     this.includeURIPredicate = includeURIPredicate;
+    clearCaches();
     return this;
   }
 
   public CORSFilter withIncludedPathPattern(Pattern pattern) {
     this.includedPathPattern = pattern;
+    clearCaches();
     return this;
   }
 
   public CORSFilter withPreflightMaxAge(int maxAge) {
     this.preflightMaxAge = maxAge;
+    clearCaches();
     return this;
   }
 
+  /**
+   * Puts the value into the given cache, clearing the cache first if it has reached its maximum size. This keeps the
+   * caches bounded even when clients send arbitrary origins, paths or headers.
+   */
+  private static <T> T cache(Map<String, T> cache, String key, T value) {
+    if (cache.size() >= MaxCacheSize) {
+      cache.clear();
+    }
+
+    cache.put(key, value);
+    return value;
+  }
+
+  /**
+   * Returns the end index of the authority (host and port) of the given URL, which starts at the given index.
+   */
+  private static int endOfAuthority(String url, int start) {
+    for (int i = start; i < url.length(); i++) {
+      char c = url.charAt(i);
+      if (c == '/' || c == '?' || c == '#') {
+        return i;
+      }
+    }
+
+    return url.length();
+  }
+
   /**
    * Determines the request type.
    *
@@ -295,7 +402,7 @@ public final class CORSFilter {
       return CORSRequestType.NOT_CORS;
     }
 
-    if (origin.isBlank() || !isValidOrigin(origin)) {
+    if (origin.isBlank() || originStatus(origin) == OriginStatus.Invalid) {
       return CORSRequestType.INVALID_CORS;
     }
 
@@ -336,10 +443,14 @@ public final class CORSFilter {
    * @return true if this request should be excluded from CORS
    */
   private boolean excludedRequestURI(final String requestURI) {
-    if (excludedPathPattern != null) {
-      return excludedPathPattern.matcher(requestURI).find();
-    } else if (includedPathPattern != null) {
-      return !includedPathPattern.matcher(requestURI).find();
+    if (excludedPathPattern != null || includedPathPattern != null) {
+      Boolean excluded = excludedPaths.get(requestURI);
+      if (excluded == null) {
+        excluded = excludedPathPattern != null ? excludedPathPattern.matcher(requestURI).find() : !includedPathPattern.matcher(requestURI).find();
+        cache(excludedPaths, requestURI, excluded);
+      }
+
+      return excluded;
     } else if (includeURIPredicate != null) {
       return !includeURIPredicate.test(requestURI);
     } else if (excludeURIPredicate != null) {
@@ -355,13 +466,14 @@ public final class CORSFilter {
    *
    * @param request     The {@link HTTPRequest} object.
    * @param response    The {@link HTTPResponse} object.
+   * @param debugger    The optional debugger.
    * @param reason      The reason code.
    * @param reasonValue The value that was the cause of the failure.
    */
-  private void handleInvalidCORS(HTTPRequest request, HTTPResponse response, InvalidCORSReason reason,
-                                 Object reasonValue) {
+  private void handleInvalidCORS(HTTPRequest request, HTTPResponse response, CORSDebugger debugger,
+                                 InvalidCORSReason reason, Object reasonValue) {
     if (logger.isDebugEnabled() || debug) {
-      logRequest(request, reason, reasonValue);
+      logRequest(request, debugger, reason, reasonValue);
     }
 
     response.setContentType("text/plain");
@@ -369,83 +481,30 @@ public final class CORSFilter {
   }
 
   /**
-   * Handles CORS pre-flight request.
+   * Handles CORS pre-flight request. The outcome only depends upon the origin, the requested method and the requested
+   * headers, so it is computed once for each combination and then replayed from the cache.
    *
    * @param request  The {@link HTTPRequest} object.
    * @param response The {@link HTTPResponse} object.
+   * @param debugger The optional debugger.
+   * @param origin   The Origin header.
    */
-  private void handlePreflightCORS(HTTPRequest request, HTTPResponse response) {
-    final String origin = request.getHeader(Headers.Origin);
-
-    // Section 6.2.2
-    if (!isOriginAllowed(origin)) {
-      handleInvalidCORS(request, response, InvalidCORSReason.PreFlightOriginNotAllowed, origin);
-      return;
-    }
-
-    // Section 6.2.3
+  private void handlePreflightCORS(HTTPRequest request, HTTPResponse response, CORSDebugger debugger, String origin) {
     String accessControlRequestMethodValue = request.getHeader(Headers.AccessControlRequestMethod);
-    HTTPMethod accessControlRequestMethod = accessControlRequestMethodValue != null ? HTTPMethod.of(accessControlRequestMethodValue.trim()) : null;
-    if (accessControlRequestMethod == null) {
-      handleInvalidCORS(request, response, InvalidCORSReason.PreFlightMethodNotRecognized, null);
-      return;
-    }
-
-    // Section 6.2.4
     String accessControlRequestHeadersHeader = request.getHeader(Headers.AccessControlRequestHeaders);
-    List<String> accessControlRequestHeaders = new LinkedList<>();
-    if (accessControlRequestHeadersHeader != null && !accessControlRequestHeadersHeader.trim().isEmpty()) {
-      String[] headers = accessControlRequestHeadersHeader.trim().split(",");
-      for (String header : headers) {
-        accessControlRequestHeaders.add(header.trim().toLowerCase());
-      }
+    String key = origin + '\n' + accessControlRequestMethodValue + '\n' + accessControlRequestHeadersHeader;
+    Preflight preflight = preflights.get(key);
+    if (preflight == null) {
+      preflight = cache(preflights, key, preflight(origin, accessControlRequestMethodValue, accessControlRequestHeadersHeader));
     }
 
-    // Section 6.2.5
-    if (!allowedHTTPMethods.contains(accessControlRequestMethod)) {
-      handleInvalidCORS(request, response, InvalidCORSReason.PreFlightMethodNotAllowed, accessControlRequestMethod);
+    if (preflight.reason != null) {
+      handleInvalidCORS(request, response, debugger, preflight.reason, preflight.reasonValue);
       return;
     }
 
-    // Section 6.2.6
-    if (!accessControlRequestHeaders.isEmpty()) {
-      for (String header : accessControlRequestHeaders) {
-        if (!allowedHTTPHeaders.contains(header)) {
-          handleInvalidCORS(request, response, InvalidCORSReason.PreFlightHeaderNotAllowed, header);
-          return;
-        }
-      }
-    }
-
-    // Section 6.2.7
-    if (supportsCredentials) {
-      response.addHeader(Headers.AccessControlAllowOrigin, origin);
-      response.addHeader(Headers.AccessControlAllowCredentials, "true");
-      // See https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/Access-Control-Allow-Origin
-      // - Indicate to the browser that the server response can differ based on the value of the Origin request header.
-      response.addHeader("Vary", "Origin");
-    } else {
-      if (anyOriginAllowed) {
-        response.addHeader(Headers.AccessControlAllowOrigin, "*");
-      } else {
-        response.addHeader(Headers.AccessControlAllowOrigin, origin);
-        // See https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/Access-Control-Allow-Origin
-        // - Indicate to the browser that the server response can differ based on the value of the Origin request header.
-        response.addHeader("Vary", "Origin");
-      }
-    }
-
-    // Section 6.2.8
-    if (preflightMaxAge > 0) {
-      response.addHeader(Headers.AccessControlMaxAge, String.valueOf(preflightMaxAge));
-    }
-
-    // Section 6.2.9
-    response.addHeader(Headers.AccessControlAllowMethods, accessControlRequestMethod.toString());
-
-    // Section 6.2.10
-    if (!allowedHTTPHeaders.isEmpty()) {
-      response.addHeader(Headers.AccessControlAllowHeaders, String.join(",", allowedHTTPHeadersOriginal));
+    for (int i = 0; i < preflight.headers.length; i += 2) {
+      response.addHeader(preflight.headers[i], preflight.headers[i + 1]);
     }
 
     response.setStatus(204);
@@ -457,23 +516,25 @@ public final class CORSFilter {
    *
    * @param request       The {@link HTTPRequest} object.
    * @param response      The {@link HTTPResponse} object.
+   * @param debugger      The optional debugger.
+   * @param origin        The Origin header.
    * @param workflowChain The {@link WorkflowChain} object.
    * @see <a href="http://www.w3.org/TR/cors/#resource-requests">Simple Cross-Origin Request, Actual Request, and
    *     Redirects</a>
    */
-  private void handleSimpleCORS(HTTPRequest request, HTTPResponse response, WorkflowChain workflowChain)
+  private void handleSimpleCORS(HTTPRequest request, HTTPResponse response, CORSDebugger debugger, String origin,
+                                WorkflowChain workflowChain)
       throws IOException {
-    String origin = request.getHeader(Headers.Origin);
     HTTPMethod method = request.getMethod();
 
     // Section 6.1.2
     if (!isOriginAllowed(origin)) {
-      handleInvalidCORS(request, response, InvalidCORSReason.SimpleOriginNotAllowed, origin);
+      handleInvalidCORS(request, response, debugger, InvalidCORSReason.SimpleOriginNotAllowed, origin);
       return;
     }
 
     if (!allowedHTTPMethods.contains(method)) {
-      handleInvalidCORS(request, response, InvalidCORSReason.SimpleMethodNotAllowed, method);
+      handleInvalidCORS(request, response, debugger, InvalidCORSReason.SimpleMethodNotAllowed, method);
       return;
     }
 
@@ -498,9 +559,8 @@ public final class CORSFilter {
 
     // Section 6.1.4
     // If the list of exposed headers is not empty add one or more Access-Control-Expose-Headers headers, with as values the header field names given in the list of exposed headers.
-    if (exposedHeaders.size() > 0) {
-      String exposedHeadersString = String.join(",", exposedHeaders);
-      response.addHeader(Headers.AccessControlExposeHeaders, exposedHeadersString);
+    if (exposedHeadersValue != null) {
+      response.addHeader(Headers.AccessControlExposeHeaders, exposedHeadersValue);
     }
 
     // Forward the request down the chain.
@@ -522,7 +582,7 @@ public final class CORSFilter {
 
     // If 'Origin' header is a case-sensitive match of any of allowed
     // origins, then return true, else return false.
-    return allowedOrigins.contains(origin);
+    return origin != null && originStatus(origin) == OriginStatus.Allowed;
   }
 
   /**
@@ -544,15 +604,18 @@ public final class CORSFilter {
       return false;
     }
 
-    // Be a little defensive, if we throw an exception this is not "us"
-    try {
-      URI uri = URI.create(request.getBaseURL());
-      URI originURI = URI.create(origin);
-      return uri.getScheme().equalsIgnoreCase(originURI.getScheme()) & uri.getPort() == originURI.getPort() && uri.getHost().equalsIgnoreCase(originURI.getHost());
-    } catch (Exception ignore) {
+    // Compare the scheme and the authority (host and port) without parsing either value into a URI
+    String baseURL = request.getBaseURL();
+    int originScheme = origin.indexOf("://");
+    int baseScheme = baseURL != null ? baseURL.indexOf("://") : -1;
+    if (originScheme <= 0 || originScheme != baseScheme || !origin.regionMatches(true, 0, baseURL, 0, originScheme)) {
+      return false;
     }
 
-    return false;
+    int start = originScheme + 3;
+    int originEnd = endOfAuthority(origin, start);
+    int baseEnd = endOfAuthority(baseURL, start);
+    return originEnd > start && originEnd == baseEnd && origin.regionMatches(true, start, baseURL, start, originEnd - start);
   }
 
   /**
@@ -593,7 +656,123 @@ public final class CORSFilter {
     return originURI.getScheme() != null;
   }
 
-  private void logRequest(HTTPRequest request, final InvalidCORSReason reason, final Object reasonValue) {
+  /**
+   * Returns the validity and allowed status of the origin, using the cache to avoid parsing the origin and scanning the
+   * wildcard origins on every request.
+   *
+   * @param origin The origin header.
+   * @return The status.
+   */
+  private OriginStatus originStatus(String origin) {
+    OriginStatus status = origins.get(origin);
+    if (status == null) {
+      if (!isValidOrigin(origin)) {
+        status = OriginStatus.Invalid;
+      } else if (anyOriginAllowed || allowedOrigins.contains(origin)) {
+        status = OriginStatus.Allowed;
+      } else {
+        status = OriginStatus.NotAllowed;
+        for (WildcardOrigin wildcardOrigin : wildcardOrigins) {
+          if (wildcardOrigin.matches(origin)) {
+            status = OriginStatus.Allowed;
+            break;
+          }
+        }
+      }
+
+      cache(origins, origin, status);
+    }
+
+    return status;
+  }
+
+  /**
+   * Computes the outcome of a pre-flight request, which is either the reason it is invalid or the complete set of
+   * response headers.
+   *
+   * @param origin                            The Origin header.
+   * @param accessControlRequestMethodValue   The Access-Control-Request-Method header.
+   * @param accessControlRequestHeadersHeader The Access-Control-Request-Headers header.
+   * @return The pre-flight outcome.
+   */
+  private Preflight preflight(String origin, String accessControlRequestMethodValue,
+                              String accessControlRequestHeadersHeader) {
+    // Section 6.2.2
+    if (!isOriginAllowed(origin)) {
+      return new Preflight(InvalidCORSReason.PreFlightOriginNotAllowed, origin);
+    }
+
+    // Section 6.2.3
+    HTTPMethod accessControlRequestMethod = accessControlRequestMethodValue != null ? HTTPMethod.of(accessControlRequestMethodValue.trim()) : null;
+    if (accessControlRequestMethod == null) {
+      return new Preflight(InvalidCORSReason.PreFlightMethodNotRecognized, null);
+    }
+
+    // Section 6.2.4
+    List<String> accessControlRequestHeaders = new LinkedList<>();
+    if (accessControlRequestHeadersHeader != null && !accessControlRequestHeadersHeader.trim().isEmpty()) {
+      String[] headers = accessControlRequestHeadersHeader.trim().split(",");
+      for (String header : headers) {
+        accessControlRequestHeaders.add(header.trim().toLowerCase());
+      }
+    }
+
+    // Section 6.2.5
+    if (!allowedHTTPMethods.contains(accessControlRequestMethod)) {
+      return new Preflight(InvalidCORSReason.PreFlightMethodNotAllowed, accessControlRequestMethod);
+    }
+
+    // Section 6.2.6
+    for (String header : accessControlRequestHeaders) {
+      if (!allowedHTTPHeaders.contains(header)) {
+        return new Preflight(InvalidCORSReason.PreFlightHeaderNotAllowed, header);
+      }
+    }
+
+    List<String> headers = new ArrayList<>();
+
+    // Section 6.2.7
+    if (supportsCredentials) {
+      headers.addAll(List.of(Headers.AccessControlAllowOrigin, origin));
+      headers.addAll(List.of(Headers.AccessControlAllowCredentials, "true"));
+      // See https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/Access-Control-Allow-Origin
+      // - Indicate to the browser that the server response can differ based on the value of the Origin request header.
+      headers.addAll(List.of("Vary", "Origin"));
+    } else {
+      if (anyOriginAllowed) {
+        headers.addAll(List.of(Headers.AccessControlAllowOrigin, "*"));
+      } else {
+        headers.addAll(List.of(Headers.AccessControlAllowOrigin, origin));
+        // See https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/Access-Control-Allow-Origin
+        // - Indicate to the browser that the server response can differ based on the value of the Origin request header.
+        headers.addAll(List.of("Vary", "Origin"));
+      }
+    }
+
+    // Section 6.2.8
+    if (preflightMaxAge > 0) {
+      headers.addAll(List.of(Headers.AccessControlMaxAge, String.valueOf(preflightMaxAge)));
+    }
+
+    // Section 6.2.9
+    headers.addAll(List.of(Headers.AccessControlAllowMethods, accessControlRequestMethod.toString()));
+
+    // Section 6.2.10
+    if (allowedHTTPHeadersValue != null) {
+      headers.addAll(List.of(Headers.AccessControlAllowHeaders, allowedHTTPHeadersValue));
+    }
+
+    return new Preflight(headers.toArray(String[]::new));
+  }
+
+  private void clearCaches() {
+    excludedPaths.clear();
+    origins.clear();
+    preflights.clear();
+  }
+
+  private void logRequest(HTTPRequest request, CORSDebugger debugger, final InvalidCORSReason reason,
+                          final Object reasonValue) {
     if (debugger == null) {
       return;
     }
@@ -676,6 +855,12 @@ public final class CORSFilter {
     INVALID_CORS
   }
 
+  private enum OriginStatus {
+    Allowed,
+    Invalid,
+    NotAllowed
+  }
+
   enum InvalidCORSReason {
     PreFlightOriginNotAllowed,
     PreFlightUnexpected,
@@ -686,4 +871,65 @@ public final class CORSFilter {
     SimpleMethodNotAllowed,
     UnhandledCORSRequestType
   }
+
+  /**
+   * The outcome of a pre-flight request. Either the reason the request is invalid, or the response headers as name and
+   * value pairs.
+   */
+  private static final class Preflight {
+    final String[] headers;
+
+    final InvalidCORSReason reason;
+
+    final Object reasonValue;
+
+    Preflight(InvalidCORSReason reason, Object reasonValue) {
+      this.headers = null;
+      this.reason = reason;
+      this.reasonValue = reasonValue;
+    }
+
+    Preflight(String[] headers) {
+      this.headers = headers;
+      this.reason = null;
+      this.reasonValue = null;
+    }
+  }
+
+  /**
+   * An allowed origin with a wildcard subdomain such as <code>https://*.example.com</code>. It matches any origin with
+   * the same scheme and one or more subdomain labels in place of the wildcard, but not the bare domain itself.
+   */
+  private static final class WildcardOrigin {
+    final String prefix;
+
+    final String suffix;
+
+    WildcardOrigin(String prefix, String suffix) {
+      this.prefix = prefix;
+      this.suffix = suffix;
+    }
+
+    boolean matches(String origin) {
+      int end = origin.length() - suffix.length();
+      if (end <= prefix.length() || !origin.startsWith(prefix) || !origin.endsWith(suffix)) {
+        return false;
+      }
+
+      // The suffix starts with a dot, so the subdomain must not start or end with one, or contain two in a row
+      if (origin.charAt(prefix.length()) == '.' || origin.charAt(end - 1) == '.') {
+        return false;
+      }
+
+      for (int i = prefix.length(); i < end; i++) {
+        char c = origin.charAt(i);
+        boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '.';
+        if (!valid || (c == '.' && origin.charAt(i - 1) == '.')) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+  }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.cors;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import io.fusionauth.http.HTTPMethod;
+
+/**
+ * Keeps the {@link CORSFilter} built for each {@link CORSConfiguration} so that the filter, along with its origin, path
+ * and pre-flight caches, is reused across requests. A provider may return a different configuration per request (for
+ * example one per tenant), so the filters are keyed by a snapshot of the configuration values. Since the configuration
+ * is mutable, a changed configuration gets a new filter.
+ * <p>
+ * This is bound as a singleton so the filters live as long as the injector.
+ */
+public class CORSFilterCache {
+  static final int MaxFilters = 128;
+
+  private final Map<Key, CORSFilter> filters = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the filter for the configuration, building it if the configuration hasn't been seen before.
+   *
+   * @param configuration The CORS configuration.
+   * @return The filter.
+   */
+  public CORSFilter get(CORSConfiguration configuration) {
+    CORSFilter filter = filters.get(new Key(configuration, false));
+    if (filter == null) {
+      if (filters.size() >= MaxFilters) {
+        filters.clear();
+      }
+
+      // Copy the values so that later changes to the configuration don't change the key
+      Key key = new Key(configuration, true);
+      filter = key.build();
+      filters.put(key, filter);
+    }
+
+    return filter;
+  }
+
+  /**
+   * A snapshot of the configuration values a filter is built from. The predicates are compared by identity and the
+   * patterns by their expression and flags.
+   */
+  private static final class Key {
+    final boolean allowCredentials;
+
+    final List<String> allowedHeaders;
+
+    final List<HTTPMethod> allowedMethods;
+
+    final List<URI> allowedOrigins;
+
+    final boolean debug;
+
+    final Predicate<String> excludeURIPredicate;
+
+    final Pattern excludedPathPattern;
+
+    final List<String> exposedHeaders;
+
+    final int hashCode;
+
+    final Predicate<String> includeURIPredicate;
+
+    final Pattern includedPathPattern;
+
+    final int preflightMaxAgeInSeconds;
+
+    Key(CORSConfiguration configuration, boolean copy) {
+      this.allowCredentials = configuration.allowCredentials;
+      this.allowedHeaders = copy ? copy(configuration.allowedHeaders) : configuration.allowedHeaders;
+      this.allowedMethods = copy ? copy(configuration.allowedMethods) : configuration.allowedMethods;
+      this.allowedOrigins = copy ? copy(configuration.allowedOrigins) : configuration.allowedOrigins;
+      this.debug = configuration.debug;
+      this.excludeURIPredicate = configuration.excludeURIPredicate;
+      this.excludedPathPattern = configuration.excludedPathPattern;
+      this.exposedHeaders = copy ? copy(configuration.exposedHeaders) : configuration.exposedHeaders;
+      this.includeURIPredicate = configuration.includeURIPredicate;
+      this.includedPathPattern = configuration.includedPathPattern;
+      this.preflightMaxAgeInSeconds = configuration.preflightMaxAgeInSeconds;
+      this.hashCode = Objects.hash(allowCredentials, allowedHeaders, allowedMethods, allowedOrigins, debug,
+          System.identityHashCode(excludeURIPredicate), patternHash(excludedPathPattern), exposedHeaders,
+          System.identityHashCode(includeURIPredicate), patternHash(includedPathPattern), preflightMaxAgeInSeconds);
+    }
+
+    private static <T> List<T> copy(List<T> list) {
+      return list != null ? new ArrayList<>(list) : null;
+    }
+
+    private static int patternHash(Pattern pattern) {
+      return pattern != null ? 31 * pattern.pattern().hashCode() + pattern.flags() : 0;
+    }
+
+    private static boolean samePattern(Pattern a, Pattern b) {
+      return a == b || (a != null && b != null && a.flags() == b.flags() && a.pattern().equals(b.pattern()));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+
+      Key other = (Key) o;
+      return hashCode == other.hashCode &&
+             allowCredentials == other.allowCredentials &&
+             debug == other.debug &&
+             preflightMaxAgeInSeconds == other.preflightMaxAgeInSeconds &&
+             excludeURIPredicate == other.excludeURIPredicate &&
+             includeURIPredicate == other.includeURIPredicate &&
+             samePattern(excludedPathPattern, other.excludedPathPattern) &&
+             samePattern(includedPathPattern, other.includedPathPattern) &&
+             Objects.equals(allowedHeaders, other.allowedHeaders) &&
+             Objects.equals(allowedMethods, other.allowedMethods) &&
+             Objects.equals(allowedOrigins, other.allowedOrigins) &&
+             Objects.equals(exposedHeaders, other.exposedHeaders);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    CORSFilter build() {
+      return new CORSFilter()
+          .withAllowCredentials(allowCredentials)
+          .withAllowedHTTPHeaders(allowedHeaders)
+          .withAllowedHTTPMethods(allowedMethods)
+          .withAllowedOrigins(allowedOrigins)
+          .withDebugEnabled(debug)
+          .withExcludedPathPattern(excludedPathPattern)
+          .withIncludedPathPattern(includedPathPattern)
+          .withIncludeURIPredicate(includeURIPredicate)
+          .withExcludeURIPredicate(excludeURIPredicate)
+          .withExposedHeaders(exposedHeaders)
+          .withPreflightMaxAge(preflightMaxAgeInSeconds);
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2024, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2022-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,9 @@ import org.primeframework.mvc.workflow.WorkflowChain;
 
 /**
  * A {@link MVCWorkflow} for processing CORS requests.
+ * <p>
+ * The {@link CORSFilter} for each {@link CORSConfiguration} is kept in the {@link CORSFilterCache} so that it is reused
+ * across requests along with its origin, path and pre-flight caches.
  *
  * @author Trevor Smith
  */
@@ -37,6 +40,8 @@ public class CORSRequestWorkflow implements MVCWorkflow {
 
   private CORSDebugger debugger;
 
+  private CORSFilterCache filterCache;
+
   @Inject
   public CORSRequestWorkflow(CORSConfigurationProvider corsConfigurationProvider, HTTPRequest request,
                              HTTPResponse response) {
@@ -49,21 +54,11 @@ public class CORSRequestWorkflow implements MVCWorkflow {
   public void perform(WorkflowChain workflowChain) throws IOException {
     CORSConfiguration corsConfiguration = corsConfigurationProvider.get();
     if (corsConfiguration != null) {
-      CORSFilter corsFilter = new CORSFilter()
-          .withAllowCredentials(corsConfiguration.allowCredentials)
-          .withAllowedHTTPHeaders(corsConfiguration.allowedHeaders)
-          .withAllowedHTTPMethods(corsConfiguration.allowedMethods)
-          .withAllowedOrigins(corsConfiguration.allowedOrigins)
-          .withDebugEnabled(corsConfiguration.debug)
-          .withDebugger(debugger)
-          .withExcludedPathPattern(corsConfiguration.excludedPathPattern)
-          .withIncludedPathPattern(corsConfiguration.includedPathPattern)
-          .withIncludeURIPredicate(corsConfiguration.includeURIPredicate)
-          .withExcludeURIPredicate(corsConfiguration.excludeURIPredicate)
-          .withExposedHeaders(corsConfiguration.exposedHeaders)
-          .withPreflightMaxAge(corsConfiguration.preflightMaxAgeInSeconds);
+      if (filterCache == null) {
+        filterCache = new CORSFilterCache();
+      }
 
-      corsFilter.doFilter(request, response, workflowChain);
+      filterCache.get(corsConfiguration).doFilter(request, response, workflowChain, debugger);
     } else {
       workflowChain.continueWorkflow();
     }
@@ -73,4 +68,9 @@ public class CORSRequestWorkflow implements MVCWorkflow {
   public void setDebugger(CORSDebugger debugger) {
     this.debugger = debugger;
   }
+
+  @Inject
+  public void setFilterCache(CORSFilterCache filterCache) {
+    this.filterCache = filterCache;
+  }
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.freemarker;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import com.google.inject.Inject;
+import freemarker.template.Configuration;
+import org.primeframework.mvc.config.MVCConfiguration;
+import org.primeframework.mvc.container.ContainerResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default template warmer. This walks the {@link MVCConfiguration#templateDirectory()} and
+ * {@link MVCConfiguration#controlTemplateDirectory()} in the container and on the classpath and parses every
+ * <code>.ftl</code> file on a bounded thread pool using the FreeMarker {@link Configuration}, which stores the parsed
+ * templates in its template cache. The templates are named exactly like the results and controls name them, so the cache
+ * entries are re-used when the templates are rendered.
+ * <p>
+ * Parse errors for all the templates are collected into a single report, which is either thrown or logged.
+ */
+public class DefaultTemplateWarmer implements TemplateWarmer {
+  private static final Logger logger = LoggerFactory.getLogger(DefaultTemplateWarmer.class);
+
+  private final MVCConfiguration configuration;
+
+  private final ContainerResolver containerResolver;
+
+  private final Configuration freeMarkerConfiguration;
+
+  @Inject
+  public DefaultTemplateWarmer(MVCConfiguration configuration, Configuration freeMarkerConfiguration,
+                               ContainerResolver containerResolver) {
+    this.configuration = configuration;
+    this.freeMarkerConfiguration = freeMarkerConfiguration;
+    this.containerResolver = containerResolver;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Set<String> warmUp() throws TemplateWarmUpException {
+    if (!configuration.templateWarmUpEnabled()) {
+      return Collections.emptySet();
+    }
+
+    long start = System.currentTimeMillis();
+    Set<String> templateNames = new TreeSet<>();
+    findTemplates(configuration.templateDirectory(), templateNames);
+    findTemplates(configuration.controlTemplateDirectory(), templateNames);
+    if (templateNames.isEmpty()) {
+      return Collections.emptySet();
+    }
+
+    List<Locale> locales = configuration.templateWarmUpLocales();
+    if (locales == null || locales.isEmpty()) {
+      locales = List.of(freeMarkerConfiguration.getLocale());
+    }
+
+    // The template names are sorted, so the tasks and therefore the report are in a deterministic order
+    List<String> names = new ArrayList<>(templateNames);
+    List<Callable<String>> tasks = new ArrayList<>(names.size() * locales.size());
+    for (String templateName : names) {
+      for (Locale locale : locales) {
+        tasks.add(() -> parse(templateName, locale));
+      }
+    }
+
+    int threads = Math.min(Runtime.getRuntime().availableProcessors(), tasks.size());
+    ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "Prime MVC template warm-up");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    Set<String> parsed = new TreeSet<>(templateNames);
+    List<String> errors = new ArrayList<>();
+    try {
+      List<Future<String>> results = executor.invokeAll(tasks);
+      for (int i = 0; i < results.size(); i++) {
+        String error = results.get(i).get();
+        if (error != null) {
+          errors.add(error);
+          parsed.remove(names.get(i / locales.size()));
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TemplateWarmUpException("The template warm-up was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new TemplateWarmUpException("The template warm-up failed unexpectedly", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    if (errors.isEmpty()) {
+      logger.info("Parsed [{}] templates for the locales {} in [{}] ms", templateNames.size(), locales, System.currentTimeMillis() - start);
+      return parsed;
+    }
+
+    String report = "Unable to parse [" + errors.size() + "] of the [" + tasks.size() + "] template and locale combinations during the warm-up. The errors are:\n\n" +
+        String.join("\n\n", errors);
+    if (configuration.templateWarmUpFailOnError()) {
+      throw new TemplateWarmUpException(report, errors);
+    }
+
+    logger.error(report);
+    return parsed;
+  }
+
+  private void addTemplate(String directory, Path root, Path file, Set<String> templateNames) {
+    StringBuilder name = new StringBuilder(directory);
+    for (Path part : root.relativize(file)) {
+      name.append('/').append(part);
+    }
+
+    templateNames.add(name.toString());
+  }
+
+  private void findTemplates(String directory, Set<String> templateNames) {
+    // The container (i.e. the web application base directory)
+    String realPath = containerResolver.getRealPath(directory);
+    if (realPath != null) {
+      walk(directory, Path.of(realPath), templateNames);
+    }
+
+    // The classpath (i.e. the default control templates)
+    try {
+      Enumeration<URL> urls = Thread.currentThread().getContextClassLoader().getResources(directory);
+      while (urls.hasMoreElements()) {
+        URL url = urls.nextElement();
+        if (url.getProtocol().equals("file")) {
+          walk(directory, Path.of(url.toURI()), templateNames);
+        } else if (url.getProtocol().equals("jar")) {
+          JarURLConnection connection = (JarURLConnection) url.openConnection();
+          connection.setUseCaches(false);
+          try (JarFile jarFile = connection.getJarFile()) {
+            String prefix = directory.endsWith("/") ? directory : directory + "/";
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+              JarEntry entry = entries.nextElement();
+              if (!entry.isDirectory() && entry.getName().startsWith(prefix) && entry.getName().endsWith(".ftl")) {
+                templateNames.add(entry.getName());
+              }
+            }
+          }
+        }
+      }
+    } catch (IOException | URISyntaxException e) {
+      throw new TemplateWarmUpException("Unable to find the templates in the directory [" + directory + "] on the classpath", e);
+    }
+  }
+
+  private String parse(String templateName, Locale locale) {
+    try {
+      freeMarkerConfiguration.getTemplate(templateName, locale);
+      return null;
+    } catch (IOException | RuntimeException e) {
+      return "Template [" + templateName + "] locale [" + locale + "]: " + e.getMessage();
+    }
+  }
+
+  private void walk(String directory, Path root, Set<String> templateNames) {
+    if (!Files.isDirectory(root)) {
+      return;
+    }
+
+    try (Stream<Path> files = Files.walk(root)) {
+      files.filter(file -> Files.isRegularFile(file) && file.getFileName().toString().endsWith(".ftl"))
+           .forEach(file -> addTemplate(directory, root, file, templateNames));
+    } catch (IOException e) {
+      throw new TemplateWarmUpException("Unable to find the templates in the directory [" + root + "]", e);
+    }
+  }
+}
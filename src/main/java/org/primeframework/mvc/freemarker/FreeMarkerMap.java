@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2022, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,7 @@ import com.google.inject.Inject;
 import freemarker.ext.beans.BeansWrapper;
 import freemarker.ext.beans.CollectionModel;
 import freemarker.template.Configuration;
+import freemarker.template.ObjectWrapper;
 import freemarker.template.TemplateCollectionModel;
 import freemarker.template.TemplateHashModelEx;
 import freemarker.template.TemplateModel;
@@ -84,12 +85,20 @@ public class FreeMarkerMap implements TemplateHashModelEx {
 
   protected final HTTPContext context;
 
+  protected final ControlFactory controlFactory;
+
   protected final ExpressionEvaluator expressionEvaluator;
 
+  protected final MessageStore messageStore;
+
   protected final Map<String, Object> objects = new HashMap<>();
 
   protected final HTTPRequest request;
 
+  protected final HTTPResponse response;
+
+  protected final TemplateModelFactory templateModelFactory;
+
   @Inject
   public FreeMarkerMap(HTTPContext context, HTTPRequest request, HTTPResponse response,
                        ExpressionEvaluator expressionEvaluator, ActionInvocationStore actionInvocationStore,
@@ -97,50 +106,19 @@ public class FreeMarkerMap implements TemplateHashModelEx {
                        TemplateModelFactory templateModelFactory, Configuration configuration) {
     this.context = context;
     this.request = request;
+    this.response = response;
     this.expressionEvaluator = expressionEvaluator;
     this.actionInvocationStore = actionInvocationStore;
+    this.messageStore = messageStore;
+    this.controlFactory = controlFactory;
+    this.templateModelFactory = templateModelFactory;
     this.configuration = configuration;
 
-    objects.put(CONTEXT_MODEL, new ContextModel(context, configuration.getObjectWrapper()));
+    // The models, controls and message lists are built lazily the first time the template references them. See resolve()
     objects.put(CONTEXT, context);
-    objects.put(REQUEST_MODEL, new HTTPRequestModel(request, response, configuration.getObjectWrapper()));
     objects.put(REQUEST, request);
     objects.put(RESPONSE, response);
 
-    List<Message> allMessages = messageStore.get();
-    Map<String, List<FieldMessage>> fieldMessages = messageStore.getFieldMessages();
-    List<Message> errorMessages = new ArrayList<>();
-    List<Message> infoMessages = new ArrayList<>();
-    List<Message> warningMessages = new ArrayList<>();
-
-    for (Message message : allMessages) {
-      if (!(message instanceof FieldMessage)) {
-        if (message.getType() == MessageType.ERROR) {
-          errorMessages.add(message);
-        } else if (message.getType() == MessageType.INFO) {
-          infoMessages.add(message);
-        } else if (message.getType() == MessageType.WARNING) {
-          warningMessages.add(message);
-        }
-      }
-    }
-
-    objects.put(ALL_MESSAGES, allMessages);
-    objects.put(FIELD_MESSAGES, fieldMessages);
-    objects.put(ERROR_MESSAGES, errorMessages);
-    objects.put(INFO_MESSAGES, infoMessages);
-    objects.put(WARNING_MESSAGES, warningMessages);
-
-    // Add the models
-    for (String prefix : templateModelFactory.prefixes()) {
-      objects.put(prefix, new ModelsHashModel(prefix, templateModelFactory, configuration.getObjectWrapper()));
-    }
-
-    // Add the controls
-    for (String prefix : controlFactory.prefixes()) {
-      objects.put(prefix, new ControlsHashModel(prefix, controlFactory, configuration.getObjectWrapper()));
-    }
-
     // TODO add debugging for figuring out what scope an object is in
   }
 
@@ -152,22 +130,23 @@ public class FreeMarkerMap implements TemplateHashModelEx {
     Deque<ActionInvocation> actionInvocations = actionInvocationStore.getDeque();
     if (actionInvocations != null) {
       for (ActionInvocation actionInvocation : actionInvocations) {
-        if (actionInvocation.action != null) {
+        // Consult the member index first so that request attributes, macros and globals don't cause an exception here
+        if (actionInvocation.action != null && expressionEvaluator.hasMember(key, actionInvocation.action)) {
           try {
             value = expressionEvaluator.getValue(key, actionInvocation.action);
             if (value != null) {
               break;
             }
           } catch (MissingPropertyExpressionException e) {
-            // Smother because the value is probably somewhere else
+            // Smother because the value is probably somewhere else. This only happens for complex keys (i.e. 'foo.bar')
           }
         }
       }
     }
 
     // Next, check the objects
-    if (value == null && objects.containsKey(key)) {
-      value = objects.get(key);
+    if (value == null) {
+      value = resolve(key);
     }
 
     // Next, check the request
@@ -194,6 +173,8 @@ public class FreeMarkerMap implements TemplateHashModelEx {
 
   @Override
   public TemplateCollectionModel keys() {
+    resolveAll();
+
     Set<String> keys = new HashSet<>(objects.keySet());
     keys.addAll(request.getAttributes().keySet());
     keys.addAll(context.getAttributes().keySet());
@@ -224,6 +205,8 @@ public class FreeMarkerMap implements TemplateHashModelEx {
 
   @Override
   public int size() {
+    resolveAll();
+
     int size = objects.size() + request.getAttributes().size() + context.getAttributes().size();
 
     Deque<ActionInvocation> actionInvocations = actionInvocationStore.getDeque();
@@ -240,6 +223,8 @@ public class FreeMarkerMap implements TemplateHashModelEx {
 
   @Override
   public TemplateCollectionModel values() {
+    resolveAll();
+
     Collection<Object> values = new ArrayList<>(objects.values());
     Deque<ActionInvocation> actionInvocations = actionInvocationStore.getDeque();
     if (actionInvocations != null) {
@@ -254,4 +239,98 @@ public class FreeMarkerMap implements TemplateHashModelEx {
     values.addAll(context.getAttributes().values());
     return new CollectionModel(values, (BeansWrapper) configuration.getObjectWrapper());
   }
-}
\ No newline at end of file
+
+  /**
+   * Builds the lazy object for the given key if the key is one of the models, controls, messages lists or the context
+   * and request models. Controls take precedence over models, and both take precedence over the lazy messages lists and
+   * the context and request models. Objects already in the {@link #objects} map (including the context, request and
+   * response objects added by the constructor) take precedence over all of these since this is only called when the
+   * key is missing from that map.
+   *
+   * @param key The key.
+   * @return The object or null if the key is not one of the lazy objects.
+   */
+  private Object create(String key) {
+    ObjectWrapper objectWrapper = configuration.getObjectWrapper();
+    if (controlFactory.prefixes().contains(key)) {
+      return new ControlsHashModel(key, controlFactory, objectWrapper);
+    }
+
+    if (templateModelFactory.prefixes().contains(key)) {
+      return new ModelsHashModel(key, templateModelFactory, objectWrapper);
+    }
+
+    return switch (key) {
+      case CONTEXT_MODEL -> new ContextModel(context, objectWrapper);
+      case REQUEST_MODEL -> new HTTPRequestModel(request, response, objectWrapper);
+      case ALL_MESSAGES, ERROR_MESSAGES, FIELD_MESSAGES, INFO_MESSAGES, WARNING_MESSAGES -> {
+        resolveMessages();
+        yield objects.get(key);
+      }
+      default -> null;
+    };
+  }
+
+  /**
+   * Returns the object for the given key, building it if it is one of the lazy objects that hasn't been used yet.
+   *
+   * @param key The key.
+   * @return The object or null.
+   */
+  private Object resolve(String key) {
+    Object value = objects.get(key);
+    if (value != null || objects.containsKey(key)) {
+      return value;
+    }
+
+    value = create(key);
+    if (value != null) {
+      objects.putIfAbsent(key, value);
+    }
+
+    return value;
+  }
+
+  /**
+   * Builds all the lazy objects. This is only required when the template iterates over the entire model.
+   */
+  private void resolveAll() {
+    for (String key : List.of(ALL_MESSAGES, CONTEXT_MODEL, REQUEST_MODEL)) {
+      resolve(key);
+    }
+
+    templateModelFactory.prefixes().forEach(this::resolve);
+    controlFactory.prefixes().forEach(this::resolve);
+  }
+
+  /**
+   * Partitions the messages from the MessageStore into the various lists. This is done at most once and all the lists
+   * are built together so that they are consistent with each other. Any list that was put into this map explicitly is
+   * left alone.
+   */
+  private void resolveMessages() {
+    List<Message> allMessages = messageStore.get();
+    Map<String, List<FieldMessage>> fieldMessages = messageStore.getFieldMessages();
+    List<Message> errorMessages = new ArrayList<>();
+    List<Message> infoMessages = new ArrayList<>();
+    List<Message> warningMessages = new ArrayList<>();
+
+    for (Message message : allMessages) {
+      if (!(message instanceof FieldMessage)) {
+        if (message.getType() == MessageType.ERROR) {
+          errorMessages.add(message);
+        } else if (message.getType() == MessageType.INFO) {
+          infoMessages.add(message);
+        } else if (message.getType() == MessageType.WARNING) {
+          warningMessages.add(message);
+        }
+      }
+    }
+
+    objects.putIfAbsent(ALL_MESSAGES, allMessages);
+    objects.putIfAbsent(FIELD_MESSAGES, fieldMessages);
+    objects.putIfAbsent(ERROR_MESSAGES, errorMessages);
+    objects.putIfAbsent(INFO_MESSAGES, infoMessages);
+    objects.putIfAbsent(WARNING_MESSAGES, warningMessages);
+  }
+}
@@ -13,30 +13,53 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.URL;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.inject.Inject;
-import freemarker.cache.TemplateLoader;
+import freemarker.cache.StatefulTemplateLoader;
+import org.primeframework.mvc.config.MVCConfiguration;
 import org.primeframework.mvc.container.ContainerResolver;
 
 /**
  * This class is a free marker template loader that uses the {@link ContainerResolver} interface and the current context
  * ClassLoader to find the templates. This provides override support by looking in the container first and then the
  * ClassLoader.
+ * <p>
+ * When {@link MVCConfiguration#templateWatchEnabled()} is true, the URL of each template (or the fact that it doesn't
+ * exist) is resolved once and cached. The cache is cleared via {@link #resetState()}, which FreeMarker calls when the
+ * template cache is cleared by the {@link TemplateWatcher}.
  *
  * @author Brian Pontarelli
  */
-public class OverridingTemplateLoader implements TemplateLoader {
+public class OverridingTemplateLoader implements StatefulTemplateLoader {
   private final ContainerResolver containerResolver;
 
+  private final Map<String, Optional<URL>> urls;
+
+  /**
+   * Creates a resource template loader that will use the specified container resolver to load the resources as well as
+   * the current threads context class loader. This loader does not cache the template sources.
+   *
+   * @param containerResolver The container resolver to use to find the files.
+   */
+  public OverridingTemplateLoader(ContainerResolver containerResolver) {
+    this.containerResolver = containerResolver;
+    this.urls = null;
+  }
+
   /**
    * Creates a resource template loader that will use the specified container resolver to load the resources as well as
    * the current threads context class loader.
    *
    * @param containerResolver The container resolver to use to find the files.
+   * @param configuration     The configuration, which determines if the template sources are cached.
    */
   @Inject
-  public OverridingTemplateLoader(ContainerResolver containerResolver) {
+  public OverridingTemplateLoader(ContainerResolver containerResolver, MVCConfiguration configuration) {
     this.containerResolver = containerResolver;
+    this.urls = configuration.templateWatchEnabled() ? new ConcurrentHashMap<>() : null;
   }
 
   /**
@@ -64,26 +87,17 @@ public class OverridingTemplateLoader implements TemplateLoader {
    * @throws IOException If the template could not be resolved.
    */
   public Object findTemplateSource(String name) throws IOException {
-    // First try to open as plain file.
-    try {
-      String realPath = containerResolver.getRealPath(name);
-      if (realPath != null) {
-        File file = new File(realPath);
-        if (file.isFile() && file.canRead()) {
-          return new URLTemplateSource(file.toURI().toURL());
-        }
+    URL url;
+    if (urls != null) {
+      Optional<URL> cached = urls.get(name);
+      if (cached == null) {
+        cached = Optional.ofNullable(findTemplateURL(name));
+        urls.put(name, cached);
       }
-    } catch (SecurityException e) {
-      // This means we couldn't access to the file according to the security manager (not the file system). In this case
-      // we skip this lookup and move to the classpath and other lookups.
-    }
 
-    // If it fails, try to open it with context.getResource.
-    URL url = containerResolver.getResource(name);
-    if (url == null) {
-      // If that fails, finally try looking it up in the class path
-      ClassLoader cl = Thread.currentThread().getContextClassLoader();
-      url = cl.getResource(name);
+      url = cached.orElse(null);
+    } else {
+      url = findTemplateURL(name);
     }
 
     return url == null ? null : new URLTemplateSource(url);
@@ -110,4 +124,40 @@ public class OverridingTemplateLoader implements TemplateLoader {
   public Reader getReader(Object templateSource, String encoding) throws IOException {
     return new InputStreamReader(((URLTemplateSource) templateSource).getInputStream(), encoding);
   }
-}
\ No newline at end of file
+
+  /**
+   * Clears the cached template sources (if caching is enabled).
+   */
+  @Override
+  public void resetState() {
+    if (urls != null) {
+      urls.clear();
+    }
+  }
+
+  private URL findTemplateURL(String name) throws IOException {
+    // First try to open as plain file.
+    try {
+      String realPath = containerResolver.getRealPath(name);
+      if (realPath != null) {
+        File file = new File(realPath);
+        if (file.isFile() && file.canRead()) {
+          return file.toURI().toURL();
+        }
+      }
+    } catch (SecurityException e) {
+      // This means we couldn't access to the file according to the security manager (not the file system). In this case
+      // we skip this lookup and move to the classpath and other lookups.
+    }
+
+    // If it fails, try to open it with context.getResource.
+    URL url = containerResolver.getResource(name);
+    if (url == null) {
+      // If that fails, finally try looking it up in the class path
+      ClassLoader cl = Thread.currentThread().getContextClassLoader();
+      url = cl.getResource(name);
+    }
+
+    return url;
+  }
+}
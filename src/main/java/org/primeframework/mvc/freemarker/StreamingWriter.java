@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.freemarker;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A Writer used when a template is rendered in streaming mode. Everything written so far is flushed to the underlying
+ * writer (and therefore sent to the client) right after the first closing <code>&lt;/head&gt;</code> tag and whenever
+ * the template uses the <code>[@prime.flush/]</code> directive. The head tag is only searched for until the first flush.
+ * <p>
+ * Writers that are not streaming ignore the flush directive, so templates can use it regardless of the render mode.
+ */
+public class StreamingWriter extends Writer {
+  private static final String HEAD = "</head>";
+
+  private final Writer delegate;
+
+  private int matched;
+
+  private boolean searching = true;
+
+  public StreamingWriter(Writer delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void close() throws IOException {
+    delegate.close();
+  }
+
+  /**
+   * Flushes everything written so far to the underlying writer.
+   *
+   * @throws IOException If the flush fails.
+   */
+  @Override
+  public void flush() throws IOException {
+    searching = false;
+    delegate.flush();
+  }
+
+  @Override
+  public void write(int c) throws IOException {
+    delegate.write(c);
+    if (searching && matches((char) c)) {
+      flush();
+    }
+  }
+
+  @Override
+  public void write(char[] buffer, int offset, int length) throws IOException {
+    if (searching) {
+      for (int i = offset; i < offset + length; i++) {
+        if (matches(buffer[i])) {
+          int end = i + 1;
+          delegate.write(buffer, offset, end - offset);
+          flush();
+          delegate.write(buffer, end, offset + length - end);
+          return;
+        }
+      }
+    }
+
+    delegate.write(buffer, offset, length);
+  }
+
+  @Override
+  public void write(String str, int offset, int length) throws IOException {
+    if (searching) {
+      for (int i = offset; i < offset + length; i++) {
+        if (matches(str.charAt(i))) {
+          int end = i + 1;
+          delegate.write(str, offset, end - offset);
+          flush();
+          delegate.write(str, end, offset + length - end);
+          return;
+        }
+      }
+    }
+
+    delegate.write(str, offset, length);
+  }
+
+  /**
+   * Advances the search for the closing head tag. This handles the tag being split across writes.
+   *
+   * @param c The next character.
+   * @return True if the character completes the closing head tag.
+   */
+  private boolean matches(char c) {
+    char lower = Character.toLowerCase(c);
+    if (lower == HEAD.charAt(matched)) {
+      matched++;
+    } else {
+      matched = lower == HEAD.charAt(0) ? 1 : 0;
+    }
+
+    return matched == HEAD.length();
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.freemarker;
+
+import java.util.List;
+
+/**
+ * This exception is thrown when one or more templates fail to parse during the template warm-up.
+ */
+public class TemplateWarmUpException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The parse error for each template that failed. This isn't serialized, the message already lists the errors.
+   */
+  public final transient List<String> errors;
+
+  public TemplateWarmUpException(String message, List<String> errors) {
+    super(message);
+    this.errors = List.copyOf(errors);
+  }
+
+  public TemplateWarmUpException(String message, Throwable cause) {
+    super(message, cause);
+    this.errors = List.of();
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.freemarker;
+
+import java.util.Set;
+
+import org.primeframework.mvc.config.MVCConfiguration;
+
+/**
+ * Parses the FreeMarker templates into the template cache ahead of time so that the first requests after a start or hup
+ * don't pay the parse cost and so that broken templates are found before the server accepts requests.
+ */
+public interface TemplateWarmer {
+  /**
+   * Parses all the templates if the warm-up is enabled via {@link MVCConfiguration#templateWarmUpEnabled()}.
+   *
+   * @return The names of the templates that were parsed successfully. This is empty if the warm-up is disabled.
+   * @throws TemplateWarmUpException If any of the templates failed to parse and
+   *                                 {@link MVCConfiguration#templateWarmUpFailOnError()} is true.
+   */
+  Set<String> warmUp() throws TemplateWarmUpException;
+}
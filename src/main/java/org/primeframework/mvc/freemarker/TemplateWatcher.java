@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.freemarker;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import freemarker.template.Configuration;
+import org.primeframework.mvc.config.MVCConfiguration;
+import org.primeframework.mvc.container.ContainerResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches the template directories using a {@link WatchService} and clears the FreeMarker template cache when anything
+ * in them changes. This replaces FreeMarker's polling of every template when {@link MVCConfiguration#templateWatchEnabled()}
+ * is true. Clearing the template cache also resets the template sources cached by the {@link OverridingTemplateLoader}.
+ * <p>
+ * This does nothing if the watch is not enabled. Only the directories in the container are watched since the templates
+ * on the classpath can't change.
+ */
+public class TemplateWatcher implements Closeable {
+  private static final Logger logger = LoggerFactory.getLogger(TemplateWatcher.class);
+
+  private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+
+  private final Thread thread;
+
+  private final WatchService watchService;
+
+  @Inject
+  public TemplateWatcher(MVCConfiguration configuration, ContainerResolver containerResolver,
+                         Provider<Configuration> freeMarkerConfigurationProvider) {
+    if (!configuration.templateWatchEnabled()) {
+      this.thread = null;
+      this.watchService = null;
+      return;
+    }
+
+    try {
+      this.watchService = FileSystems.getDefault().newWatchService();
+      for (String directory : new String[]{configuration.templateDirectory(), configuration.controlTemplateDirectory()}) {
+        String realPath = containerResolver.getRealPath(directory);
+        if (realPath != null) {
+          register(Path.of(realPath));
+        }
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to watch the template directories for changes", e);
+    }
+
+    Configuration freeMarkerConfiguration = freeMarkerConfigurationProvider.get();
+    this.thread = new Thread(() -> watch(freeMarkerConfiguration), "Prime MVC template watcher");
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  /**
+   * Stops watching the template directories.
+   */
+  @Override
+  public void close() {
+    if (watchService == null) {
+      return;
+    }
+
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      logger.debug("Unable to close the template WatchService", e);
+    }
+  }
+
+  private void register(Path root) throws IOException {
+    if (!Files.isDirectory(root)) {
+      return;
+    }
+
+    // A WatchService is not recursive, so each directory has to be registered
+    try (Stream<Path> paths = Files.walk(root)) {
+      for (Path directory : (Iterable<Path>) paths.filter(Files::isDirectory)::iterator) {
+        directories.put(directory.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY), directory);
+      }
+    }
+  }
+
+  private void watch(Configuration freeMarkerConfiguration) {
+    while (true) {
+      WatchKey key;
+      try {
+        key = watchService.take();
+      } catch (InterruptedException | ClosedWatchServiceException e) {
+        return;
+      }
+
+      Path directory = directories.get(key);
+      for (WatchEvent<?> event : key.pollEvents()) {
+        if (event.kind() == ENTRY_CREATE && directory != null) {
+          try {
+            register(directory.resolve((Path) event.context()));
+          } catch (IOException | ClosedWatchServiceException e) {
+            logger.debug("Unable to watch the new template directory", e);
+          }
+        }
+      }
+
+      if (!key.reset()) {
+        directories.remove(key);
+      }
+
+      // An editor save is usually a handful of events, so this is done once per key rather than per event
+      logger.debug("Detected a change in the template directory [{}]. Clearing the template cache.", directory);
+      freeMarkerConfiguration.clearTemplateCache();
+    }
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.freemarker.directives;
+
+import java.io.IOException;
+import java.util.Map;
+
+import freemarker.core.Environment;
+import freemarker.template.TemplateDirectiveBody;
+import freemarker.template.TemplateDirectiveModel;
+import freemarker.template.TemplateModel;
+import org.primeframework.mvc.freemarker.StreamingWriter;
+
+/**
+ * This class is a FreeMarker directive (<code>[@prime.flush/]</code>) that sends everything rendered so far to the
+ * client when the template is rendered in streaming mode. It does nothing otherwise.
+ */
+public class Flush implements TemplateDirectiveModel {
+  @Override
+  @SuppressWarnings("rawtypes")
+  public void execute(Environment env, Map params, TemplateModel[] loopVars, TemplateDirectiveBody body)
+      throws IOException {
+    if (env.getOut() instanceof StreamingWriter writer) {
+      writer.flush();
+    }
+  }
+}
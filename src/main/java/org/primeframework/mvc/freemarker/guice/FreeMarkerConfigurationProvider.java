@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012-2023, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2012-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -48,10 +48,11 @@ public class FreeMarkerConfigurationProvider implements Provider<Configuration>
     builder.setExposeFields(true);
     builder.setSimpleMapWrapper(true);
 
-    int checkSeconds = configuration.templateCheckSeconds();
+    // When the template directories are watched, the TemplateWatcher clears the cache and FreeMarker never checks
+    long updateDelay = configuration.templateWatchEnabled() ? Long.MAX_VALUE : configuration.templateCheckSeconds() * 1000L;
     Configuration config = new Configuration(incompatibleImprovements);
     config.setTagSyntax(Configuration.SQUARE_BRACKET_TAG_SYNTAX);
-    config.setTemplateUpdateDelayMilliseconds(checkSeconds * 1000L);
+    config.setTemplateUpdateDelayMilliseconds(updateDelay);
     config.setTemplateLoader(loader);
     config.setDefaultEncoding("UTF-8");
     config.setObjectWrapper(builder.build());
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2012-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,8 +21,12 @@ import freemarker.cache.TemplateLoader;
 import freemarker.template.Configuration;
 import org.primeframework.mvc.control.message.Message;
 import org.primeframework.mvc.freemarker.DefaultFreeMarkerService;
+import org.primeframework.mvc.freemarker.DefaultTemplateWarmer;
 import org.primeframework.mvc.freemarker.FreeMarkerService;
 import org.primeframework.mvc.freemarker.OverridingTemplateLoader;
+import org.primeframework.mvc.freemarker.TemplateWarmer;
+import org.primeframework.mvc.freemarker.TemplateWatcher;
+import org.primeframework.mvc.freemarker.directives.Flush;
 import org.primeframework.mvc.freemarker.methods.JSONEscape;
 
 /**
@@ -38,9 +42,14 @@ public class FreeMarkerModule extends AbstractModule {
 
     // Can't be a singleton because the Locale can change per request
     bind(FreeMarkerService.class).to(DefaultFreeMarkerService.class);
+    bind(TemplateWarmer.class).to(DefaultTemplateWarmer.class);
+
+    // Eager so that the template directories are watched (if enabled) as soon as the injector is created
+    bind(TemplateWatcher.class).asEagerSingleton();
 
     bind(TemplateModelFactory.class);
     TemplateModelFactory.addSingletonModel(binder(), "function", "json_escape", JSONEscape.class);
     TemplateModelFactory.addModel(binder(), "function", "message", Message.class);
+    TemplateModelFactory.addSingletonModel(binder(), "prime", "flush", Flush.class);
   }
 }
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.http;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import io.fusionauth.http.HTTPMethod;
+import io.fusionauth.http.server.HTTPHandler;
+import io.fusionauth.http.server.HTTPListenerConfiguration;
+import io.fusionauth.http.server.HTTPRequest;
+import io.fusionauth.http.server.HTTPResponse;
+import io.fusionauth.http.server.HTTPServer;
+import io.fusionauth.http.server.HTTPServerConfiguration;
+import org.primeframework.mvc.PrimeException;
+import org.primeframework.mvc.PrimeMVCRequestHandler;
+import org.primeframework.mvc.PrimeMVCUnexpectedExceptionHandler;
+import org.primeframework.mvc.action.config.ActionConfiguration;
+import org.primeframework.mvc.action.config.ActionConfigurationProvider;
+import org.primeframework.mvc.config.MVCConfiguration;
+import org.primeframework.mvc.log.SLF4JLoggerFactoryAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default request warmer. This starts a temporary HTTP server on the loopback interface that handles the requests with
+ * the injector being warmed up and sends GET requests to it using the JDK HTTP client. The requests go through the same
+ * path as real requests (the HTTP server, the {@link PrimeMVCRequestHandler} and the MVC workflow), which is what makes
+ * the warm-up representative.
+ * <p>
+ * The URIs are either {@link MVCConfiguration#requestWarmUpURIs()} or every action that handles GET requests and has no
+ * URI parameters.
+ */
+public class DefaultRequestWarmer implements RequestWarmer {
+  private static final int START_ATTEMPTS = 3;
+
+  private static final Logger logger = LoggerFactory.getLogger(DefaultRequestWarmer.class);
+
+  private final ActionConfigurationProvider actionConfigurationProvider;
+
+  private final MVCConfiguration configuration;
+
+  private final Injector injector;
+
+  @Inject
+  public DefaultRequestWarmer(MVCConfiguration configuration, ActionConfigurationProvider actionConfigurationProvider,
+                              Injector injector) {
+    this.configuration = configuration;
+    this.actionConfigurationProvider = actionConfigurationProvider;
+    this.injector = injector;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<RequestWarmUpTiming> warmUp() {
+    if (!configuration.requestWarmUpEnabled()) {
+      return Collections.emptyList();
+    }
+
+    List<String> uris = configuration.requestWarmUpURIs();
+    if (uris == null || uris.isEmpty()) {
+      uris = findURIs();
+    }
+
+    if (uris.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    long start = System.currentTimeMillis();
+    int iterations = Math.max(1, configuration.requestWarmUpIterations());
+    HttpClient client = HttpClient.newBuilder()
+                                  .connectTimeout(Duration.ofSeconds(10))
+                                  .followRedirects(Redirect.NEVER)
+                                  .build();
+
+    // The handler is not closed because that would shut down the injector
+    PrimeMVCRequestHandler handler = new PrimeMVCRequestHandler(injector);
+    for (int attempt = 1; attempt <= START_ATTEMPTS; attempt++) {
+      // The free port can be taken by another process before the server binds it, so the server is only used once it
+      // has answered a probe request that carries a token only it knows
+      int port = findPort();
+      String token = UUID.randomUUID().toString();
+      HTTPServerConfiguration serverConfiguration = new HTTPServerConfiguration().withListener(new HTTPListenerConfiguration(InetAddress.getLoopbackAddress(), port))
+                                                                                 .withLoggerFactory(new SLF4JLoggerFactoryAdapter());
+      try (HTTPServer server = new HTTPServer().withConfiguration(serverConfiguration)
+                                               .withHandler(new ProbeHandler(token, handler))
+                                               .withUnexpectedExceptionHandler(new PrimeMVCUnexpectedExceptionHandler())) {
+        if (!start(server, client, port, token)) {
+          logger.debug("Unable to start the HTTP server for the request warm-up on the port [{}]. Trying another port.", port);
+          continue;
+        }
+
+        List<RequestWarmUpTiming> timings = new ArrayList<>(uris.size());
+        for (String uri : uris) {
+          RequestWarmUpTiming timing = warmUp(client, port, uri, iterations);
+          logger.debug("Warmed up {}", timing);
+          timings.add(timing);
+        }
+
+        logger.info("Warmed up [{}] URIs with [{}] requests each in [{}] ms", timings.size(), iterations, System.currentTimeMillis() - start);
+        return timings;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new PrimeException("The request warm-up was interrupted", e);
+      }
+    }
+
+    throw new PrimeException("Unable to start the HTTP server for the request warm-up after [" + START_ATTEMPTS + "] attempts");
+  }
+
+  private int findPort() {
+    try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+      return socket.getLocalPort();
+    } catch (IOException e) {
+      throw new PrimeException("Unable to find a free port for the request warm-up", e);
+    }
+  }
+
+  private List<String> findURIs() {
+    Set<String> uris = new TreeSet<>();
+    for (ActionConfiguration actionConfiguration : actionConfigurationProvider.getActionConfigurations()) {
+      if (actionConfiguration.executeMethods.containsKey(HTTPMethod.GET) && actionConfiguration.patternParts.length == 0 &&
+          actionConfiguration.annotation.prefixParameters().isEmpty()) {
+        uris.add(actionConfiguration.uri);
+      }
+    }
+
+    return new ArrayList<>(uris);
+  }
+
+  private boolean start(HTTPServer server, HttpClient client, int port, String token) throws InterruptedException {
+    try {
+      server.start();
+      HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/"))
+                                       .timeout(Duration.ofSeconds(10))
+                                       .header(ProbeHandler.HEADER, token)
+                                       .GET()
+                                       .build();
+      HttpResponse<Void> response = client.send(request, BodyHandlers.discarding());
+      return token.equals(response.headers().firstValue(ProbeHandler.HEADER).orElse(null));
+    } catch (IOException | RuntimeException e) {
+      logger.debug("The probe request to the HTTP server for the request warm-up failed", e);
+      return false;
+    }
+  }
+
+  private RequestWarmUpTiming warmUp(HttpClient client, int port, String uri, int iterations) throws InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + uri))
+                                     .timeout(Duration.ofSeconds(30))
+                                     .GET()
+                                     .build();
+    int status = -1;
+    int requests = 0;
+    long first = 0;
+    long rest = 0;
+    for (int i = 0; i < iterations; i++) {
+      requests++;
+      long start = System.nanoTime();
+      try {
+        status = client.send(request, BodyHandlers.discarding()).statusCode();
+      } catch (IOException e) {
+        logger.warn("The warm-up request to [{}] failed", uri, e);
+        status = -1;
+        break;
+      } finally {
+        long duration = System.nanoTime() - start;
+        if (i == 0) {
+          first = duration;
+        } else {
+          rest += duration;
+        }
+      }
+    }
+
+    if (status >= 500) {
+      logger.warn("The warm-up request to [{}] returned the status code [{}]", uri, status);
+    }
+
+    return new RequestWarmUpTiming(uri, status, requests, Duration.ofNanos(first), Duration.ofNanos(requests > 1 ? rest / (requests - 1) : 0));
+  }
+
+  /**
+   * Answers the probe request that verifies that the warm-up requests reach this server and passes everything else to
+   * the Prime handler.
+   */
+  private static final class ProbeHandler implements HTTPHandler {
+    public static final String HEADER = "X-Prime-Warm-Up";
+
+    private final HTTPHandler delegate;
+
+    private final String token;
+
+    private ProbeHandler(String token, HTTPHandler delegate) {
+      this.token = token;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void handle(HTTPRequest request, HTTPResponse response) throws Exception {
+      if (token.equals(request.getHeader(HEADER))) {
+        response.setHeader(HEADER, token);
+        response.setStatus(204);
+        return;
+      }
+
+      delegate.handle(request, response);
+    }
+  }
+}
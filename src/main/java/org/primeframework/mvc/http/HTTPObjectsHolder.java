@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2021-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,16 +18,21 @@ package org.primeframework.mvc.http;
 import io.fusionauth.http.server.HTTPRequest;
 import io.fusionauth.http.server.HTTPResponse;
 import org.primeframework.mvc.PrimeException;
+import org.primeframework.mvc.util.ThrowingRunnable;
 
 /**
  * This class is a static storage location for the HTTP objects so that they can be later injected via providers.
+ * <p>
+ * The request and response are held together in a single immutable context that is bound to the current thread. The
+ * preferred way to bind them is {@link #run(HTTPRequest, HTTPResponse, ThrowingRunnable)}, which binds both for the
+ * duration of a block and then restores whatever was bound before, much like a {@code ScopedValue} binding. This keeps
+ * a request to a single thread-local entry that is set and removed once, which matters when requests are handled on
+ * virtual threads.
  *
  * @author Brian Pontarelli
  */
 public final class HTTPObjectsHolder {
-  private final static ThreadLocal<HTTPRequest> Requests = new ThreadLocal<>();
-
-  private final static ThreadLocal<HTTPResponse> Responses = new ThreadLocal<>();
+  private final static ThreadLocal<HTTPObjects> Current = new ThreadLocal<>();
 
   private HTTPObjectsHolder() {
   }
@@ -36,14 +41,20 @@ public final class HTTPObjectsHolder {
    * Removes the HTTP request for the current thread.
    */
   public static void clearRequest() {
-    Requests.remove();
+    HTTPObjects current = Current.get();
+    if (current != null) {
+      bind(null, current.response);
+    }
   }
 
   /**
    * Removes the HTTP response for the current thread.
    */
   public static void clearResponse() {
-    Responses.remove();
+    HTTPObjects current = Current.get();
+    if (current != null) {
+      bind(current.request, null);
+    }
   }
 
   /**
@@ -52,7 +63,8 @@ public final class HTTPObjectsHolder {
    * @return The HTTP request for the current thread.
    */
   public static HTTPRequest getRequest() {
-    return Requests.get();
+    HTTPObjects current = Current.get();
+    return current != null ? current.request : null;
   }
 
   /**
@@ -61,11 +73,12 @@ public final class HTTPObjectsHolder {
    * @param request The HTTP request for the current thread.
    */
   public static void setRequest(HTTPRequest request) {
-    if (Requests.get() != null) {
+    HTTPObjects current = Current.get();
+    if (current != null && current.request != null) {
       throw new PrimeException("Request is already set into the HTTPObjectsHolder");
     }
 
-    Requests.set(request);
+    bind(request, current != null ? current.response : null);
   }
 
   /**
@@ -74,7 +87,8 @@ public final class HTTPObjectsHolder {
    * @return The HTTP response for the current thread.
    */
   public static HTTPResponse getResponse() {
-    return Responses.get();
+    HTTPObjects current = Current.get();
+    return current != null ? current.response : null;
   }
 
   /**
@@ -83,10 +97,53 @@ public final class HTTPObjectsHolder {
    * @param response The HTTP response for the current thread.
    */
   public static void setResponse(HTTPResponse response) {
-    if (Responses.get() != null) {
+    HTTPObjects current = Current.get();
+    if (current != null && current.response != null) {
       throw new PrimeException("Response is already set into the HTTPObjectsHolder");
     }
 
-    Responses.set(response);
+    bind(current != null ? current.request : null, response);
+  }
+
+  /**
+   * Binds the HTTP request and response to the current thread, runs the given block and then restores the previous
+   * binding (if any), even if the block throws.
+   *
+   * @param request  The HTTP request.
+   * @param response The HTTP response.
+   * @param block    The block to run while the request and response are bound.
+   * @throws Exception If the block throws.
+   */
+  public static void run(HTTPRequest request, HTTPResponse response, ThrowingRunnable block) throws Exception {
+    HTTPObjects previous = Current.get();
+    Current.set(new HTTPObjects(request, response));
+    try {
+      block.run();
+    } finally {
+      if (previous == null) {
+        Current.remove();
+      } else {
+        Current.set(previous);
+      }
+    }
+  }
+
+  private static void bind(HTTPRequest request, HTTPResponse response) {
+    if (request == null && response == null) {
+      Current.remove();
+    } else {
+      Current.set(new HTTPObjects(request, response));
+    }
+  }
+
+  private static final class HTTPObjects {
+    private final HTTPRequest request;
+
+    private final HTTPResponse response;
+
+    private HTTPObjects(HTTPRequest request, HTTPResponse response) {
+      this.request = request;
+      this.response = response;
+    }
   }
-}
\ No newline at end of file
+}
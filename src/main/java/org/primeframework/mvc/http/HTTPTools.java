@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021-2023, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2021-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,8 +15,7 @@
  */
 package org.primeframework.mvc.http;
 
-import java.util.LinkedList;
-import java.util.regex.Pattern;
+import java.util.Arrays;
 
 import io.fusionauth.http.HTTPValues;
 import io.fusionauth.http.server.HTTPRequest;
@@ -28,8 +27,6 @@ import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
  * @author James Humphrey
  */
 public class HTTPTools {
-  private static final Pattern DoubleSlash = Pattern.compile("/{2,}");
-
   /**
    * Return the <code>Origin</code> header or as a fallback, the value of the <code>Referer</code> header will be returned if the <code>Origin</code>
    * header is not available.
@@ -53,7 +50,9 @@ public class HTTPTools {
   }
 
   /**
-   * The request URI without the context path.
+   * The request URI without the context path. Any path parameters (starting at the first <code>;</code>) are removed
+   * and, when there is no context path, consecutive slashes are collapsed into one. This is done in a single pass and
+   * the path is returned as is when nothing needs to change.
    *
    * @param request The request.
    * @return The uri minus the context path.
@@ -61,46 +60,98 @@ public class HTTPTools {
   public static String getRequestURI(HTTPRequest request) {
     String uri = request.getPath();
 
-    int semicolon = uri.indexOf(';');
-    if (semicolon >= 0) {
-      uri = uri.substring(0, semicolon);
+    int end = uri.indexOf(';');
+    if (end < 0) {
+      end = uri.length();
     }
 
     String context = request.getContextPath();
     if (context.length() > 0) {
-      return uri.substring(context.length());
+      return uri.substring(context.length(), end);
+    }
+
+    int doubleSlash = uri.indexOf("//");
+    if (doubleSlash < 0 || doubleSlash >= end) {
+      return end == uri.length() ? uri : uri.substring(0, end);
     }
 
-    return DoubleSlash.matcher(uri).replaceAll("/");
+    char[] buf = new char[end];
+    uri.getChars(0, doubleSlash + 1, buf, 0);
+    int w = doubleSlash + 1;
+    for (int i = doubleSlash + 2; i < end; i++) {
+      char c = uri.charAt(i);
+      if (c != '/' || buf[w - 1] != '/') {
+        buf[w++] = c;
+      }
+    }
+
+    return new String(buf, 0, w);
   }
 
+  /**
+   * Normalizes the URI by decoding encoded dots (<code>%2E</code>), removing empty and <code>.</code> segments, and
+   * resolving <code>..</code> segments. Trailing slashes and trailing segments that only contain dots are removed.
+   * <p>
+   * This is done in a single pass over the URI. The segments are tracked by their offsets and no buffer is allocated
+   * until the URI actually needs to change, so URIs that are already normal are returned as is.
+   *
+   * @param uri The URI.
+   * @return The normalized URI or null if the URI escapes the root using <code>..</code> segments.
+   */
   public static String sanitizeURI(String uri) {
     if (uri == null) {
       return null;
     }
 
-    char[] ca = uri.replace("%2E", ".").toCharArray();
+    int length = uri.length();
+    char[] buf = null; // Only allocated once the result differs from the URI
+    int[] segments = null; // The start offsets in the result of the segments that have been kept
+    int depth = 0;
+    int segmentStart = 0;
+    int w = 0;
     int dots = 0;
-    int slash = 0;
     boolean goodSegment = false;
-    LinkedList<String> segments = new LinkedList<>();
 
-    for (int i = 0; i < ca.length; i++) {
-      char c = ca[i];
+    for (int i = 0; i < length; i++) {
+      char c = uri.charAt(i);
+      boolean encodedDot = c == '%' && uri.startsWith("%2E", i);
+      if (encodedDot) {
+        c = '.';
+        i += 2;
+      }
 
       if (c == '/') {
-        // If this is a good segment, add it
         if (goodSegment || dots > 2) {
-          segments.addLast(new String(ca, slash, i - slash));
+          // If this is a good segment, keep it
+          if (segments == null) {
+            segments = new int[8];
+          } else if (depth == segments.length) {
+            segments = Arrays.copyOf(segments, depth * 2);
+          }
+
+          segments[depth++] = segmentStart;
         } else if (dots == 2) {
-          if (segments.isEmpty()) {
+          if (depth == 0) {
             return null;
           }
 
-          segments.removeLast();
+          // Remove the previous segment along with this one
+          depth--;
+          if (buf == null) {
+            buf = copy(uri, w);
+          }
+
+          w = segments[depth];
+        } else if (w != segmentStart) {
+          // Remove this empty or "." segment
+          if (buf == null) {
+            buf = copy(uri, w);
+          }
+
+          w = segmentStart;
         }
 
-        slash = i;
+        segmentStart = w;
         dots = 0;
         goodSegment = false;
       } else if (c == '.') {
@@ -109,12 +160,33 @@ public class HTTPTools {
         goodSegment = true;
         dots = 0;
       }
+
+      if (encodedDot && buf == null) {
+        buf = copy(uri, w);
+      }
+
+      if (buf != null) {
+        buf[w] = c;
+      }
+
+      w++;
+    }
+
+    // A trailing segment is only kept if it is good
+    if (!goodSegment) {
+      w = segmentStart;
     }
 
-    if (goodSegment) {
-      segments.addLast(new String(ca, slash, ca.length - slash));
+    if (buf != null) {
+      return new String(buf, 0, w);
     }
 
-    return String.join("", segments);
+    return w == length ? uri : uri.substring(0, w);
+  }
+
+  private static char[] copy(String uri, int length) {
+    char[] buf = new char[uri.length()];
+    uri.getChars(0, length, buf, 0);
+    return buf;
   }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.http;
+
+import java.time.Duration;
+
+/**
+ * The timing of a single URI during the request warm-up.
+ */
+public class RequestWarmUpTiming {
+  /**
+   * The average duration of the requests after the first one.
+   */
+  public final Duration average;
+
+  /**
+   * The duration of the first (cold) request.
+   */
+  public final Duration first;
+
+  /**
+   * The number of requests that were sent.
+   */
+  public final int requests;
+
+  /**
+   * The status code of the last response or -1 if the request failed.
+   */
+  public final int status;
+
+  public final String uri;
+
+  public RequestWarmUpTiming(String uri, int status, int requests, Duration first, Duration average) {
+    this.uri = uri;
+    this.status = status;
+    this.requests = requests;
+    this.first = first;
+    this.average = average;
+  }
+
+  @Override
+  public String toString() {
+    return "[" + uri + "] status [" + status + "] requests [" + requests + "] first [" + first.toMillis() + "] ms average [" + average.toNanos() / 1_000 + "] µs";
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.http;
+
+import java.util.List;
+
+import org.primeframework.mvc.config.MVCConfiguration;
+
+/**
+ * Sends synthetic requests through an injector before it handles real requests so that the first real requests after a
+ * start or hup don't pay for the Guice just-in-time bindings, the template parsing, the reflection caches and a cold
+ * JIT.
+ */
+public interface RequestWarmer {
+  /**
+   * Sends the warm-up requests if the warm-up is enabled via {@link MVCConfiguration#requestWarmUpEnabled()}. Failed
+   * requests are logged and don't stop the warm-up.
+   *
+   * @return The timing of each URI that was requested. This is empty if the warm-up is disabled.
+   */
+  List<RequestWarmUpTiming> warmUp();
+}
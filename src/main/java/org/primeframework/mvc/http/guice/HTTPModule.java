@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2021-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,7 +23,9 @@ import io.fusionauth.http.server.HTTPContext;
 import io.fusionauth.http.server.HTTPRequest;
 import io.fusionauth.http.server.HTTPResponse;
 import org.primeframework.mvc.config.MVCConfiguration;
+import org.primeframework.mvc.http.DefaultRequestWarmer;
 import org.primeframework.mvc.http.HTTPObjectsHolder;
+import org.primeframework.mvc.http.RequestWarmer;
 
 /**
  * This class is a Guice module for the Prime MVC HTTP object support.
@@ -31,6 +33,11 @@ import org.primeframework.mvc.http.HTTPObjectsHolder;
  * @author Brian Pontarelli
  */
 public class HTTPModule extends AbstractModule {
+  @Override
+  protected void configure() {
+    bind(RequestWarmer.class).to(DefaultRequestWarmer.class);
+  }
+
   @Provides
   public HTTPMethod method() {
     return HTTPObjectsHolder.getRequest().getMethod();
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * An unsynchronized Writer that encodes UTF-8 directly into a pooled byte buffer and writes that buffer to the
+ * underlying stream in large chunks. This avoids the locking and the charset encoder of the
+ * {@link java.io.OutputStreamWriter} for templates, which are written in many small pieces.
+ * <p>
+ * The buffer is taken from a pool when the writer is created and returned to the pool when the writer is closed or
+ * recycled, so this must always be closed or recycled. Closing it does not close the underlying stream because that
+ * stream is owned by the server. This is not thread-safe.
+ */
+public class UTF8Writer extends Writer {
+  public static final int BUFFER_SIZE = 16 * 1024;
+
+  private static final ArrayBlockingQueue<byte[]> pool = new ArrayBlockingQueue<>(64);
+
+  private final OutputStream outputStream;
+
+  private byte[] buffer;
+
+  private int count;
+
+  private char highSurrogate;
+
+  public UTF8Writer(OutputStream outputStream) {
+    this.outputStream = outputStream;
+    byte[] pooled = pool.poll();
+    this.buffer = pooled != null ? pooled : new byte[BUFFER_SIZE];
+  }
+
+  /**
+   * Writes everything that has been buffered to the underlying stream (without flushing it) and recycles the buffer.
+   *
+   * @throws IOException If the write fails.
+   */
+  @Override
+  public void close() throws IOException {
+    if (buffer == null) {
+      return;
+    }
+
+    try {
+      if (highSurrogate != 0) {
+        highSurrogate = 0;
+        writeByte('?');
+      }
+
+      drain();
+    } finally {
+      recycle();
+    }
+  }
+
+  /**
+   * Writes everything that has been buffered to the underlying stream and flushes it.
+   *
+   * @throws IOException If the write or flush fails.
+   */
+  @Override
+  public void flush() throws IOException {
+    ensureOpen();
+    drain();
+    outputStream.flush();
+  }
+
+  /**
+   * Returns the buffer to the pool without writing anything that is still buffered. This is used when the rendering
+   * failed and the buffered output should be discarded. This does nothing if the writer has already been closed.
+   */
+  public void recycle() {
+    if (buffer != null) {
+      pool.offer(buffer);
+      buffer = null;
+      count = 0;
+    }
+  }
+
+  @Override
+  public void write(int c) throws IOException {
+    ensureOpen();
+    if (c < 0x80 && highSurrogate == 0) {
+      writeByte(c);
+    } else {
+      encode((char) c);
+    }
+  }
+
+  @Override
+  public void write(char[] chars, int offset, int length) throws IOException {
+    ensureOpen();
+    for (int i = offset, end = offset + length; i < end; i++) {
+      char c = chars[i];
+      if (c < 0x80 && highSurrogate == 0) {
+        if (count == buffer.length) {
+          drain();
+        }
+
+        buffer[count++] = (byte) c;
+      } else {
+        encode(c);
+      }
+    }
+  }
+
+  @Override
+  public void write(String str, int offset, int length) throws IOException {
+    ensureOpen();
+    for (int i = offset, end = offset + length; i < end; i++) {
+      char c = str.charAt(i);
+      if (c < 0x80 && highSurrogate == 0) {
+        if (count == buffer.length) {
+          drain();
+        }
+
+        buffer[count++] = (byte) c;
+      } else {
+        encode(c);
+      }
+    }
+  }
+
+  @Override
+  public void write(String str) throws IOException {
+    write(str, 0, str.length());
+  }
+
+  @Override
+  public Writer append(CharSequence csq) throws IOException {
+    String str = String.valueOf(csq);
+    write(str, 0, str.length());
+    return this;
+  }
+
+  private void drain() throws IOException {
+    if (count > 0) {
+      outputStream.write(buffer, 0, count);
+      count = 0;
+    }
+  }
+
+  /**
+   * Encodes a non-ASCII character. Surrogate pairs can be split across writes, so the high surrogate is held until the
+   * next character. Malformed surrogates are replaced with '?' the same way the JDK encoder does.
+   */
+  private void encode(char c) throws IOException {
+    if (buffer.length - count < 4) {
+      drain();
+    }
+
+    if (highSurrogate != 0) {
+      char high = highSurrogate;
+      highSurrogate = 0;
+      if (Character.isLowSurrogate(c)) {
+        int codePoint = Character.toCodePoint(high, c);
+        buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+        buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+        return;
+      }
+
+      buffer[count++] = '?';
+      if (c < 0x80) {
+        writeByte(c);
+        return;
+      }
+
+      if (buffer.length - count < 3) {
+        drain();
+      }
+    }
+
+    if (c < 0x800) {
+      buffer[count++] = (byte) (0xC0 | (c >> 6));
+      buffer[count++] = (byte) (0x80 | (c & 0x3F));
+    } else if (Character.isHighSurrogate(c)) {
+      highSurrogate = c;
+    } else if (Character.isLowSurrogate(c)) {
+      buffer[count++] = '?';
+    } else {
+      buffer[count++] = (byte) (0xE0 | (c >> 12));
+      buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+      buffer[count++] = (byte) (0x80 | (c & 0x3F));
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (buffer == null) {
+      throw new IOException("The writer has been closed");
+    }
+  }
+
+  private void writeByte(int b) throws IOException {
+    if (count == buffer.length) {
+      drain();
+    }
+
+    buffer[count++] = (byte) b;
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2019, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,12 @@
 package org.primeframework.mvc.locale;
 
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.inject.Inject;
 import io.fusionauth.http.Cookie;
+import io.fusionauth.http.HTTPValues.Headers;
 import io.fusionauth.http.server.HTTPRequest;
 import io.fusionauth.http.server.HTTPResponse;
 import org.primeframework.mvc.config.MVCConfiguration;
@@ -26,11 +29,21 @@ import org.primeframework.mvc.guice.Nullable;
 import org.primeframework.mvc.util.LocaleTools;
 
 /**
- * This is the default LocaleProvider implementation.
+ * This is the default LocaleProvider implementation. The resolved Locale is stored in a request attribute so that it is
+ * only resolved once per request, and the Locales parsed from cookie values and Accept-Language headers are cached
+ * since there are very few distinct values in practice.
  *
  * @author Brian Pontarelli
  */
 public class DefaultLocaleProvider implements LocaleProvider {
+  public static final String LOCALE_KEY = "primeLocale";
+
+  private static final Map<String, Locale> AcceptLanguageLocales = new ConcurrentHashMap<>();
+
+  private static final Map<String, Locale> CookieLocales = new ConcurrentHashMap<>();
+
+  private static final int MaxCacheSize = 1024;
+
   private final MVCConfiguration configuration;
 
   private final HTTPRequest request;
@@ -67,18 +80,13 @@ public class DefaultLocaleProvider implements LocaleProvider {
       return Locale.getDefault();
     }
 
-    // Try a persistent cookie first
-    String key = configuration.localeCookieName();
-    Cookie cookie = request.getCookie(key);
-    if (cookie != null && cookie.value != null) {
-      try {
-        return LocaleTools.toLocale(cookie.value);
-      } catch (Exception e) {
-        // Ignore and keep going
-      }
+    Locale locale = (Locale) request.getAttribute(LOCALE_KEY);
+    if (locale == null) {
+      locale = resolve();
+      request.setAttribute(LOCALE_KEY, locale);
     }
 
-    return request.getLocale();
+    return locale;
   }
 
   /**
@@ -98,5 +106,55 @@ public class DefaultLocaleProvider implements LocaleProvider {
     cookie.maxAge = locale != null ? Integer.MAX_VALUE : 0L;
     cookie.path = "/";
     response.addCookie(cookie);
+
+    // Update the memoized Locale. When the cookie is being deleted, fall back to the Accept-Language header
+    if (request != null) {
+      request.setAttribute(LOCALE_KEY, locale != null ? locale : acceptLanguageLocale());
+    }
+  }
+
+  private static void cache(Map<String, Locale> cache, String key, Locale locale) {
+    if (cache.size() >= MaxCacheSize) {
+      cache.clear();
+    }
+
+    cache.put(key, locale);
+  }
+
+  private Locale acceptLanguageLocale() {
+    String acceptLanguage = request.getHeader(Headers.AcceptLanguage);
+    if (acceptLanguage == null) {
+      return request.getLocale();
+    }
+
+    Locale locale = AcceptLanguageLocales.get(acceptLanguage);
+    if (locale == null) {
+      locale = request.getLocale();
+      cache(AcceptLanguageLocales, acceptLanguage, locale);
+    }
+
+    return locale;
+  }
+
+  private Locale resolve() {
+    // Try a persistent cookie first
+    String key = configuration.localeCookieName();
+    Cookie cookie = request.getCookie(key);
+    if (cookie != null && cookie.value != null) {
+      Locale locale = CookieLocales.get(cookie.value);
+      if (locale != null) {
+        return locale;
+      }
+
+      try {
+        locale = LocaleTools.toLocale(cookie.value);
+        cache(CookieLocales, cookie.value, locale);
+        return locale;
+      } catch (Exception e) {
+        // Ignore and keep going
+      }
+    }
+
+    return acceptLanguageLocale();
   }
 }
\ No newline at end of file
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2024, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,18 +30,26 @@ import org.primeframework.mvc.config.MVCConfiguration;
 import org.primeframework.mvc.message.Message;
 import org.primeframework.mvc.security.Encryptor;
 import org.primeframework.mvc.util.CookieTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * This is the flash scope which stores messages in a Cookie under the flash key. It fetches values from the HttpServletRequest under the same key as
  * well as the Cookie under that key. This allows for flash messages to be migrated from the cookie to the request during request handling so that
  * they are not persisted in the cookie forever. However, it also allows flash values to be retrieved during the initial request from the cookie.
+ * <p>
+ * The cookie is only decoded the first time the messages are needed, and the messages for the request are kept in a request attribute so that every
+ * instance of this scope for the request shares them. Adding messages only changes that in-memory state, the cookie is written at most once per
+ * {@link #flush()} regardless of how many messages were added. Clearing the scope expires the cookie right away since there is nothing to encode.
  *
  * @author Daniel DeGroff
  */
 public class CookieFlashScope implements FlashScope {
-  private final Encryptor encryptor;
+  public static final String FLASH_KEY = "primeFlashMessages";
+
+  private static final Logger logger = LoggerFactory.getLogger(CookieFlashScope.class);
 
-  private final List<Message> messages;
+  private final Encryptor encryptor;
 
   private final String name;
 
@@ -59,13 +67,6 @@ public class CookieFlashScope implements FlashScope {
     this.objectMapper = objectMapper;
     this.request = request;
     this.response = response;
-
-    Cookie cookie = request.getCookie(name);
-    if (cookie != null) {
-      messages = deserialize(cookie.value);
-    } else {
-      messages = new ArrayList<>();
-    }
   }
 
   @Override
@@ -80,37 +81,65 @@ public class CookieFlashScope implements FlashScope {
       return;
     }
 
-    messages.addAll(newMessages);
+    FlashMessages flash = flash();
+    flash.messages.addAll(newMessages);
+    flash.dirty = true;
+  }
+
+  @Override
+  public void clear() {
+    FlashMessages flash = flash();
+    flash.messages.clear();
+    flash.dirty = false;
 
-    try {
-      String value = CookieTools.toJSONCookie(messages, true, true, encryptor, objectMapper);
-      Cookie cookie = new Cookie(name, value);
-      cookie.httpOnly = true;
+    if (request.getCookie(name) != null || flash.written) {
+      request.deleteCookie(name);
+
+      Cookie cookie = new Cookie(name, null);
+      cookie.maxAge = 0L;
       cookie.path = "/";
-      cookie.secure = "https".equalsIgnoreCase(request.getScheme());
       response.addCookie(cookie);
-    } catch (Exception e) {
-      throw new ErrorException(e);
+      flash.written = false;
     }
   }
 
   @Override
-  public void clear() {
-    Cookie cookie = request.getCookie(name);
-    if (cookie != null) {
-      cookie.value = null;
-      cookie.maxAge = 0L;
+  public void flush() {
+    // Nothing has been added to the flash scope since the last flush, so there is nothing to write
+    FlashMessages flash = (FlashMessages) request.getAttribute(FLASH_KEY);
+    if (flash == null || !flash.dirty) {
+      return;
+    }
+
+    if (response.isCommitted()) {
+      logger.warn("Unable to write [{}] flash message(s) because the response has already been committed.", flash.messages.size());
+      return;
+    }
+
+    flash.dirty = false;
+    if (flash.messages.isEmpty()) {
+      return;
+    }
+
+    Cookie cookie;
+    try {
+      cookie = new Cookie(name, CookieTools.toJSONCookie(flash.messages, true, true, encryptor, objectMapper));
+      cookie.httpOnly = true;
       cookie.path = "/";
-      response.addCookie(cookie);
-      request.deleteCookie(name);
+      cookie.secure = "https".equalsIgnoreCase(request.getScheme());
+    } catch (Exception e) {
+      throw new ErrorException(e);
     }
 
-    messages.clear();
+    response.addCookie(cookie);
+
+    // The cookie is now on the response, so clearing the scope later in the request must remove it again
+    flash.written = true;
   }
 
   @Override
   public List<Message> get() {
-    return new ArrayList<>(messages);
+    return new ArrayList<>(flash().messages);
   }
 
   private List<Message> deserialize(String s) {
@@ -134,4 +163,30 @@ public class CookieFlashScope implements FlashScope {
       return new ArrayList<>();
     }
   }
+
+  private FlashMessages flash() {
+    FlashMessages flash = (FlashMessages) request.getAttribute(FLASH_KEY);
+    if (flash == null) {
+      Cookie cookie = request.getCookie(name);
+      flash = new FlashMessages(cookie != null ? deserialize(cookie.value) : new ArrayList<>());
+      request.setAttribute(FLASH_KEY, flash);
+    }
+
+    return flash;
+  }
+
+  /**
+   * The flash messages for a single request along with the state needed to write them back to the response.
+   */
+  private static final class FlashMessages {
+    final List<Message> messages;
+
+    boolean dirty;
+
+    boolean written;
+
+    FlashMessages(List<Message> messages) {
+      this.messages = messages;
+    }
+  }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2019, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,4 +24,12 @@ package org.primeframework.mvc.message.scope;
  * @author Brian Pontarelli
  */
 public interface FlashScope extends Scope {
+  /**
+   * Writes the messages that were added to this scope during the request to the response. Implementations that write the messages as they are
+   * added don't need to do anything here. This is called before the result is invoked and again by the
+   * {@link org.primeframework.mvc.action.result.MVCWorkflowFinalizer} once the request has been handled, so it must be safe to call more than
+   * once.
+   */
+  default void flush() {
+  }
 }
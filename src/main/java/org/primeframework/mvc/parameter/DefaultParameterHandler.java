@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014-2025, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2014-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -211,6 +211,11 @@ public class DefaultParameterHandler implements ParameterHandler {
   protected void setValues(Map<String, Struct> values, ActionInvocation actionInvocation,
                            boolean allowUnknownParameters) {
     Object action = actionInvocation.action;
+    ActionConfiguration actionConfiguration = actionInvocation.configuration;
+    ParameterActionConfiguration parameterConfiguration = actionConfiguration != null && actionConfiguration.additionalConfiguration != null ?
+        (ParameterActionConfiguration) actionConfiguration.additionalConfiguration.get(ParameterActionConfiguration.class) : null;
+    boolean tolerateUnknownParameters = actionConfiguration != null &&
+        (actionConfiguration.unknownParametersField != null || allowUnknownParameters || actionConfiguration.allowUnknownParameters);
     for (String key : values.keySet()) {
       Struct struct = values.get(key);
 
@@ -219,6 +224,12 @@ public class DefaultParameterHandler implements ParameterHandler {
         continue;
       }
 
+      // Unknown parameters that are going to be tolerated anyway are handled up front rather than by building and catching an exception
+      if (tolerateUnknownParameters && parameterConfiguration != null && !parameterConfiguration.isKnown(key)) {
+        handleUnknownParameter(key, struct, actionInvocation, allowUnknownParameters, null);
+        continue;
+      }
+
       try {
         expressionEvaluator.setValue(key, action, struct.values.toArray(new String[0]), struct.attributes);
       } catch (ConversionException ce) {
@@ -237,14 +248,7 @@ public class DefaultParameterHandler implements ParameterHandler {
       } catch (BeanExpressionException ee) {
         throw ee;
       } catch (ExpressionException ee) {
-        // If unknownParametersField is defined, then the allowUnknownParameters is ignored.
-        if (actionInvocation.configuration.unknownParametersField != null) {
-          captureUnknownParameter(key, struct, actionInvocation);
-        } else if (allowUnknownParameters || actionInvocation.configuration.allowUnknownParameters) {
-          logger.debug("Invalid parameter to action [" + action.getClass().getName() + "]", ee);
-        } else {
-          throw ee;
-        }
+        handleUnknownParameter(key, struct, actionInvocation, allowUnknownParameters, ee);
       } catch (MultipleParametersUnsupportedException e) {
         // Re-throw after adding some meta-data about the current request to make it easier to debug in the log.
         // - Intentionally not recording the value to avoid logging anything sensitive.
@@ -277,6 +281,22 @@ public class DefaultParameterHandler implements ParameterHandler {
     }
   }
 
+  private void handleUnknownParameter(String key, Struct struct, ActionInvocation actionInvocation, boolean allowUnknownParameters,
+                                      ExpressionException ee) {
+    // If unknownParametersField is defined, then the allowUnknownParameters is ignored.
+    if (actionInvocation.configuration.unknownParametersField != null) {
+      captureUnknownParameter(key, struct, actionInvocation);
+    } else if (allowUnknownParameters || actionInvocation.configuration.allowUnknownParameters) {
+      if (ee != null) {
+        logger.debug("Invalid parameter to action [" + actionInvocation.action.getClass().getName() + "]", ee);
+      } else {
+        logger.debug("Invalid parameter [{}] to action [{}]", key, actionInvocation.action.getClass().getName());
+      }
+    } else {
+      throw ee;
+    }
+  }
+
   private void captureUnknownParameter(String key, Struct struct, ActionInvocation actionInvocation) {
     Field field = actionInvocation.configuration.unknownParametersField;
     try {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012-2024, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2012-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,19 +16,17 @@
 package org.primeframework.mvc.parameter;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import com.google.inject.Inject;
 import io.fusionauth.http.FileInfo;
 import io.fusionauth.http.server.HTTPRequest;
-import org.primeframework.mvc.action.ActionInvocation;
 import org.primeframework.mvc.action.ActionInvocationStore;
 import org.primeframework.mvc.config.MVCConfiguration;
 import org.primeframework.mvc.parameter.ParameterParser.Parameters.Struct;
+import org.primeframework.mvc.parameter.annotation.PreParameter;
 import org.primeframework.mvc.security.csrf.CSRFProvider;
 
 /**
@@ -75,29 +73,16 @@ public class DefaultParameterParser implements ParameterParser {
     // Grab the files from the request
     addFiles(result);
 
-    // Pull out the check box, radio button and action parameter
+    // Pull out the check box and radio button parameters and put everything else in the correct group in a single pass
     if (!parameters.isEmpty()) {
-      Map<String, List<String>> checkBoxes = new HashMap<>();
-      Map<String, List<String>> radioButtons = new HashMap<>();
-      Set<String> actions = new HashSet<>();
+      Map<String, PreParameter> preParameterMembers = actionInvocationStore.getCurrent().configuration.preParameterMembers;
+      Map<String, List<String>> unchecked = separateParameters(parameters, result, preParameterMembers);
 
-      separateParameters(parameters, result, checkBoxes, radioButtons, actions);
-
-      preParameters(result);
-
-      // Remove all the existing checkbox, radio and action keys
-      checkBoxes.keySet().removeAll(result.optional.keySet());
-      checkBoxes.keySet().removeAll(result.required.keySet());
-      radioButtons.keySet().removeAll(result.optional.keySet());
-      radioButtons.keySet().removeAll(result.required.keySet());
-
-      // Add back in any left overs
-      addUncheckedValues(checkBoxes, result);
-      addUncheckedValues(radioButtons, result);
-
-      // Remove actions from the parameter as they should be ignored right now
-      result.optional.keySet().removeAll(actions);
-      result.required.keySet().removeAll(actions);
+      // Add back in the unchecked values for the check boxes and radio buttons that weren't checked
+      if (unchecked != null) {
+        unchecked.keySet().removeIf(key -> result.pre.containsKey(key) || result.optional.containsKey(key) || result.required.containsKey(key));
+        addUncheckedValues(unchecked, result);
+      }
     }
 
     return result;
@@ -135,61 +120,55 @@ public class DefaultParameterParser implements ParameterParser {
     return true;
   }
 
-  private void preParameters(Parameters result) {
-    ActionInvocation actionInvocation = actionInvocationStore.getCurrent();
-    for (String name : actionInvocation.configuration.preParameterMembers.keySet()) {
-      Struct struct = result.optional.remove(name);
-      if (struct == null) {
-        struct = result.required.remove(name);
-      }
+  /**
+   * Puts the parameters into the pre, optional and required groups and collects the unchecked values of the check boxes
+   * and radio buttons.
+   *
+   * @param parameters          The request parameters.
+   * @param result              The result.
+   * @param preParameterMembers The pre-parameters of the action.
+   * @return The unchecked values or null if there aren't any check boxes or radio buttons.
+   */
+  private Map<String, List<String>> separateParameters(Map<String, List<String>> parameters, Parameters result,
+                                                       Map<String, PreParameter> preParameterMembers) {
+    Map<String, List<String>> unchecked = null;
+    for (Map.Entry<String, List<String>> entry : parameters.entrySet()) {
+      String key = entry.getKey();
+      if (key.startsWith(CHECKBOX_PREFIX) || key.startsWith(RADIOBUTTON_PREFIX)) {
+        if (unchecked == null) {
+          unchecked = new LinkedHashMap<>();
+        }
 
-      if (struct != null) {
-        result.pre.put(name, struct);
+        // Both prefixes are the same length
+        unchecked.put(key.substring(CHECKBOX_PREFIX.length()), entry.getValue());
+        continue;
       }
-    }
-  }
-
-  private void separateParameters(Map<String, List<String>> parameters, Parameters result,
-                                  Map<String, List<String>> checkBoxes,
-                                  Map<String, List<String>> radioButtons, Set<String> actions) {
-    for (String key : parameters.keySet()) {
-      boolean optional = key.endsWith(".x") || key.endsWith(".y") || key.equals(csrfProvider.getParameterName());
 
-      if (key.startsWith(CHECKBOX_PREFIX)) {
-        checkBoxes.put(key.substring(CHECKBOX_PREFIX.length()), parameters.get(key));
-      } else if (key.startsWith(RADIOBUTTON_PREFIX)) {
-        radioButtons.put(key.substring(RADIOBUTTON_PREFIX.length()), parameters.get(key));
+      int index = key.indexOf('@');
+      String parameter = (index > 0) ? key.substring(0, index) : key;
+      Map<String, Struct> group;
+      if (preParameterMembers != null && preParameterMembers.containsKey(parameter)) {
+        group = result.pre;
+      } else if (key.endsWith(".x") || key.endsWith(".y") || key.equals(csrfProvider.getParameterName())) {
+        group = result.optional;
       } else {
-        int index = key.indexOf('@');
-        String parameter = (index > 0) ? key.substring(0, index) : key;
-        Struct s;
-        if (optional) {
-          s = result.optional.get(parameter);
-        } else {
-          s = result.required.get(parameter);
-        }
-
-        if (s == null) {
-          s = new Struct();
-          if (optional) {
-            result.optional.put(parameter, s);
-          } else {
-            result.required.put(parameter, s);
-          }
-        }
+        group = result.required;
+      }
 
-        if (index > 0) {
-          s.attributes.put(key.substring(index + 1), parameters.get(key).get(0));
-        } else {
-          // If the ignore empty parameters flag is set, which IS NOT the default, this
-          // block will only ever add the values to the structure if they contain at least
-          // one non-empty String.
-          List<String> values = parameters.get(parameter);
-          if (!configuration.ignoreEmptyParameters() || !empty(values)) {
-            s.values = values;
-          }
+      Struct s = group.computeIfAbsent(parameter, k -> new Struct());
+      if (index > 0) {
+        s.attributes.put(key.substring(index + 1), entry.getValue().get(0));
+      } else {
+        // If the ignore empty parameters flag is set, which IS NOT the default, this
+        // block will only ever add the values to the structure if they contain at least
+        // one non-empty String.
+        List<String> values = entry.getValue();
+        if (!configuration.ignoreEmptyParameters() || !empty(values)) {
+          s.values = values;
         }
       }
     }
+
+    return unchecked;
   }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.parameter;
+
+import java.util.Set;
+
+/**
+ * The parameter binding information of an action that is built once when the action configuration is built (see
+ * {@link ParameterActionConfigurator}). This allows the {@link DefaultParameterHandler} to tell that a parameter does
+ * not exist on the action without evaluating it and catching the resulting exception.
+ */
+public class ParameterActionConfiguration {
+  /**
+   * The names of the members that a parameter expression can start with, including the members of unwrapped fields.
+   */
+  public final Set<String> memberNames;
+
+  public ParameterActionConfiguration(Set<String> memberNames) {
+    this.memberNames = Set.copyOf(memberNames);
+  }
+
+  /**
+   * Determines if the first member of the given parameter exists on the action. The rest of the expression is not
+   * checked, so a true result doesn't mean that the parameter can be set.
+   *
+   * @param parameter The parameter name (an expression such as <code>user.addresses['home'].city</code>).
+   * @return False if the parameter definitely does not exist on the action.
+   */
+  public boolean isKnown(String parameter) {
+    int end = parameter.length();
+    for (int i = 0; i < end; i++) {
+      char c = parameter.charAt(i);
+      if (c == '.' || c == '[') {
+        end = i;
+        break;
+      }
+    }
+
+    // Not a simple expression, let the expression evaluator decide
+    if (end == 0) {
+      return true;
+    }
+
+    return memberNames.contains(end == parameter.length() ? parameter : parameter.substring(0, end));
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.parameter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+import com.google.inject.Inject;
+import org.primeframework.mvc.action.config.ActionConfigurator;
+import org.primeframework.mvc.config.MVCConfiguration;
+import org.primeframework.mvc.util.ReflectionUtils;
+
+/**
+ * Builds the {@link ParameterActionConfiguration} for each action.
+ */
+public class ParameterActionConfigurator implements ActionConfigurator {
+  private final MVCConfiguration configuration;
+
+  @Inject
+  public ParameterActionConfigurator(MVCConfiguration configuration) {
+    this.configuration = configuration;
+  }
+
+  @Override
+  public Object cacheKey() {
+    return Arrays.asList(getClass(), configuration.unwrapAnnotations());
+  }
+
+  @Override
+  public Object configure(Class<?> actionClass) {
+    // The members of Maps and Collections can't be known ahead of time
+    if (Map.class.isAssignableFrom(actionClass) || Collection.class.isAssignableFrom(actionClass)) {
+      return null;
+    }
+
+    return new ParameterActionConfiguration(ReflectionUtils.findAllMembers(actionClass, configuration.unwrapAnnotations()));
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2007, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,10 +18,13 @@ package org.primeframework.mvc.parameter.convert;
 import java.lang.annotation.Annotation;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.inject.Inject;
 import com.google.inject.Injector;
+import com.google.inject.Scopes;
 import org.primeframework.mvc.parameter.convert.annotation.ConverterAnnotation;
 import static java.util.Arrays.asList;
 
@@ -39,10 +42,19 @@ import static java.util.Arrays.asList;
  * @author Brian Pontarelli
  */
 public class DefaultConverterProvider implements ConverterProvider {
+  private final Map<Class<? extends Annotation>, AnnotationConverter<?>> annotationConverters = new ConcurrentHashMap<>();
+
   private final Map<Class<?>, GlobalConverter> converters;
 
   private final Injector injector;
 
+  private final ClassValue<Optional<Class<?>>> resolved = new ClassValue<>() {
+    @Override
+    protected Optional<Class<?>> computeValue(Class<?> type) {
+      return Optional.ofNullable(resolve(type));
+    }
+  };
+
   @Inject
   public DefaultConverterProvider(Injector injector, Map<Class<?>, GlobalConverter> converters) {
     this.injector = injector;
@@ -63,11 +75,48 @@ public class DefaultConverterProvider implements ConverterProvider {
    * Primitive values are treated as their wrapper classes. So, if int.class is passed into this method (queried) then
    * either a converter registered for Integer, or Number or null is returned depending on what converters have been
    * registered so far.
+   * <p/>
+   * The result of the search (including not finding a converter) is cached per type. The cache only holds the type
+   * the converter is registered for, rather than the converter itself, so that the converters of an old injector
+   * aren't kept alive by the classes after a hup. Each injector creates a new provider and therefore a new cache.
    *
    * @param type The type to start with when looking for converters
    * @return The converter or null if one was not found
    */
   public GlobalConverter lookup(Class<?> type) {
+    Optional<Class<?>> registeredType = resolved.get(type);
+    return registeredType.isPresent() ? converters.get(registeredType.get()) : null;
+  }
+
+  /**
+   * Returns the Converter for the given annotation. Converters that are bound as singletons are cached per annotation
+   * type.
+   *
+   * @param annotation The annotation.
+   * @return The Converter.
+   */
+  public AnnotationConverter lookup(Annotation annotation) {
+    AnnotationConverter<?> converter = annotationConverters.get(annotation.annotationType());
+    if (converter != null) {
+      return converter;
+    }
+
+    ConverterAnnotation ra = annotation.annotationType().getAnnotation(ConverterAnnotation.class);
+    converter = injector.getInstance(ra.value());
+    if (Scopes.isSingleton(injector.getBinding(ra.value()))) {
+      annotationConverters.put(annotation.annotationType(), converter);
+    }
+
+    return converter;
+  }
+
+  /**
+   * Searches for the type that a converter is registered for. See {@link #lookup(Class)}.
+   *
+   * @param type The type to start with.
+   * @return The type the converter is registered for or null.
+   */
+  private Class<?> resolve(Class<?> type) {
     Class<?> localType = type;
 
     // If it is an array, just use the component type because TypeConverters
@@ -79,12 +128,11 @@ public class DefaultConverterProvider implements ConverterProvider {
     // The local type becomes null when it is an interface or a primitive and the
     // super class is asked for
     while (localType != null && localType != Object.class) {
-      GlobalConverter converter = converters.get(localType);
-      if (converter == null) {
-        localType = localType.getSuperclass();
-      } else {
-        return converter;
+      if (converters.containsKey(localType)) {
+        return localType;
       }
+
+      localType = localType.getSuperclass();
     }
 
     localType = type;
@@ -92,9 +140,8 @@ public class DefaultConverterProvider implements ConverterProvider {
     Class<?> inter;
     while ((inter = interfaces.poll()) != null) {
       // First, check the interface
-      GlobalConverter converter = converters.get(inter);
-      if (converter != null) {
-        return converter;
+      if (converters.containsKey(inter)) {
+        return inter;
       }
 
       // Next, append the interfaces for this interface
@@ -109,18 +156,6 @@ public class DefaultConverterProvider implements ConverterProvider {
       }
     }
 
-
     return null;
   }
-
-  /**
-   * Returns the Converter for the given annotation.
-   *
-   * @param annotation The annotation.
-   * @return The Converter.
-   */
-  public AnnotationConverter lookup(Annotation annotation) {
-    ConverterAnnotation ra = annotation.annotationType().getAnnotation(ConverterAnnotation.class);
-    return injector.getInstance(ra.value());
-  }
-}
\ No newline at end of file
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2019, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,13 +15,16 @@
  */
 package org.primeframework.mvc.parameter.el;
 
+import java.lang.annotation.Annotation;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.inject.Inject;
 import org.apache.commons.lang3.text.StrLookup;
@@ -30,6 +33,7 @@ import org.primeframework.mvc.config.MVCConfiguration;
 import org.primeframework.mvc.parameter.convert.ConversionException;
 import org.primeframework.mvc.parameter.convert.ConverterProvider;
 import org.primeframework.mvc.parameter.convert.ConverterStateException;
+import org.primeframework.mvc.util.ReflectionUtils;
 
 /**
  * This class is the default implementation of the ExpressionEvaluator service. This provides a robust expression
@@ -39,10 +43,21 @@ import org.primeframework.mvc.parameter.convert.ConverterStateException;
  */
 @SuppressWarnings("unchecked")
 public class DefaultExpressionEvaluator implements ExpressionEvaluator {
+  private static final int MaxTemplates = 1024;
+
   private final MVCConfiguration configuration;
 
   private final ConverterProvider converterProvider;
 
+  private final ClassValue<Set<String>> memberIndex = new ClassValue<>() {
+    @Override
+    protected Set<String> computeValue(Class<?> type) {
+      return indexMembers(type);
+    }
+  };
+
+  private final Map<String, ExpandTemplate> templates = new ConcurrentHashMap<>();
+
   @Inject
   public DefaultExpressionEvaluator(ConverterProvider converterProvider, MVCConfiguration configuration) {
     this.converterProvider = converterProvider;
@@ -51,25 +66,46 @@ public class DefaultExpressionEvaluator implements ExpressionEvaluator {
 
   /**
    * {@inheritDoc}
+   * <p>
+   * Strings without any variables are returned as is. Otherwise, the String is parsed once into a cached template of
+   * literal and variable segments. Strings that use the less common {@link StrSubstitutor} features (escaped
+   * variables, nested variables, or values that contain variables themselves) are handed to the StrSubstitutor.
    */
   @Override
   public String expand(final String str, final Object object, final boolean encode)
       throws ExpressionException {
+    if (str == null || !str.contains("${")) {
+      return str;
+    }
 
+    ExpandTemplate template = templates.get(str);
+    if (template == null) {
+      if (templates.size() >= MaxTemplates) {
+        templates.clear();
+      }
 
-    return new StrSubstitutor(new StrLookup<String>() {
-      public String lookup(String name) {
-        String value = getValue(name, object, Collections.emptyMap());
-        if (value == null) {
-          return "";
-        }
-        if (encode) {
-          value = URLEncoder.encode(value, StandardCharsets.UTF_8);
-        }
+      template = ExpandTemplate.compile(str);
+      templates.put(str, template);
+    }
+
+    if (template.names == null) {
+      return substitute(str, object, encode);
+    }
+
+    StringBuilder build = new StringBuilder(str.length() + 32);
+    for (int i = 0; i < template.names.length; i++) {
+      build.append(template.literals[i]);
 
-        return value;
+      // The StrSubstitutor expands variables inside values and treats a trailing $ as an escape for the next variable
+      String value = lookup(template.names[i], object, encode);
+      if (value.contains("${") || value.endsWith("$")) {
+        return substitute(str, object, encode);
       }
-    }).replace(str);
+
+      build.append(value);
+    }
+
+    return build.append(template.literals[template.names.length]).toString();
   }
 
   /**
@@ -94,6 +130,20 @@ public class DefaultExpressionEvaluator implements ExpressionEvaluator {
     return (T) expr.traverseToEndForGet();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean hasMember(String name, Object object) {
+    Class<?> type = object.getClass();
+    if (name.indexOf('.') != -1 || name.indexOf('[') != -1 || type.isArray() ||
+        Map.class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type)) {
+      return true;
+    }
+
+    return memberIndex.get(type).contains(name);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -128,4 +178,90 @@ public class DefaultExpressionEvaluator implements ExpressionEvaluator {
     expr.traverseToEndForSet();
     expr.setCurrentValue(values);
   }
+
+  private String lookup(String name, Object object, boolean encode) {
+    String value = getValue(name, object, Collections.emptyMap());
+    if (value == null) {
+      return "";
+    }
+    if (encode) {
+      value = URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    return value;
+  }
+
+  private String substitute(String str, Object object, boolean encode) {
+    return new StrSubstitutor(new StrLookup<String>() {
+      public String lookup(String name) {
+        return DefaultExpressionEvaluator.this.lookup(name, object, encode);
+      }
+    }).replace(str);
+  }
+
+  /**
+   * Builds the set of top-level member names that the {@link MemberAccessor} can resolve for the given type. This
+   * mirrors the lookup it performs, which is the JavaBean properties followed by the fields, where fields annotated with
+   * one of the unwrap annotations are replaced by the fields of their type.
+   *
+   * @param type The type to index.
+   * @return The member names.
+   */
+  private Set<String> indexMembers(Class<?> type) {
+    List<Class<? extends Annotation>> unwrapAnnotations = configuration != null ? configuration.unwrapAnnotations() : Collections.emptyList();
+    return Collections.unmodifiableSet(ReflectionUtils.findAllMembers(type, unwrapAnnotations));
+  }
+
+  /**
+   * A String parsed into literal segments and the variable names between them. There is always one more literal than
+   * there are names. If the String uses escaped or nested variables, the names are null and the String must be expanded
+   * by the {@link StrSubstitutor}.
+   */
+  private static final class ExpandTemplate {
+    private static final ExpandTemplate Substitute = new ExpandTemplate(null, null);
+
+    final String[] literals;
+
+    final String[] names;
+
+    ExpandTemplate(String[] literals, String[] names) {
+      this.literals = literals;
+      this.names = names;
+    }
+
+    static ExpandTemplate compile(String str) {
+      if (str.contains("$${")) {
+        return Substitute;
+      }
+
+      List<String> literals = new ArrayList<>();
+      List<String> names = new ArrayList<>();
+      int index = 0;
+      int start;
+      while ((start = str.indexOf("${", index)) >= 0) {
+        int end = str.indexOf('}', start + 2);
+        if (end < 0) {
+          break;
+        }
+
+        String name = str.substring(start + 2, end);
+        if (name.contains("${")) {
+          return Substitute;
+        }
+
+        // The StrSubstitutor default value is never used since the lookup never returns null, but it is still removed
+        int delimiter = name.indexOf(":-");
+        if (delimiter >= 0) {
+          name = name.substring(0, delimiter);
+        }
+
+        literals.add(str.substring(index, start));
+        names.add(name);
+        index = end + 1;
+      }
+
+      literals.add(str.substring(index));
+      return new ExpandTemplate(literals.toArray(String[]::new), names.toArray(String[]::new));
+    }
+  }
 }
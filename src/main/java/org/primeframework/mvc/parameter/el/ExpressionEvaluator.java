@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2007, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -60,6 +60,28 @@ public interface ExpressionEvaluator {
    */
   <T> T getValue(String expression, Object object) throws ExpressionException;
 
+  /**
+   * Determines if the given name is a top-level member (field, JavaBean property or unwrapped field) of the given object
+   * and can therefore be passed to {@link #getValue(String, Object)} without causing a
+   * {@link MissingPropertyExpressionException}. Implementations may index the members of each class once so that this
+   * check never evaluates the member and never throws for a miss.
+   * <p>
+   * The default implementation always returns true, which means that callers evaluate the expression and handle the
+   * {@link MissingPropertyExpressionException} as they did before this method existed.
+   * <p>
+   * Names that are not simple member names (i.e. they contain '.' or '[') and objects that are Maps, Collections or
+   * arrays cannot be answered from the index and always return true so that the caller falls back to evaluating the
+   * expression.
+   *
+   * @param name   The member name.
+   * @param object The object to check.
+   * @return True if the member exists or the expression must be evaluated to find out, false if it definitely does not
+   *     exist.
+   */
+  default boolean hasMember(String name, Object object) {
+    return true;
+  }
+
   /**
    * Retrieves a value defined by the given expression from the given object and converts that value into a String using
    * the appropriate {@link org.primeframework.mvc.parameter.convert.GlobalConverter}.
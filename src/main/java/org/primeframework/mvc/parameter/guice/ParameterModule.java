@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012-2018, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2012-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,12 +17,15 @@ package org.primeframework.mvc.parameter.guice;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Singleton;
+import com.google.inject.multibindings.Multibinder;
+import org.primeframework.mvc.action.config.ActionConfigurator;
 import org.primeframework.mvc.parameter.DefaultParameterHandler;
 import org.primeframework.mvc.parameter.DefaultParameterParser;
 import org.primeframework.mvc.parameter.DefaultParameterWorkflow;
 import org.primeframework.mvc.parameter.DefaultPostParameterHandler;
 import org.primeframework.mvc.parameter.DefaultPostParameterWorkflow;
 import org.primeframework.mvc.parameter.DefaultURIParameterWorkflow;
+import org.primeframework.mvc.parameter.ParameterActionConfigurator;
 import org.primeframework.mvc.parameter.ParameterHandler;
 import org.primeframework.mvc.parameter.ParameterParser;
 import org.primeframework.mvc.parameter.ParameterWorkflow;
@@ -80,5 +83,8 @@ public class ParameterModule extends AbstractModule {
     bindURIParameterWorkflow();
     bindConverterProvider();
     bindExpressionEvaluator();
+
+    Multibinder<ActionConfigurator> multiBinder = Multibinder.newSetBinder(binder(), ActionConfigurator.class);
+    multiBinder.addBinding().to(ParameterActionConfigurator.class);
   }
 }
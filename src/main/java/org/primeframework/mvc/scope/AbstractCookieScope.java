@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020-2022, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2020-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,24 +16,55 @@
 package org.primeframework.mvc.scope;
 
 import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
 
 import io.fusionauth.http.Cookie;
 import io.fusionauth.http.server.HTTPRequest;
 import io.fusionauth.http.server.HTTPResponse;
 
 /**
+ * Base class for scopes that store values in cookies.
+ * <p>
+ * Subclasses record the cookies they read from the request in {@link #retrievedCookies}. When a value is stored that
+ * was not changed during the request, {@link #buildCookie(String, Object, Annotation)} can return {@link #UNCHANGED}
+ * and nothing is written to the response. If the cookie has an expiration that needs to slide forward, the subclass
+ * can instead send back the value from the request without encoding it again.
+ *
  * @author Daniel DeGroff
  */
 public abstract class AbstractCookieScope<T extends Annotation> implements Scope<T> {
+  /**
+   * Returned from {@link #buildCookie(String, Object, Annotation)} when the cookie in the request is still current and
+   * nothing needs to be written to the response.
+   */
+  protected static final Cookie UNCHANGED = new Cookie();
+
   protected final HTTPRequest request;
 
   protected final HTTPResponse response;
 
+  /**
+   * The cookies read from the request during this request, keyed by cookie name.
+   */
+  protected final Map<String, RetrievedCookie> retrievedCookies = new HashMap<>(4);
+
   protected AbstractCookieScope(HTTPRequest request, HTTPResponse response) {
     this.request = request;
     this.response = response;
   }
 
+  /**
+   * Determines if the cookie expires and therefore needs to be sent back on each request for the expiration to slide
+   * forward.
+   *
+   * @param cookie The cookie.
+   * @return True if the cookie has a max age or an expiration.
+   */
+  protected static boolean isPersistent(Cookie cookie) {
+    return (cookie.maxAge != null && cookie.maxAge > 0) || cookie.expires != null;
+  }
+
   @Override
   public Object get(String fieldName, Class<?> type, T scope) {
     String cookieName = getCookieName(fieldName, scope);
@@ -44,6 +75,10 @@ public abstract class AbstractCookieScope<T extends Annotation> implements Scope
   @Override
   public void set(String fieldName, Object value, T scope) {
     Cookie cookie = buildCookie(fieldName, value, scope);
+    if (cookie == UNCHANGED) {
+      return;
+    }
+
     if (cookie != null) {
       cookie.httpOnly = true;
       cookie.path = "/";
@@ -71,4 +106,36 @@ public abstract class AbstractCookieScope<T extends Annotation> implements Scope
   protected abstract String getCookieName(String fieldName, T scope);
 
   protected abstract Object processCookie(Cookie cookie, String fieldName, Class<?> type, T scope);
+
+  /**
+   * A cookie as it was read from the request.
+   */
+  protected static final class RetrievedCookie {
+    /**
+     * True if the value was written in the current format with the current cipher and key, so it can be sent back as-is.
+     */
+    public final boolean current;
+
+    /**
+     * The decoded form of the value that is compared against the stored value.
+     */
+    public final Object decoded;
+
+    /**
+     * The value exactly as it was sent in the request.
+     */
+    public final String encoded;
+
+    /**
+     * The object that was handed to the action, if the identity of the object matters.
+     */
+    public final Object source;
+
+    public RetrievedCookie(Object source, Object decoded, String encoded, boolean current) {
+      this.source = source;
+      this.decoded = decoded;
+      this.encoded = encoded;
+      this.current = current;
+    }
+  }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021-2024, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2021-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package org.primeframework.mvc.scope;
 
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fusionauth.http.Cookie;
@@ -24,6 +25,7 @@ import io.fusionauth.http.server.HTTPResponse;
 import org.primeframework.mvc.ErrorException;
 import org.primeframework.mvc.security.Encryptor;
 import org.primeframework.mvc.util.CookieTools;
+import org.primeframework.mvc.util.CookieTools.DecodedCookie;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,9 +57,20 @@ public abstract class BaseBrowserSessionScope<T extends Annotation> extends Abst
 
     boolean compress = compress(scope);
     boolean encrypt = encrypt(scope);
+    String cookieName = getCookieName(fieldName, scope);
     try {
-      String cookieValue = CookieTools.toJSONCookie(value, compress, encrypt, encryptor, objectMapper);
-      Cookie cookie = new Cookie(getCookieName(fieldName, scope), cookieValue);
+      byte[] json = objectMapper.writeValueAsBytes(value);
+
+      // If the value serializes to the same JSON that was in the request and the cookie is in the current format, skip
+      // compressing and encrypting it again
+      RetrievedCookie retrieved = retrievedCookies.get(cookieName);
+      if (retrieved != null && retrieved.current && Arrays.equals(json, (byte[]) retrieved.decoded)) {
+        Cookie cookie = new Cookie(cookieName, retrieved.encoded);
+        setCookieValues(cookie, scope);
+        return isPersistent(cookie) ? cookie : UNCHANGED;
+      }
+
+      Cookie cookie = new Cookie(cookieName, CookieTools.toCookie(json, compress, encrypt, encryptor));
       setCookieValues(cookie, scope);
       return cookie;
     } catch (Exception e) {
@@ -88,9 +101,23 @@ public abstract class BaseBrowserSessionScope<T extends Annotation> extends Abst
       return null;
     }
 
+    boolean compress = compress(scope);
     boolean encrypt = encrypt(scope);
     try {
-      return CookieTools.fromJSONCookie(value, type, encrypt, encrypt, encryptor, objectMapper);
+      DecodedCookie<byte[]> decoded = CookieTools.decodeCookie(value, compress, encrypt, encryptor, r -> r, r -> r);
+      if (decoded == null) {
+        return null;
+      }
+
+      byte[] json = decoded.value;
+      Object result = objectMapper.readerFor(type).readValue(json);
+
+      // Remember the JSON, and whether it is in the current format, so that an unchanged value isn't encoded and written again
+      if (result != null) {
+        retrievedCookies.put(getCookieName(fieldName, scope), new RetrievedCookie(result, json, value, decoded.current));
+      }
+
+      return result;
     } catch (Exception e) {
       String message = e.getClass().getCanonicalName() + " " + e.getMessage();
       if (encrypt) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021-2025, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2021-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import io.fusionauth.http.server.HTTPResponse;
 import org.primeframework.mvc.ErrorException;
 import org.primeframework.mvc.security.Encryptor;
 import org.primeframework.mvc.util.CookieTools;
+import org.primeframework.mvc.util.CookieTools.DecodedCookie;
 import org.primeframework.mvc.util.ThrowingFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,6 +62,16 @@ public abstract class BaseManagedCookieScope<T extends Annotation> extends Abstr
       return null;
     }
 
+    // If the action didn't change the cookie and it is in the current format, skip encoding it again. Request cookies
+    // never have a domain or expiration, so if either is set the action changed the cookie.
+    RetrievedCookie retrieved = retrievedCookies.get(cookie.name);
+    if (retrieved != null && retrieved.source == value && cookieValue.equals(retrieved.decoded) && cookie.domain == null &&
+        cookie.expires == null && retrieved.current) {
+      cookie.value = retrieved.encoded;
+      setCookieValues(cookie, scope);
+      return isPersistent(cookie) ? cookie : UNCHANGED;
+    }
+
     byte[] result = cookieValue.getBytes(StandardCharsets.UTF_8);
     try {
       cookie.value = CookieTools.toCookie(result, compress, encrypt, encryptor);
@@ -113,18 +124,27 @@ public abstract class BaseManagedCookieScope<T extends Annotation> extends Abstr
       //  JSON string and truncate the newline onward. Starting in 4.30.0 all cookies are written with header bytes to avoid this issue.
       ThrowingFunction<byte[], String> oldFunction = r -> objectMapper.readerFor(String.class).readValue(r);
       ThrowingFunction<byte[], String> newFunction = r -> new String(r, StandardCharsets.UTF_8);
+      DecodedCookie<String> decoded;
       if (compress || encrypt) {
         // If a cookie meant to be compressed or encrypted according to the annotation, the processing must succeed.
-        cookie.value = CookieTools.fromCookie(cookieValue, encrypt, encrypt, encryptor, oldFunction, newFunction);
+        decoded = CookieTools.decodeCookie(cookieValue, compress, encrypt, encryptor, oldFunction, newFunction);
       } else {
         try {
           // If a managed cookie is not compressed or encrypted, attempt to parse. If parsing fails (Exception), assume a legacy cookie that had the proper value in it.
-          cookie.value = CookieTools.fromCookie(cookieValue, false, false, encryptor, oldFunction, newFunction);
+          decoded = CookieTools.decodeCookie(cookieValue, false, false, encryptor, oldFunction, newFunction);
         } catch (Throwable t) {
           // Smother because the cookie already has the value in it
+          return cookie;
         }
       }
 
+      cookie.value = decoded != null ? decoded.value : null;
+
+      // Remember the value, and whether it is in the current format, so that an unchanged cookie isn't encoded and written again
+      if (cookie.value != null) {
+        retrievedCookies.put(cookieName, new RetrievedCookie(cookie, cookie.value, cookieValue, decoded.current));
+      }
+
       return cookie;
     } catch (Exception e) {
       String message = e.getClass().getCanonicalName() + " " + e.getMessage();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2007, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,17 +16,31 @@
 package org.primeframework.mvc.scope;
 
 import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
 
 import com.google.inject.Inject;
 import com.google.inject.Injector;
-import org.primeframework.mvc.scope.annotation.ScopeAnnotation;
+import io.fusionauth.http.server.HTTPRequest;
+import org.primeframework.mvc.http.HTTPObjectsHolder;
 
 /**
- * This class implements the scope provider interface and creates scope instances via Guice.
+ * This class implements the scope provider interface and creates scope instances via Guice. Scope instances are created
+ * once per request and reused for every scoped field that is retrieved or stored during that request.
  *
  * @author Brian Pontarelli
  */
+@SuppressWarnings("unchecked")
 public class DefaultScopeProvider implements ScopeProvider {
+  public static final String SCOPES_KEY = "primeScopes";
+
+  private static final ClassValue<Class<? extends Scope<?>>> scopeTypes = new ClassValue<>() {
+    @Override
+    protected Class<? extends Scope<?>> computeValue(Class<?> type) {
+      return ScopeField.scopeType((Class<? extends Annotation>) type);
+    }
+  };
+
   private final Injector injector;
 
   @Inject
@@ -38,7 +52,35 @@ public class DefaultScopeProvider implements ScopeProvider {
    * {@inheritDoc}
    */
   public Scope lookup(Class<? extends Annotation> scopeAnnotation) {
-    ScopeAnnotation ca = scopeAnnotation.getAnnotation(ScopeAnnotation.class);
-    return injector.getInstance(ca.value());
+    return lookupScope(scopeTypes.get(scopeAnnotation));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Scope<?> lookup(ScopeField scopeField) {
+    return lookupScope(scopeField.scopeType);
+  }
+
+  private Scope<?> lookupScope(Class<? extends Scope<?>> scopeType) {
+    HTTPRequest request = HTTPObjectsHolder.getRequest();
+    if (request == null) {
+      return injector.getInstance(scopeType);
+    }
+
+    Map<Class<?>, Scope<?>> scopes = (Map<Class<?>, Scope<?>>) request.getAttribute(SCOPES_KEY);
+    if (scopes == null) {
+      scopes = new HashMap<>(4);
+      request.setAttribute(SCOPES_KEY, scopes);
+    }
+
+    Scope<?> scope = scopes.get(scopeType);
+    if (scope == null) {
+      scope = injector.getInstance(scopeType);
+      scopes.put(scopeType, scope);
+    }
+
+    return scope;
   }
-}
\ No newline at end of file
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2017-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,16 +15,12 @@
  */
 package org.primeframework.mvc.scope;
 
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
-import java.lang.reflect.TypeVariable;
 import java.util.List;
 
 import com.google.inject.Inject;
 import org.primeframework.mvc.action.ActionInvocation;
 import org.primeframework.mvc.action.config.ActionConfiguration;
 import org.primeframework.mvc.util.ReflectionUtils;
-import org.primeframework.mvc.util.TypeTools;
 
 /**
  * @author Daniel DeGroff
@@ -43,17 +39,11 @@ public class DefaultScopeRetriever implements ScopeRetriever {
     List<ScopeField> scopeFields = (actionConfiguration != null) ? actionConfiguration.scopeFields : null;
     if (actionInvocation.action != null && scopeFields != null && scopeFields.size() > 0) {
       for (ScopeField scopeField : scopeFields) {
-        Scope scope = scopeProvider.lookup(scopeField.annotationType);
+        Scope scope = scopeProvider.lookup(scopeField);
 
-        // Optionally resolve generic type
-        Type type = scopeField.field.getGenericType();
-        if (type instanceof TypeVariable<?>) {
-          type = TypeTools.resolveGenericType(scopeField.field.getDeclaringClass(), actionInvocation.action.getClass(), (TypeVariable<?>) type);
-        } else if (type instanceof ParameterizedType) {
-          type = ((ParameterizedType) type).getRawType();
-        }
-
-        Object value = scope.get(scopeField.field.getName(), (Class<?>) type, scopeField.annotation);
+        // The type is resolved when the configuration is built unless it depends on the action instance
+        Class<?> type = scopeField.type != null ? scopeField.type : ScopeField.resolveType(scopeField.field, actionInvocation.action.getClass());
+        Object value = scope.get(scopeField.name, type, scopeField.annotation);
         if (value != null) {
           ReflectionUtils.setField(scopeField.field, actionInvocation.action, value);
         }
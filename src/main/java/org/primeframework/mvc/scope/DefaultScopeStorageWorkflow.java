@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2019, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -69,9 +69,9 @@ public class DefaultScopeStorageWorkflow implements ScopeStorageWorkflow {
   @SuppressWarnings("unchecked")
   protected void storeScopedMembers(Object action, List<ScopeField> scopeFields) {
     for (ScopeField scopeField : scopeFields) {
-      Scope scope = scopeProvider.lookup(scopeField.annotationType);
+      Scope scope = scopeProvider.lookup(scopeField);
       Object value = ReflectionUtils.getField(scopeField.field, action);
-      scope.set(scopeField.field.getName(), value, scopeField.annotation);
+      scope.set(scopeField.name, value, scopeField.annotation);
     }
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2012-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,9 +17,16 @@ package org.primeframework.mvc.scope;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+
+import org.primeframework.mvc.scope.annotation.ScopeAnnotation;
+import org.primeframework.mvc.util.TypeTools;
 
 /**
- * Fields and their scope annotation.
+ * Fields and their scope annotation. The scope class and the type used to retrieve the value from the scope are
+ * resolved once when the action configuration is built rather than on each request.
  *
  * @author Brian Pontarelli
  */
@@ -30,9 +37,65 @@ public class ScopeField {
 
   public final Field field;
 
+  public final String name;
+
+  public final Class<? extends Scope<?>> scopeType;
+
+  /**
+   * The type of the field resolved against the action class, or null if it must be resolved against the action
+   * instance.
+   */
+  public final Class<?> type;
+
   public ScopeField(Field field, Annotation annotation) {
+    this(field, annotation, null);
+  }
+
+  public ScopeField(Field field, Annotation annotation, Class<?> actionClass) {
     this.annotation = annotation;
     this.field = field;
     this.annotationType = annotation.annotationType();
+    this.name = field.getName();
+    this.scopeType = scopeType(annotationType);
+    this.type = actionClass != null ? precomputeType(field, actionClass) : null;
+  }
+
+  /**
+   * Resolves the type of the field for the given action class. Type variables are resolved using the action class and
+   * parameterized types are reduced to their raw type.
+   *
+   * @param field       The field.
+   * @param actionClass The class of the action.
+   * @return The type.
+   */
+  public static Class<?> resolveType(Field field, Class<?> actionClass) {
+    Type type = field.getGenericType();
+    if (type instanceof TypeVariable<?>) {
+      type = TypeTools.resolveGenericType(field.getDeclaringClass(), actionClass, (TypeVariable<?>) type);
+    } else if (type instanceof ParameterizedType) {
+      type = ((ParameterizedType) type).getRawType();
+    }
+
+    return (Class<?>) type;
+  }
+
+  /**
+   * Looks up the Scope class for the given scope annotation.
+   *
+   * @param annotationType The scope annotation type.
+   * @return The Scope class.
+   */
+  @SuppressWarnings("unchecked")
+  static Class<? extends Scope<?>> scopeType(Class<? extends Annotation> annotationType) {
+    return (Class<? extends Scope<?>>) annotationType.getAnnotation(ScopeAnnotation.class).value();
+  }
+
+  private static Class<?> precomputeType(Field field, Class<?> actionClass) {
+    try {
+      return resolveType(field, actionClass);
+    } catch (RuntimeException e) {
+      // Leave it to be resolved against the action instance, which reports the failure at request time as it always has
+      return null;
+    }
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2007, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,4 +30,15 @@ public interface ScopeProvider {
    * @return The Scope and never null.
    */
   Scope lookup(Class<? extends Annotation> scopeAnnotation);
+
+  /**
+   * Looks up the scope for the given scope field using the scope class that was resolved when the action configuration
+   * was built.
+   *
+   * @param scopeField The scope field.
+   * @return The Scope and never null.
+   */
+  default Scope<?> lookup(ScopeField scopeField) {
+    return lookup(scopeField.annotationType);
+  }
 }
\ No newline at end of file
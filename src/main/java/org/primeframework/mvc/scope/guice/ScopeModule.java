@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012-2017, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2012-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package org.primeframework.mvc.scope.guice;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Singleton;
 import org.primeframework.mvc.scope.DefaultScopeProvider;
 import org.primeframework.mvc.scope.DefaultScopeRetrievalWorkflow;
 import org.primeframework.mvc.scope.DefaultScopeRetriever;
@@ -32,17 +33,17 @@ import org.primeframework.mvc.scope.ScopeStorageWorkflow;
  */
 public class ScopeModule extends AbstractModule {
   protected void bindScopeRetrievalWorkflow() {
-    bind(ScopeRetrievalWorkflow.class).to(DefaultScopeRetrievalWorkflow.class);
+    bind(ScopeRetrievalWorkflow.class).to(DefaultScopeRetrievalWorkflow.class).in(Singleton.class);
   }
 
   protected void bindScopeStorageWorkflow() {
-    bind(ScopeStorageWorkflow.class).to(DefaultScopeStorageWorkflow.class);
+    bind(ScopeStorageWorkflow.class).to(DefaultScopeStorageWorkflow.class).in(Singleton.class);
   }
 
   @Override
   protected void configure() {
-    bind(ScopeRetriever.class).to(DefaultScopeRetriever.class);
-    bind(ScopeProvider.class).to(DefaultScopeProvider.class);
+    bind(ScopeRetriever.class).to(DefaultScopeRetriever.class).in(Singleton.class);
+    bind(ScopeProvider.class).to(DefaultScopeProvider.class).in(Singleton.class);
 
     bindScopeRetrievalWorkflow();
     bindScopeStorageWorkflow();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2017, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2015-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,18 +39,27 @@ public abstract class AbstractAPISecurityScheme implements SecurityScheme {
 
   @Override
   public void handle(String[] constraints) {
+    if (!tryHandle(constraints)) {
+      throw new UnauthenticatedException();
+    }
+  }
+
+  @Override
+  public boolean tryHandle(String[] constraints) {
     ActionInvocation actionInvocation = actionInvocationStore.getCurrent();
 
     String actionURI = actionInvocation.actionURI;
     String authenticationKey = authenticationKey();
     if (authenticationKey == null) {
-      throw new UnauthenticatedException();
+      return false;
     }
 
     Set<String> allowedMethods = allowedMethods(authenticationKey, actionURI);
     if (!allowedMethods.contains(actionInvocation.method.httpMethod.toString())) {
       throw new UnauthorizedException();
     }
+
+    return true;
   }
 
   /**
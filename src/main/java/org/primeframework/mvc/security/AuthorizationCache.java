@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.security;
+
+import java.time.ZonedDateTime;
+import java.util.function.BooleanSupplier;
+
+/**
+ * An optional cache of authorization decisions. When this is bound, the {@link DefaultUserLoginConstraintValidator}
+ * and the {@link JWTSecurityScheme} remember the result of validating a set of constraints for a principal so that the
+ * roles aren't loaded and checked again on every request.
+ * <p>
+ * This is not bound by default. To enable it, bind it as a singleton:
+ *
+ * <pre>
+ *   bind(AuthorizationCache.class).to(DefaultAuthorizationCache.class).in(Singleton.class);
+ * </pre>
+ */
+public interface AuthorizationCache {
+  /**
+   * Removes all the decisions cached for the principal. This is called when the user logs out or is updated.
+   *
+   * @param principal The principal.
+   */
+  void invalidate(String principal);
+
+  /**
+   * Returns the cached decision for the principal and constraints or calls the validator and caches the result.
+   *
+   * @param principal   Identifies who is being authorized, such as the session id or a digest of the JWT.
+   * @param expiration  When the decision must no longer be used, such as the JWT expiration. This may be null in which
+   *                    case the cache decides how long to keep the decision.
+   * @param constraints The constraints being validated.
+   * @param validator   Validates the constraints if there is no cached decision.
+   * @return The decision.
+   */
+  boolean validate(String principal, ZonedDateTime expiration, String[] constraints, BooleanSupplier validator);
+}
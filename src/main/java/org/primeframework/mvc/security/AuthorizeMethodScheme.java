@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017-2018, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2017-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -52,20 +52,27 @@ public class AuthorizeMethodScheme implements SecurityScheme {
 
   @Override
   public void handle(String[] constraints) {
+    if (!tryHandle(constraints)) {
+      throw new UnauthenticatedException();
+    }
+  }
+
+  @Override
+  public boolean tryHandle(String[] constraints) {
     ActionInvocation actionInvocation = actionInvocationStore.getCurrent();
 
     Object[] parameters = new Object[]{};
     ActionConfiguration actionConfiguration = actionInvocation.configuration;
 
     HTTPMethod method = request.getMethod();
-    // If this scheme is not configured for this method, throw UnauthenticatedException.
+    // If this scheme is not configured for this method, the request is not authenticated.
     //
     // - For example, using 'api' and 'authorize-method' schemes. The API key is omitted, so the next scheme used will be
     //   the 'authorize-method' (this scheme). In this case, if the Authorize Method is only configured for POST and
-    //   this is a DELETE method, we need to throw an exception so we that we don't continue the current workflow.
-    // - Throwing UnauthenticatedException will allow an additional scheme to be executed if configured.
+    //   this is a DELETE method, we need to fail so we that we don't continue the current workflow.
+    // - Returning false will allow an additional scheme to be executed if configured.
     if (!actionConfiguration.authorizationMethods.containsKey(method)) {
-      throw new UnauthenticatedException();
+      return false;
     }
 
     for (AuthorizationMethodConfiguration methodConfig : actionConfiguration.authorizationMethods.get(method)) {
@@ -82,5 +89,7 @@ public class AuthorizeMethodScheme implements SecurityScheme {
         throw new PrimeException("Unable to invoke @AuthorizeMethod on the class [" + actionConfiguration.actionClass + "]", e);
       }
     }
+
+    return true;
   }
 }
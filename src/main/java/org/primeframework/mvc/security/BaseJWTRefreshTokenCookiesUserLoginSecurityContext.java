@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2025, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2015-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.inject.Inject;
 import io.fusionauth.http.Cookie.SameSite;
 import io.fusionauth.http.HTTPValues.ContentTypes;
 import io.fusionauth.http.HTTPValues.Headers;
@@ -75,6 +76,8 @@ public abstract class BaseJWTRefreshTokenCookiesUserLoginSecurityContext impleme
 
   protected final VerifierProvider verifierProvider;
 
+  private AuthorizationCache authorizationCache;
+
   protected BaseJWTRefreshTokenCookiesUserLoginSecurityContext(HTTPRequest request, HTTPResponse response, VerifierProvider verifierProvider) {
     this.request = request;
     this.response = response;
@@ -159,18 +162,26 @@ public abstract class BaseJWTRefreshTokenCookiesUserLoginSecurityContext impleme
 
   @Override
   public void logout() {
+    invalidateAuthorizations();
     jwtCookie.delete(request, response);
     refreshTokenCookie.delete(request, response);
   }
 
   @Override
   public void updateUser(Object user) {
+    invalidateAuthorizations();
+
     Object currentUser = request.getAttribute(UserKey);
     if (currentUser != null) {
       request.setAttribute(UserKey, user);
     }
   }
 
+  @Inject(optional = true)
+  public void setAuthorizationCache(AuthorizationCache authorizationCache) {
+    this.authorizationCache = authorizationCache;
+  }
+
   protected SameSite cookieSameSite() {
     return SameSite.Strict;
   }
@@ -255,6 +266,14 @@ public abstract class BaseJWTRefreshTokenCookiesUserLoginSecurityContext impleme
     return tokens;
   }
 
+  private void invalidateAuthorizations() {
+    // Only use tokens that were already resolved for this request, resolving them here could cause a refresh
+    Tokens tokens = (Tokens) request.getAttribute(ContextKey);
+    if (authorizationCache != null && tokens != null && tokens.decodedJWT != null) {
+      authorizationCache.invalidate(tokens.decodedJWT.getString("sid"));
+    }
+  }
+
   private Tokens refreshJWT(Tokens tokens) {
     tokens.jwt = null;
     tokens.decodedJWT = null;
@@ -337,6 +356,11 @@ public abstract class BaseJWTRefreshTokenCookiesUserLoginSecurityContext impleme
       refreshTokenCookie.add(request, response, tokens.refreshToken);
     }
 
+    // The refreshed JWT may carry different roles for the same session
+    if (authorizationCache != null && tokens.decodedJWT != null) {
+      authorizationCache.invalidate(tokens.decodedJWT.getString("sid"));
+    }
+
     return tokens;
   }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2024-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.time.ZonedDateTime;
 import java.util.Optional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.inject.Inject;
 import io.fusionauth.http.Cookie;
 import io.fusionauth.http.server.HTTPRequest;
 import io.fusionauth.http.server.HTTPResponse;
@@ -47,6 +48,8 @@ public abstract class BaseUserIdCookieSecurityContext<T> implements UserLoginSec
 
   private final Clock clock;
 
+  private AuthorizationCache authorizationCache;
+
   private final Encryptor encryptor;
 
   private final ObjectMapper objectMapper;
@@ -139,6 +142,7 @@ public abstract class BaseUserIdCookieSecurityContext<T> implements UserLoginSec
 
   @Override
   public void logout() {
+    invalidateAuthorizations();
     deleteCookies();
   }
 
@@ -149,12 +153,19 @@ public abstract class BaseUserIdCookieSecurityContext<T> implements UserLoginSec
    */
   @Override
   public void updateUser(Object user) {
+    invalidateAuthorizations();
+
     Object currentUser = request.getAttribute(UserKey);
     if (currentUser != null) {
       request.setAttribute(UserKey, user);
     }
   }
 
+  @Inject(optional = true)
+  public void setAuthorizationCache(AuthorizationCache authorizationCache) {
+    this.authorizationCache = authorizationCache;
+  }
+
   /**
    * Creates a new context that can be persisted in the session
    *
@@ -275,4 +286,10 @@ public abstract class BaseUserIdCookieSecurityContext<T> implements UserLoginSec
     // the cookie is now invalid
     Invalid
   }
+
+  private void invalidateAuthorizations() {
+    if (authorizationCache != null) {
+      authorizationCache.invalidate(getSessionId());
+    }
+  }
 }
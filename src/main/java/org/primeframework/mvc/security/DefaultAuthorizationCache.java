@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.RatioGauge;
+import com.google.inject.Inject;
+
+/**
+ * Default authorization cache that keeps the decisions for each principal in memory. The decisions for a principal
+ * expire when the token they were made for expires or after the time to live, whichever is first. The number of
+ * principals is bounded, once the maximum is reached the expired principals are removed and then arbitrary principals
+ * until the cache is back under the maximum.
+ * <p>
+ * If a {@link MetricRegistry} is bound, the hits and misses are reported as the
+ * <code>prime-mvc.authorization-cache.hits</code> and <code>prime-mvc.authorization-cache.misses</code> meters and
+ * the <code>prime-mvc.authorization-cache.hit-ratio</code> gauge.
+ */
+public class DefaultAuthorizationCache implements AuthorizationCache {
+  private final Clock clock;
+
+  private final Map<String, Decisions> decisions = new ConcurrentHashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+
+  private final int maximumSize;
+
+  private final LongAdder misses = new LongAdder();
+
+  private final long timeToLive;
+
+  private Meter hitMeter;
+
+  private Meter missMeter;
+
+  @Inject
+  public DefaultAuthorizationCache() {
+    this(Clock.systemUTC(), 10_000, Duration.ofMinutes(5));
+  }
+
+  /**
+   * @param clock       The clock used to expire decisions.
+   * @param maximumSize The maximum number of principals to keep decisions for.
+   * @param timeToLive  The longest a decision is kept, even if the token it was made for is still valid.
+   */
+  public DefaultAuthorizationCache(Clock clock, int maximumSize, Duration timeToLive) {
+    this.clock = clock;
+    this.maximumSize = maximumSize;
+    this.timeToLive = timeToLive.toMillis();
+  }
+
+  /**
+   * @return The ratio of validations that were answered from the cache since it was created.
+   */
+  public double getHitRatio() {
+    long hits = this.hits.sum();
+    long total = hits + misses.sum();
+    return total == 0 ? 0 : (double) hits / total;
+  }
+
+  @Override
+  public void invalidate(String principal) {
+    if (principal != null) {
+      decisions.remove(principal);
+    }
+  }
+
+  @Inject(optional = true)
+  public void setMetricRegistry(MetricRegistry metricRegistry) {
+    hitMeter = metricRegistry.meter("prime-mvc.authorization-cache.hits");
+    missMeter = metricRegistry.meter("prime-mvc.authorization-cache.misses");
+
+    // The ratio uses the meters rather than this instance so that it stays correct when the injector is replaced
+    Meter hitMeter = this.hitMeter;
+    Meter missMeter = this.missMeter;
+    metricRegistry.gauge("prime-mvc.authorization-cache.hit-ratio", () -> new RatioGauge() {
+      @Override
+      protected Ratio getRatio() {
+        return Ratio.of(hitMeter.getCount(), hitMeter.getCount() + missMeter.getCount());
+      }
+    });
+  }
+
+  @Override
+  public boolean validate(String principal, ZonedDateTime expiration, String[] constraints, BooleanSupplier validator) {
+    long now = clock.millis();
+    Decisions current = decisions.get(principal);
+    if (current != null && current.expiresAt <= now) {
+      decisions.remove(principal, current);
+      current = null;
+    }
+
+    if (current != null) {
+      Boolean result = current.results.get(Arrays.asList(constraints));
+      if (result != null) {
+        hits.increment();
+        mark(hitMeter);
+        return result;
+      }
+    }
+
+    misses.increment();
+    mark(missMeter);
+
+    if (current == null) {
+      long expiresAt = now + timeToLive;
+      if (expiration != null) {
+        expiresAt = Math.min(expiresAt, expiration.toInstant().toEpochMilli());
+      }
+
+      if (expiresAt <= now) {
+        return validator.getAsBoolean();
+      }
+
+      long finalExpiresAt = expiresAt;
+      current = decisions.computeIfAbsent(principal, key -> new Decisions(finalExpiresAt));
+      if (decisions.size() > maximumSize) {
+        evict(now);
+      }
+    }
+
+    // The decisions are looked up before validating so that an invalidate while the validator runs removes them from the
+    // cache. The result is then stored in decisions that are no longer reachable rather than outliving the invalidation.
+    boolean result = validator.getAsBoolean();
+    current.results.put(List.of(constraints), result);
+    return result;
+  }
+
+  private void evict(long now) {
+    decisions.values().removeIf(d -> d.expiresAt <= now);
+
+    // Remove a little more than needed so that every new principal doesn't cause another pass
+    int target = maximumSize - Math.max(1, maximumSize / 10);
+    Iterator<String> iterator = decisions.keySet().iterator();
+    while (decisions.size() > target && iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+    }
+  }
+
+  private void mark(Meter meter) {
+    if (meter != null) {
+      meter.mark();
+    }
+  }
+
+  /**
+   * The decisions for a single principal keyed by the constraints.
+   */
+  private static final class Decisions {
+    final long expiresAt;
+
+    final Map<List<String>, Boolean> results = new ConcurrentHashMap<>();
+
+    Decisions(long expiresAt) {
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020-2024, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2020-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,20 +39,26 @@ public class DefaultEncryptor implements Encryptor {
 
   @Override
   public byte[] decrypt(byte[] bytes) throws Exception {
+    return decryptAndCheck(bytes).bytes;
+  }
+
+  @Override
+  public Decrypted decryptAndCheck(byte[] bytes) throws Exception {
     // The first 16 bytes contain the initialization vector (IV)
     byte[] iv = Arrays.copyOfRange(bytes, 0, 16);
     // The remainder contains the encrypted bytes
     byte[] encryptedBytes = Arrays.copyOfRange(bytes, 16, bytes.length);
 
     try {
-      // Attempt to decrypt using AES/GCM
+      // Attempt to decrypt using AES/GCM. GCM authenticates the bytes, so they only decrypt if they were encrypted with
+      // GCM and the current key.
       Cipher cipher = gcmCipherProvider.getDecryptor(iv);
-      return doDecrypt(encryptedBytes, cipher);
+      return new Decrypted(doDecrypt(encryptedBytes, cipher), true);
     } catch (GeneralSecurityException gcmException) {
       // If GCM failed, try decrypting in CBC mode
       try {
         Cipher cipher = cbcCipherProvider.getDecryptor(iv);
-        return doDecrypt(encryptedBytes, cipher);
+        return new Decrypted(doDecrypt(encryptedBytes, cipher), false);
       } catch (GeneralSecurityException cbcException) {
         // If CBC also failed, re-throw the original GCM exception
         throw gcmException;
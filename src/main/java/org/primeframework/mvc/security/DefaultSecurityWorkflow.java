@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2023, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2015-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,27 +16,40 @@
 package org.primeframework.mvc.security;
 
 import java.io.IOException;
-import java.util.Collection;
 
 import com.google.inject.Inject;
 import org.primeframework.mvc.PrimeException;
 import org.primeframework.mvc.action.ActionInvocation;
 import org.primeframework.mvc.action.ActionInvocationStore;
-import org.primeframework.mvc.action.ConstraintOverrideMethodConfiguration;
+import org.primeframework.mvc.action.ExecuteMethodConfiguration;
 import org.primeframework.mvc.action.annotation.Action;
 import org.primeframework.mvc.config.MVCConfiguration;
-import org.primeframework.mvc.security.annotation.AnonymousAccess;
-import org.primeframework.mvc.security.annotation.ConstraintOverride;
 import org.primeframework.mvc.security.guice.SecuritySchemeFactory;
-import org.primeframework.mvc.util.ReflectionUtils;
 import org.primeframework.mvc.workflow.WorkflowChain;
 
 /**
  * Default security workflow that uses the {@link MVCConfiguration} and the {@link Action} annotation to manage the security constraints for actions.
+ * <p>
+ * The decisions that don't change between requests, such as whether the method allows anonymous access and which constraints apply, are built
+ * once per action and HTTP method into a {@link SecurityPlan}. Schemes are chained using {@link SecurityScheme#tryHandle(String[])} so that
+ * falling through to the next scheme doesn't require an exception.
  *
  * @author Brian Pontarelli
  */
 public class DefaultSecurityWorkflow implements SecurityWorkflow {
+  private static final ClassValue<Boolean> TRY_HANDLE = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      try {
+        Class<?> handle = type.getMethod("handle", String[].class).getDeclaringClass();
+        Class<?> tryHandle = type.getMethod("tryHandle", String[].class).getDeclaringClass();
+        return handle.isAssignableFrom(tryHandle);
+      } catch (NoSuchMethodException e) {
+        return false;
+      }
+    }
+  };
+
   private final ActionInvocationStore actionInvocationStore;
 
   private final SecuritySchemeFactory factory;
@@ -55,74 +68,79 @@ public class DefaultSecurityWorkflow implements SecurityWorkflow {
       return;
     }
 
-    Action actionAnnotation = actionInvocation.configuration.annotation;
-    if (!actionAnnotation.requiresAuthentication()) {
+    if (!actionInvocation.configuration.annotation.requiresAuthentication()) {
       workflowChain.continueWorkflow();
       return;
     }
 
-    if (actionInvocation.method.annotations.containsKey(AnonymousAccess.class)) {
+    SecurityPlan plan = plan(actionInvocation);
+    if (!plan.secured) {
       workflowChain.continueWorkflow();
       return;
     }
 
     String[] constraints = getConstraints(actionInvocation);
-    for (String scheme : actionInvocation.configuration.securitySchemes) {
+    for (String scheme : plan.schemes) {
       SecurityScheme securityScheme = factory.build(scheme);
       if (securityScheme == null) {
         throw new PrimeException("You have specified an invalid security scheme named [" + scheme + "]");
       }
 
-      // Catch UnauthenticatedException and continue, allow UnauthorizedException to propagate.
-      try {
-        securityScheme.handle(constraints);
+      // Continue to the next security scheme if this one can't authenticate the request, allow UnauthorizedException to propagate.
+      if (handle(securityScheme, constraints)) {
         workflowChain.continueWorkflow();
         return;
-      } catch (UnauthenticatedException ignore) {
-        // Continue, to the next security scheme.
       }
     }
 
     throw new UnauthenticatedException();
   }
 
+  /**
+   * Returns the constraints for the current request. See {@link SecurityPlan} for the order in which the constraints are
+   * resolved.
+   *
+   * @param actionInvocation The current action invocation.
+   * @return The constraints.
+   */
   protected String[] getConstraints(ActionInvocation actionInvocation) {
-    // Order of operation:
-    // 1. Constraint override on an HTTP method handler.
-    //    - This overrides all other options for a single method on the action such as
-    //      get() or post().
-    //    - These values have the same restrictions as the @Action annotation in that
-    //      they must be constant strings. So this may cramp your style.
-    //
-    // 2. Constraint override method.
-    //    - This overrides the constraints for one or more HTTP methods per the annotation.
-    //    - This could be helpful if you want to dynamically build constraints, or
-    //      if your constraints aren't strings. The method can return a Collection of
-    //      anything, and we'll simply call toString() to get a string value for the
-    //      constraint to pass into the constraint validator.
-    //
-    // 3. Constraints provided in the @Action annotation.
-    //
-    // Note there is no fall through, if you use either override in step 1 or 2, this
-    // will "override" the constraints, and we won't look at any values defined in the
-    // @Action annotation.
-
-    // Validate constraints, if provided on the method, this will override the ones on the @Action
-    ConstraintOverride constraint = (ConstraintOverride) actionInvocation.method.annotations.get(ConstraintOverride.class);
-    if (constraint != null) {
-      return constraint.value();
+    return plan(actionInvocation).constraints(actionInvocation.action);
+  }
+
+  /**
+   * Calls the scheme using {@link SecurityScheme#tryHandle(String[])} unless the scheme is a subclass that only
+   * overrides {@link SecurityScheme#handle(String[])}, in which case the override is called and the
+   * UnauthenticatedException it throws is caught.
+   */
+  private boolean handle(SecurityScheme scheme, String[] constraints) {
+    if (TRY_HANDLE.get(scheme.getClass())) {
+      return scheme.tryHandle(constraints);
+    }
+
+    try {
+      scheme.handle(constraints);
+      return true;
+    } catch (UnauthenticatedException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Returns the security plan for the current request. The plan is cached on the action configuration for each HTTP
+   * method unless the invocation uses an execute method that doesn't belong to the configuration.
+   */
+  private SecurityPlan plan(ActionInvocation actionInvocation) {
+    ExecuteMethodConfiguration method = actionInvocation.method;
+    SecurityPlan plan = actionInvocation.configuration.securityPlans.get(method.httpMethod);
+    if (plan != null && plan.method == method) {
+      return plan;
     }
 
-    // If we have a constraint override method, this will override the ones on the @Action
-    ConstraintOverrideMethodConfiguration configuration = actionInvocation.configuration.constraintValidationMethods.get(actionInvocation.method.httpMethod);
-    if (configuration != null) {
-      Object constraints = ReflectionUtils.invoke(configuration.method, actionInvocation.action);
-      return constraints != null
-          ? ((Collection<?>) constraints).stream().map(Object::toString).toList().toArray(String[]::new)
-          : new String[]{};
+    plan = new SecurityPlan(actionInvocation.configuration, method);
+    if (actionInvocation.configuration.executeMethods.get(method.httpMethod) == method) {
+      actionInvocation.configuration.securityPlans.put(method.httpMethod, plan);
     }
 
-    // Else, fall back to the busted ol' plain constraints. I guess they could still be cool.
-    return actionInvocation.configuration.annotation.constraints();
+    return plan;
   }
 }
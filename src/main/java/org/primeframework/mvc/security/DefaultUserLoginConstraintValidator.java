@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2017-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,13 +22,20 @@ import com.google.inject.Inject;
 
 /**
  * Default User Login constraints validator. If the UserLoginSecurityContext is available ensure the logged in user
- * meets the required constraints.
+ * meets the required constraints. If an {@link AuthorizationCache} is bound, the decision is cached for the session.
  *
  * @author Daniel DeGroff
  */
 public class DefaultUserLoginConstraintValidator implements UserLoginConstraintsValidator {
+  private AuthorizationCache authorizationCache;
+
   private UserLoginSecurityContext userLoginSecurityContext;
 
+  @Inject(optional = true)
+  public void setAuthorizationCache(AuthorizationCache authorizationCache) {
+    this.authorizationCache = authorizationCache;
+  }
+
   @Inject(optional = true)
   public void setUserLoginSecurityContext(UserLoginSecurityContext userLoginSecurityContext) {
     this.userLoginSecurityContext = userLoginSecurityContext;
@@ -41,10 +48,19 @@ public class DefaultUserLoginConstraintValidator implements UserLoginConstraints
     }
 
     if (constraints.length > 0) {
-      Set<String> userRoles = userLoginSecurityContext.getCurrentUsersRoles();
-      return Arrays.stream(constraints).anyMatch(userRoles::contains);
+      String sessionId = authorizationCache != null ? userLoginSecurityContext.getSessionId() : null;
+      if (sessionId != null) {
+        return authorizationCache.validate(sessionId, null, constraints, () -> hasAnyRole(constraints));
+      }
+
+      return hasAnyRole(constraints);
     }
 
     return true;
   }
+
+  private boolean hasAnyRole(String[] constraints) {
+    Set<String> userRoles = userLoginSecurityContext.getCurrentUsersRoles();
+    return Arrays.stream(constraints).anyMatch(userRoles::contains);
+  }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2016-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,4 +36,31 @@ public interface Encryptor {
    * @return The encrypted bytes.
    */
   byte[] encrypt(byte[] bytes) throws Exception;
+
+  /**
+   * Decrypt a set of bytes and determine if they were encrypted by {@link #encrypt(byte[])} with the current cipher and
+   * key. Bytes encrypted with a legacy cipher or an older key can still be decrypted, but must be encrypted again before
+   * they are sent back rather than reused as-is.
+   *
+   * @param bytes The bytes to decrypt.
+   * @return The decrypted bytes. The default decrypts using {@link #decrypt(byte[])} and never reports the bytes as
+   *     current, which means they are always encrypted again.
+   */
+  default Decrypted decryptAndCheck(byte[] bytes) throws Exception {
+    return new Decrypted(decrypt(bytes), false);
+  }
+
+  /**
+   * Decrypted bytes along with whether they were encrypted with the current cipher and key.
+   */
+  final class Decrypted {
+    public final byte[] bytes;
+
+    public final boolean current;
+
+    public Decrypted(byte[] bytes, boolean current) {
+      this.bytes = bytes;
+      this.current = current;
+    }
+  }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016-2018, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2016-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,11 @@
  */
 package org.primeframework.mvc.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
 import com.google.inject.Inject;
 import io.fusionauth.http.HTTPMethod;
 import io.fusionauth.http.server.HTTPRequest;
@@ -41,6 +46,10 @@ public class JWTSecurityScheme implements SecurityScheme {
 
   private final JWTSecurityContext jwtSecurityContext;
 
+  private AuthorizationCache authorizationCache;
+
+  private JWTRequestAdapter requestAdapter;
+
   @Inject
   public JWTSecurityScheme(ActionInvocationStore actionInvocationStore, JWTConstraintsValidator constraintsValidator,
                            JWTSecurityContext jwtSecurityContext, HTTPRequest request) {
@@ -55,7 +64,7 @@ public class JWTSecurityScheme implements SecurityScheme {
     ActionInvocation actionInvocation = actionInvocationStore.getCurrent();
 
     JWT jwt = jwtSecurityContext.getJWT();
-    if (!constraintsValidator.validate(jwt, constraints)) {
+    if (!validateConstraints(jwt, constraints)) {
       throw new UnauthorizedException();
     }
 
@@ -76,4 +85,32 @@ public class JWTSecurityScheme implements SecurityScheme {
       }
     }
   }
+
+  /**
+   * Enables caching the constraint validation for each JWT. The cache is keyed by a digest of the encoded JWT, so the
+   * request adapter is required to retrieve it.
+   *
+   * @param authorizationCache The cache.
+   * @param requestAdapter     The adapter used to retrieve the encoded JWT.
+   */
+  @Inject(optional = true)
+  public void setAuthorizationCache(AuthorizationCache authorizationCache, JWTRequestAdapter requestAdapter) {
+    this.authorizationCache = authorizationCache;
+    this.requestAdapter = requestAdapter;
+  }
+
+  private boolean validateConstraints(JWT jwt, String[] constraints) {
+    String encodedJWT = authorizationCache != null ? requestAdapter.getEncodedJWT() : null;
+    if (encodedJWT == null) {
+      return constraintsValidator.validate(jwt, constraints);
+    }
+
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(encodedJWT.getBytes(StandardCharsets.UTF_8));
+      String principal = Base64.getEncoder().encodeToString(digest);
+      return authorizationCache.validate(principal, jwt.expiration, constraints, () -> constraintsValidator.validate(jwt, constraints));
+    } catch (NoSuchAlgorithmException e) {
+      throw new PrimeException("SHA-256 is not available", e);
+    }
+  }
 }
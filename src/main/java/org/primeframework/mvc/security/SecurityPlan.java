@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.security;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+
+import org.primeframework.mvc.action.ConstraintOverrideMethodConfiguration;
+import org.primeframework.mvc.action.ExecuteMethodConfiguration;
+import org.primeframework.mvc.action.config.ActionConfiguration;
+import org.primeframework.mvc.security.annotation.AnonymousAccess;
+import org.primeframework.mvc.security.annotation.ConstraintOverride;
+import org.primeframework.mvc.util.ReflectionUtils;
+
+/**
+ * The security decisions for a single action and HTTP method that don't change between requests. This is built once by
+ * the {@link DefaultSecurityWorkflow} and cached on the {@link ActionConfiguration}.
+ */
+public final class SecurityPlan {
+  final ExecuteMethodConfiguration method;
+
+  final List<String> schemes;
+
+  final boolean secured;
+
+  private final Method constraintsMethod;
+
+  private final String[] constraints;
+
+  SecurityPlan(ActionConfiguration configuration, ExecuteMethodConfiguration method) {
+    this.method = method;
+    this.schemes = configuration.securitySchemes;
+    this.secured = configuration.annotation.requiresAuthentication() && !method.annotations.containsKey(AnonymousAccess.class);
+
+    // Order of operation:
+    // 1. Constraint override on an HTTP method handler.
+    //    - This overrides all other options for a single method on the action such as
+    //      get() or post().
+    //    - These values have the same restrictions as the @Action annotation in that
+    //      they must be constant strings. So this may cramp your style.
+    //
+    // 2. Constraint override method.
+    //    - This overrides the constraints for one or more HTTP methods per the annotation.
+    //    - This could be helpful if you want to dynamically build constraints, or
+    //      if your constraints aren't strings. The method can return a Collection of
+    //      anything, and we'll simply call toString() to get a string value for the
+    //      constraint to pass into the constraint validator.
+    //    - This is the only step that can't be decided up front, the method is invoked
+    //      on every request.
+    //
+    // 3. Constraints provided in the @Action annotation.
+    //
+    // Note there is no fall through, if you use either override in step 1 or 2, this
+    // will "override" the constraints, and we won't look at any values defined in the
+    // @Action annotation.
+    ConstraintOverride constraint = (ConstraintOverride) method.annotations.get(ConstraintOverride.class);
+    ConstraintOverrideMethodConfiguration override = configuration.constraintValidationMethods.get(method.httpMethod);
+    if (constraint != null) {
+      this.constraints = constraint.value();
+      this.constraintsMethod = null;
+    } else if (override != null) {
+      this.constraints = null;
+      this.constraintsMethod = override.method;
+    } else {
+      this.constraints = configuration.annotation.constraints();
+      this.constraintsMethod = null;
+    }
+  }
+
+  /**
+   * Returns the constraints for the request. This only does any work if the action has a constraint override method.
+   *
+   * @param action The action instance.
+   * @return The constraints, never null.
+   */
+  String[] constraints(Object action) {
+    if (constraintsMethod == null) {
+      return constraints.clone();
+    }
+
+    Object constraints = ReflectionUtils.invoke(constraintsMethod, action);
+    return constraints != null
+        ? ((Collection<?>) constraints).stream().map(Object::toString).toList().toArray(String[]::new)
+        : new String[]{};
+  }
+}
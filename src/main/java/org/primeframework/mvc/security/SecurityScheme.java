@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2015-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,4 +27,24 @@ public interface SecurityScheme {
    * @param constraints The constraints defined on the @Action annotation.
    */
   void handle(String[] constraints);
+
+  /**
+   * Handles the authentication and authorization for the action without throwing an {@link UnauthenticatedException}
+   * when this scheme can't authenticate the request. This allows multiple schemes to be chained without building an
+   * exception for each scheme that falls through. The default implementation calls {@link #handle(String[])}, schemes
+   * should override it if they can decide without throwing.
+   *
+   * @param constraints The constraints defined on the @Action annotation.
+   * @return True if the request is authenticated and authorized, false if this scheme could not authenticate the
+   *     request and the next scheme should be tried.
+   * @throws UnauthorizedException If the request is authenticated but not authorized.
+   */
+  default boolean tryHandle(String[] constraints) {
+    try {
+      handle(constraints);
+      return true;
+    } catch (UnauthenticatedException e) {
+      return false;
+    }
+  }
 }
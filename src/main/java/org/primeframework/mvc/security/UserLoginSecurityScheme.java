@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2025, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2015-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -60,13 +60,20 @@ public class UserLoginSecurityScheme implements SecurityScheme {
 
   @Override
   public void handle(String[] constraints) {
+    if (!tryHandle(constraints)) {
+      throw new UnauthenticatedException();
+    }
+  }
+
+  @Override
+  public boolean tryHandle(String[] constraints) {
     if (userLoginSecurityContext == null) {
-      return;
+      return true;
     }
 
     // Check if user is signed in
     if (!userLoginSecurityContext.isLoggedIn()) {
-      throw new UnauthenticatedException();
+      return false;
     }
 
     // Check roles
@@ -75,7 +82,7 @@ public class UserLoginSecurityScheme implements SecurityScheme {
     }
 
     if (!configuration.csrfEnabled()) {
-      return;
+      return true;
     }
 
     // CSRF on modifying requests
@@ -98,6 +105,8 @@ public class UserLoginSecurityScheme implements SecurityScheme {
         throw new UnauthorizedException();
       }
     }
+
+    return true;
   }
 
   @Inject(optional = true)
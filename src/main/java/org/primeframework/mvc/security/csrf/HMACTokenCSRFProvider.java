@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.security.csrf;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import io.fusionauth.http.server.HTTPRequest;
+import org.primeframework.mvc.ErrorException;
+import org.primeframework.mvc.config.MVCConfiguration;
+import org.primeframework.mvc.security.UserLoginSecurityContext;
+
+/**
+ * A CSRF Provider leveraging the HMAC based Token Pattern as defined by OWASP.
+ * <p>
+ * The session id and the time the token was issued don't need to be kept secret, they only need to be protected from
+ * tampering. Rather than JSON serializing and encrypting them like {@link DefaultEncryptionBasedTokenCSRFProvider}, this
+ * provider writes the time into a fixed binary layout and signs it together with the session id using a truncated
+ * HMAC-SHA256. The token is 34 characters and is verified without any parsing beyond Base64.
+ * <p>
+ * The layout of the token before it is Base64 URL encoded is:
+ *
+ * <pre>
+ *   version (1 byte) | instant in milliseconds (8 bytes) | HMAC-SHA256(version | instant | session id) truncated to 16 bytes
+ * </pre>
+ * <p>
+ * By default the signing key is derived from the cookie encryption key. Use {@link #setSigningKeys(Key...)} to supply
+ * your own keys and to rotate them. Tokens are signed with the first key and are accepted if they were signed by any of
+ * the keys, so a previous key can be kept in the list until the tokens it signed have expired.
+ * <p>
+ * This provider is safe to use as a singleton. It is not the default, to use it bind it in place of the default
+ * provider:
+ *
+ * <pre>
+ *   bind(CSRFProvider.class).to(HMACTokenCSRFProvider.class).in(Singleton.class);
+ * </pre>
+ *
+ * @see <a
+ *     href="https://cheatsheetseries.owasp.org/cheatsheets/Cross-Site_Request_Forgery_Prevention_Cheat_Sheet.html#signed-double-submit-cookie-recommended">OWASP
+ *     CSRF Cheat Sheet - Signed Double-Submit Cookie</a>
+ */
+@SuppressWarnings("unused")
+public class HMACTokenCSRFProvider implements CSRFProvider {
+  private static final String ALGORITHM = "HmacSHA256";
+
+  private static final int MAC_LENGTH = 16;
+
+  private static final int TOKEN_LENGTH = 1 + Long.BYTES + MAC_LENGTH;
+
+  private static final byte VERSION = 1;
+
+  private final Provider<UserLoginSecurityContext> securityContext;
+
+  private volatile List<Signer> signers;
+
+  // Default to 15 minutes;
+  private long nonceTimeout = TimeUnit.MINUTES.toMillis(15);
+
+  @Inject
+  public HMACTokenCSRFProvider(MVCConfiguration configuration, Provider<UserLoginSecurityContext> securityContext) {
+    this.securityContext = securityContext;
+    this.signers = List.of(new Signer(deriveKey(configuration.cookieEncryptionKey())));
+  }
+
+  @Override
+  public String getToken(HTTPRequest request) {
+    // Check to see if we have already generated the token, we store it in the request attribute.
+    String csrfToken = (String) request.getAttribute(getParameterName());
+    if (csrfToken == null) {
+      String sessionId = securityContext.get().getSessionId();
+      if (sessionId == null) {
+        return null;
+      }
+
+      csrfToken = generateToken(sessionId);
+      request.setAttribute(getParameterName(), csrfToken);
+    }
+
+    return csrfToken;
+  }
+
+  @Override
+  public boolean validateRequest(HTTPRequest request) {
+    byte[] token = decode(getTokenFromRequest(request));
+    if (token == null) {
+      return false;
+    }
+
+    // If the 'nonce' is expired fail. The instant isn't secret, so it is safe to check it before the signature.
+    ByteBuffer buffer = ByteBuffer.wrap(token);
+    buffer.get();
+    long instant = buffer.getLong();
+    long now = System.currentTimeMillis();
+    if ((instant + nonceTimeout) < now) {
+      return false;
+    }
+
+    // The sessionId must match the value the token was signed with
+    String sessionId = securityContext.get().getSessionId();
+    if (sessionId == null) {
+      return false;
+    }
+
+    byte[] expected = new byte[MAC_LENGTH];
+    System.arraycopy(token, TOKEN_LENGTH - MAC_LENGTH, expected, 0, MAC_LENGTH);
+    byte[] sid = sessionId.getBytes(StandardCharsets.UTF_8);
+    for (Signer signer : signers) {
+      if (MessageDigest.isEqual(signer.sign(token, sid), expected)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Optionally override the default nonce timeout. A longer duration is less secure but offers a potentially better
+   * user experience. A shorter value is more secure but may impact the user experience.
+   * <p>
+   * This duration is essentially how long you want a user to be able to sit on a form and wait before submitting the
+   * form.
+   *
+   * @param nonceTimeout the nonce timeout in milliseconds.
+   */
+  protected void setNonceTimeout(long nonceTimeout) {
+    this.nonceTimeout = nonceTimeout;
+  }
+
+  /**
+   * Optionally override the keys used to sign tokens. New tokens are signed with the first key and tokens signed by
+   * any of the keys are accepted. To rotate keys, add the new key to the front of the list and remove the old key once
+   * the nonce timeout has passed.
+   *
+   * @param keys the HMAC keys, at least one is required.
+   */
+  protected void setSigningKeys(Key... keys) {
+    if (keys == null || keys.length == 0) {
+      throw new IllegalArgumentException("At least one CSRF signing key is required");
+    }
+
+    List<Signer> signers = new ArrayList<>(keys.length);
+    for (Key key : keys) {
+      signers.add(new Signer(key));
+    }
+
+    this.signers = List.copyOf(signers);
+  }
+
+  private static byte[] decode(String s) {
+    if (s == null) {
+      return null;
+    }
+
+    try {
+      byte[] token = Base64.getUrlDecoder().decode(s);
+      return token.length == TOKEN_LENGTH && token[0] == VERSION ? token : null;
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Derives the signing key from the cookie encryption key so that the encryption key itself is never used for HMAC.
+   */
+  private static Key deriveKey(Key key) {
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(new SecretKeySpec(key.getEncoded(), ALGORITHM));
+      return new SecretKeySpec(mac.doFinal("primeCSRFToken".getBytes(StandardCharsets.UTF_8)), ALGORITHM);
+    } catch (GeneralSecurityException e) {
+      throw new ErrorException("error", e);
+    }
+  }
+
+  /**
+   * Generate a signed anti-CSRF token.
+   * <p>
+   * Note that the token signature covers the current sessionId. This means that this token is strongly associated with
+   * the user's current sessionId. This is important because it means this token is only valid or usable for a
+   * particular user session.
+   *
+   * @param sessionId the user's sessionId
+   * @return a new token, never null.
+   */
+  private String generateToken(String sessionId) {
+    byte[] token = new byte[TOKEN_LENGTH];
+    ByteBuffer.wrap(token)
+              .put(VERSION)
+              .putLong(System.currentTimeMillis());
+    byte[] signature = signers.get(0).sign(token, sessionId.getBytes(StandardCharsets.UTF_8));
+    System.arraycopy(signature, 0, token, TOKEN_LENGTH - MAC_LENGTH, MAC_LENGTH);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+  }
+
+  /**
+   * Signs tokens with a single key. The Mac is initialized once and cloned for each token rather than being looked up
+   * and initialized again.
+   */
+  private static final class Signer {
+    private final Key key;
+
+    private final Mac prototype;
+
+    private Signer(Key key) {
+      this.key = key;
+      try {
+        this.prototype = Mac.getInstance(ALGORITHM);
+        this.prototype.init(key);
+      } catch (GeneralSecurityException e) {
+        throw new IllegalArgumentException("Unable to initialize the CSRF signing key", e);
+      }
+    }
+
+    /**
+     * Signs the version and instant of the token along with the session id.
+     */
+    private byte[] sign(byte[] token, byte[] sid) {
+      Mac mac;
+      try {
+        mac = (Mac) prototype.clone();
+      } catch (CloneNotSupportedException e) {
+        try {
+          mac = Mac.getInstance(ALGORITHM);
+          mac.init(key);
+        } catch (GeneralSecurityException gse) {
+          throw new ErrorException("error", gse);
+        }
+      }
+
+      mac.update(token, 0, 1 + Long.BYTES);
+      mac.update(sid);
+      byte[] result = new byte[MAC_LENGTH];
+      System.arraycopy(mac.doFinal(), 0, result, 0, MAC_LENGTH);
+      return result;
+    }
+  }
+}
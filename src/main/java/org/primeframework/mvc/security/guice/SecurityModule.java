@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2024, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2015-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package org.primeframework.mvc.security.guice;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Singleton;
 import com.google.inject.name.Names;
 import org.primeframework.mvc.security.AuthorizeMethodScheme;
 import org.primeframework.mvc.security.CipherProvider;
@@ -51,7 +52,8 @@ public class SecurityModule extends AbstractModule {
   @Override
   protected void configure() {
     bind(CSRFProvider.class).to(DefaultEncryptionBasedTokenCSRFProvider.class);
-    bind(SecurityWorkflow.class).to(DefaultSecurityWorkflow.class);
+    bind(SecurityWorkflow.class).to(DefaultSecurityWorkflow.class).in(Singleton.class);
+    bind(SecuritySchemeFactory.class).in(Singleton.class);
     bind(SavedRequestWorkflow.class).to(DefaultSavedRequestWorkflow.class);
 
     bind(JWTConstraintsValidator.class).to(DefaultJWTConstraintsValidator.class);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2015-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,10 +17,12 @@ package org.primeframework.mvc.security.guice;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.inject.Binder;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
+import com.google.inject.Provider;
 import org.primeframework.mvc.security.SecurityScheme;
 
 /**
@@ -33,13 +35,16 @@ public class SecuritySchemeFactory {
 
   private final Injector injector;
 
+  private final Map<String, Provider<? extends SecurityScheme>> providers = new ConcurrentHashMap<>();
+
   @Inject
   public SecuritySchemeFactory(Injector injector) {
     this.injector = injector;
   }
 
   /**
-   * Adds a binding to a SecurityScheme so that it can be created on demand rather than using a multi-binder.
+   * Adds a binding to a SecurityScheme so that it can be created on demand rather than using a multi-binder. The
+   * binding is unscoped.
    *
    * @param binder             The Guice binder to bind the SecurityScheme class for faster injection.
    * @param scheme             The name of the SecurityScheme.
@@ -52,7 +57,8 @@ public class SecuritySchemeFactory {
   }
 
   /**
-   * Builds a SecurityScheme instance.
+   * Builds a SecurityScheme instance. Schemes are bound unscoped, so a new instance is built per lookup and only the
+   * Guice provider is cached. This is what makes it safe for the factory and the security workflow to be singletons.
    *
    * @param scheme The name of the SecurityScheme to build.
    * @return The the SecurityScheme or null if the scheme is invalid.
@@ -63,6 +69,7 @@ public class SecuritySchemeFactory {
       return null;
     }
 
-    return injector.getInstance(securitySchemeType);
+    // Resolve the Guice provider once per scheme rather than looking up the binding for every request
+    return providers.computeIfAbsent(scheme, s -> injector.getProvider(securitySchemeType)).get();
   }
 }
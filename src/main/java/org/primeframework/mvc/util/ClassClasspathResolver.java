@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2020, Inversoft, All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft, All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,18 +17,24 @@ package org.primeframework.mvc.util;
 
 import java.io.File;
 import java.io.FileFilter;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -55,6 +61,26 @@ import static java.util.Arrays.asList;
 public class ClassClasspathResolver<U> {
   private final Logger logger = LoggerFactory.getLogger(ClassClasspathResolver.class);
 
+  private final ExecutorService executor;
+
+  /**
+   * Constructs a resolver that scans the classpath entries one at a time in the calling thread.
+   */
+  public ClassClasspathResolver() {
+    this.executor = null;
+  }
+
+  /**
+   * Constructs a resolver that scans the classpath entries in parallel using the given executor. The results are merged
+   * in the classpath order, so they are the same as the sequential scan. The caller owns the executor and must shut it
+   * down.
+   *
+   * @param executor The executor used to scan the classpath entries.
+   */
+  public ClassClasspathResolver(ExecutorService executor) {
+    this.executor = executor;
+  }
+
   /**
    * Attempts to load the given file into a ClassReader.
    *
@@ -64,7 +90,7 @@ public class ClassClasspathResolver<U> {
    */
   public static ClassReader load(File file) throws IOException {
     try {
-      return new ClassReader(new FileInputStream(file));
+      return new ClassReader(Files.readAllBytes(file.toPath()));
     } catch (IOException e) {
       throw new IOException("Error parsing class file at [" + file.getAbsolutePath() + "]", e);
     }
@@ -80,8 +106,8 @@ public class ClassClasspathResolver<U> {
    * @throws IOException If the JarEntry doesn't point to a valid class.
    */
   public static ClassReader load(File jar, JarFile jarFile, JarEntry jarEntry) throws IOException {
-    try {
-      return new ClassReader(jarFile.getInputStream(jarEntry));
+    try (InputStream is = jarFile.getInputStream(jarEntry)) {
+      return new ClassReader(is.readAllBytes());
     } catch (IOException e) {
       throw new IOException("Error parsing class file at [" + jar.getAbsolutePath() + "!/" + jarEntry.getName() + "]", e);
     }
@@ -119,29 +145,99 @@ public class ClassClasspathResolver<U> {
       return null;
     }
 
-    Classpath classpath = Classpath.getCurrentClassPath();
+    return findByLocators(Classpath.getCurrentClassPath(), test, recursive, locators);
+  }
+
+  /**
+   * Attempts to discover resources that pass the test in the entries of the given classpath. See
+   * {@link #findByLocators(Test, boolean, String...)} for the details.
+   *
+   * @param classpath The classpath entries to search.
+   * @param test      The test implementation to determine matching resources.
+   * @param recursive If true, this will recurse into sub-directories. If false, this will only look in the directories
+   *                  given.
+   * @param locators  A list of directory locators that are used to locate directories to find resources in.
+   * @return The matching set.
+   * @throws IOException If there was any errors while inspecting the classpath.
+   */
+  public Set<Class<U>> findByLocators(Classpath classpath, Test<Class<U>> test, boolean recursive, String... locators)
+      throws IOException {
+    if (locators == null) {
+      return null;
+    }
+
     List<String> names = classpath.getNames();
-    Set<Class<U>> matches = new HashSet<>();
+    Set<Class<U>> matches = new LinkedHashSet<>();
+    if (executor == null) {
+      for (String name : names) {
+        matches.addAll(findInEntry(name, test, recursive, locators));
+      }
+
+      return matches;
+    }
+
+    // Scan each classpath entry in the executor using the caller's ClassLoader and merge the results in the classpath order
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    List<Future<Collection<Class<U>>>> tasks = new ArrayList<>(names.size());
     for (String name : names) {
-      File f = new File(name);
-      if (f.isDirectory()) {
-        for (String locator : locators) {
-          Set<File> directories = findDirectories(f, locator);
-          for (File dir : directories) {
-            matches.addAll(loadFromDirectory(dir, test, recursive));
-          }
+      tasks.add(executor.submit(() -> {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+          return findInEntry(name, test, recursive, locators);
+        } finally {
+          thread.setContextClassLoader(original);
+        }
+      }));
+    }
+
+    for (Future<Collection<Class<U>>> task : tasks) {
+      try {
+        matches.addAll(task.get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while scanning the classpath", e);
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof IOException io) {
+          throw io;
+        } else if (cause instanceof RuntimeException re) {
+          throw re;
+        } else if (cause instanceof Error error) {
+          throw error;
         }
-      } else if (f.isFile()) {
-        matches.addAll(loadFromJar(f, test, recursive, asList(locators), true));
+
+        throw new PrimeException(cause);
       }
     }
 
     return matches;
   }
 
+  private Collection<Class<U>> findInEntry(String name, Test<Class<U>> test, boolean recursive, String... locators)
+      throws IOException {
+    File f = new File(name);
+    if (f.isDirectory()) {
+      Set<Class<U>> matches = new LinkedHashSet<>();
+      for (String locator : locators) {
+        Set<File> directories = findDirectories(f, locator);
+        for (File dir : directories) {
+          matches.addAll(loadFromDirectory(dir, test, recursive));
+        }
+      }
+
+      return matches;
+    } else if (f.isFile()) {
+      return loadFromJar(f, test, recursive, asList(locators), true);
+    }
+
+    return Collections.emptyList();
+  }
+
   private Set<File> findDirectories(File dir, String locator) {
     // Loop over the files using tail-recursion
-    Set<File> directories = new HashSet<>();
+    Set<File> directories = new LinkedHashSet<>();
     Queue<File> files = new LinkedList<>(safeListFiles(dir, File::isDirectory));
     while (!files.isEmpty()) {
       File file = files.poll();
@@ -156,7 +252,7 @@ public class ClassClasspathResolver<U> {
   }
 
   private Collection<Class<U>> loadFromDirectory(File dir, Test<Class<U>> test, boolean recursive) throws IOException {
-    Set<Class<U>> matches = new HashSet<>();
+    Set<Class<U>> matches = new LinkedHashSet<>();
 
     // Loop over the files
     Queue<File> files = new LinkedList<>(safeListFiles(dir, null));
@@ -179,7 +275,7 @@ public class ClassClasspathResolver<U> {
   private Collection<Class<U>> loadFromJar(File f, Test<Class<U>> test, boolean recursive, Iterable<String> locators,
                                            boolean embeddable)
       throws IOException {
-    Set<Class<U>> matches = new HashSet<>();
+    Set<Class<U>> matches = new LinkedHashSet<>();
 
     JarFile jarFile;
     try {
@@ -193,34 +289,36 @@ public class ClassClasspathResolver<U> {
       return Collections.emptyList();
     }
 
-    Enumeration<JarEntry> en = jarFile.entries();
-    while (en.hasMoreElements()) {
-      JarEntry entry = en.nextElement();
-      String name = entry.getName();
+    try {
+      Enumeration<JarEntry> en = jarFile.entries();
+      while (en.hasMoreElements()) {
+        JarEntry entry = en.nextElement();
+        String name = entry.getName();
 
-      // Verify against the locators
-      for (String locator : locators) {
-        int index = name.indexOf(locator + "/");
-        boolean match = (!embeddable && index == 0) || (embeddable && index >= 0);
-        if (!match) {
-          continue;
-        }
+        // Verify against the locators
+        for (String locator : locators) {
+          int index = name.indexOf(locator + "/");
+          boolean match = (!embeddable && index == 0) || (embeddable && index >= 0);
+          if (!match) {
+            continue;
+          }
 
-        match = recursive || name.indexOf('/', index + locator.length() + 1) == -1;
-        if (!match) {
-          continue;
-        }
+          match = recursive || name.indexOf('/', index + locator.length() + 1) == -1;
+          if (!match) {
+            continue;
+          }
 
-        Testable<Class<U>> testable = test.prepare(f, jarFile, entry);
-        if (testable != null && testable.passes()) {
-          matches.add(testable.result());
-          break;
+          Testable<Class<U>> testable = test.prepare(f, jarFile, entry);
+          if (testable != null && testable.passes()) {
+            matches.add(testable.result());
+            break;
+          }
         }
       }
+    } finally {
+      jarFile.close();
     }
 
-    jarFile.close();
-
     return matches;
   }
 
@@ -239,6 +337,8 @@ public class ClassClasspathResolver<U> {
       return Collections.emptyList();
     }
 
+    // Sort so that the results don't depend on the order of the file system
+    Arrays.sort(files);
     return asList(files);
   }
 
@@ -273,22 +373,72 @@ public class ClassClasspathResolver<U> {
   public static class AnnotatedWith<T extends Annotation, U> implements Test<Class<U>> {
     private final Class<T> annotation;
 
+    private final byte[] descriptor;
+
     public AnnotatedWith(Class<T> annotation) {
       this.annotation = annotation;
+      this.descriptor = ("L" + annotation.getName().replace('.', '/') + ";").getBytes(StandardCharsets.UTF_8);
     }
 
     public Testable<Class<U>> prepare(File file) throws IOException {
       if (!file.getName().endsWith(".class")) {
         return null;
       }
-      return new AnnotatedWithTestable<>(annotation, load(file));
+
+      byte[] bytes;
+      try {
+        bytes = Files.readAllBytes(file.toPath());
+      } catch (IOException e) {
+        throw new IOException("Error parsing class file at [" + file.getAbsolutePath() + "]", e);
+      }
+
+      return prepare(bytes);
     }
 
     public Testable<Class<U>> prepare(File jar, JarFile jarFile, JarEntry jarEntry) throws IOException {
       if (!jarEntry.getName().endsWith(".class")) {
         return null;
       }
-      return new AnnotatedWithTestable<>(annotation, load(jar, jarFile, jarEntry));
+
+      byte[] bytes;
+      try (InputStream is = jarFile.getInputStream(jarEntry)) {
+        bytes = is.readAllBytes();
+      } catch (IOException e) {
+        throw new IOException("Error parsing class file at [" + jar.getAbsolutePath() + "!/" + jarEntry.getName() + "]", e);
+      }
+
+      return prepare(bytes);
+    }
+
+    private Testable<Class<U>> prepare(byte[] bytes) {
+      // A class annotated with the annotation has the descriptor of the annotation in its constant pool, so a class
+      // file without it can be skipped without parsing it
+      if (!contains(bytes, descriptor)) {
+        return null;
+      }
+
+      return new AnnotatedWithTestable<>(annotation, new ClassReader(bytes));
+    }
+
+    private static boolean contains(byte[] bytes, byte[] value) {
+      byte first = value[0];
+      int last = bytes.length - value.length;
+      outer:
+      for (int i = 0; i <= last; i++) {
+        if (bytes[i] != first) {
+          continue;
+        }
+
+        for (int j = 1; j < value.length; j++) {
+          if (bytes[i + j] != value[j]) {
+            continue outer;
+          }
+        }
+
+        return true;
+      }
+
+      return false;
     }
 
     private static class AnnotatedWithTestable<T extends Annotation, U> implements Testable<Class<U>> {
@@ -302,7 +452,7 @@ public class ClassClasspathResolver<U> {
       }
 
       public boolean passes() {
-        classReader.accept(visitor, ClassReader.SKIP_CODE);
+        classReader.accept(visitor, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
         return visitor.isPasses();
       }
 
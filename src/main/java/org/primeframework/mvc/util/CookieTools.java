@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2024, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2022-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -63,44 +63,8 @@ public final class CookieTools {
   public static <T> T fromCookie(String value, boolean encryptionRequired, boolean encryptedIfOld, Encryptor encryptor,
                                  ThrowingFunction<byte[], T> oldFunction, ThrowingFunction<byte[], T> newFunction)
       throws Exception {
-    if (value == null || value.isBlank()) {
-      return null;
-    }
-
-    byte[] result = Base64.getUrlDecoder().decode(value);
-    if (result.length < 5) {
-      // Old style of cookie which was not compressed but could be encrypted
-      if (encryptedIfOld) {
-        result = encryptor.decrypt(result);
-      }
-
-      return oldFunction.apply(result);
-    }
-
-    if (result[0] != 0x42 || result[1] != 0x42 || result[2] != 0x42 || result[3] > HIGHEST_BIT_MASK) {
-      // Old style of cookie which was not compressed but could be encrypted
-      if (encryptedIfOld) {
-        result = encryptor.decrypt(result);
-      }
-
-      return oldFunction.apply(result);
-    }
-
-    boolean encrypt = (result[3] & 0x01) == 0x01; // First bit is encrypted
-    boolean compress = (result[3] & 0x02) == 0x02; // Second bit is compressed
-    result = Arrays.copyOfRange(result, 4, result.length);
-
-    if (encryptionRequired && !encrypt) {
-      throw new IllegalStateException("Encryption is required to decrypt cookie but a non-encrypted cookie was presented");
-    } else if (encrypt) {
-      result = encryptor.decrypt(result);
-    }
-
-    if (compress) {
-      result = Compressor.decompress(result);
-    }
-
-    return newFunction.apply(result);
+    DecodedCookie<T> decoded = decode(value, encryptionRequired, encryptedIfOld, encryptor, oldFunction, newFunction, -1);
+    return decoded != null ? decoded.value : null;
   }
 
   /**
@@ -185,6 +149,30 @@ public final class CookieTools {
     return fromCookie(value, encryptionRequired, encryptedIfOld, encryptor, read, read);
   }
 
+  /**
+   * Processes a cookie value like {@link #fromCookie(String, boolean, boolean, Encryptor, ThrowingFunction,
+   * ThrowingFunction)} with encryption required if the cookie is encrypted, and also determines if the value was written
+   * in the current format using the given options and, if it is encrypted, with the current cipher and key (see
+   * {@link Encryptor#decryptAndCheck(byte[])}). A cookie that was written in a legacy format, with different options or
+   * with a legacy cipher or an older key should be written again rather than sent back as-is.
+   *
+   * @param value       The cookie value.
+   * @param compress    Whether the cookie should be compressed.
+   * @param encrypt     Whether the cookie should be encrypted.
+   * @param encryptor   The encryptor to use if needed.
+   * @param oldFunction The function to call if the cookie looks legacy.
+   * @param newFunction The function to call if the cookie looks new (contains our magic header).
+   * @param <T>         The type that the function returns.
+   * @return The decoded cookie or null if the cookie is empty.
+   * @throws Exception If the operation fails.
+   */
+  public static <T> DecodedCookie<T> decodeCookie(String value, boolean compress, boolean encrypt, Encryptor encryptor,
+                                                  ThrowingFunction<byte[], T> oldFunction,
+                                                  ThrowingFunction<byte[], T> newFunction) throws Exception {
+    int flags = (encrypt ? 0x01 : 0x00) | (compress ? 0x02 : 0x00);
+    return decode(value, encrypt, encrypt, encryptor, oldFunction, newFunction, flags);
+  }
+
   /**
    * Handles the encoding of a set of bytes into a cookie. This optionally compresses and encrypts the bytes. It also
    * adds a header to the bytes that indicate how the cookie was processed.
@@ -239,4 +227,75 @@ public final class CookieTools {
     byte[] result = objectMapper.writeValueAsBytes(value);
     return toCookie(result, compress, encrypt, encryptor);
   }
+
+  private static <T> DecodedCookie<T> decode(String value, boolean encryptionRequired, boolean encryptedIfOld,
+                                             Encryptor encryptor, ThrowingFunction<byte[], T> oldFunction,
+                                             ThrowingFunction<byte[], T> newFunction, int currentFlags)
+      throws Exception {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+
+    byte[] result = Base64.getUrlDecoder().decode(value);
+    if (result.length < 5) {
+      // Old style of cookie which was not compressed but could be encrypted
+      if (encryptedIfOld) {
+        result = encryptor.decrypt(result);
+      }
+
+      return new DecodedCookie<>(oldFunction.apply(result), false);
+    }
+
+    if (result[0] != 0x42 || result[1] != 0x42 || result[2] != 0x42 || result[3] > HIGHEST_BIT_MASK) {
+      // Old style of cookie which was not compressed but could be encrypted
+      if (encryptedIfOld) {
+        result = encryptor.decrypt(result);
+      }
+
+      return new DecodedCookie<>(oldFunction.apply(result), false);
+    }
+
+    boolean current = result[3] == currentFlags;
+    boolean encrypt = (result[3] & 0x01) == 0x01; // First bit is encrypted
+    boolean compress = (result[3] & 0x02) == 0x02; // Second bit is compressed
+    result = Arrays.copyOfRange(result, 4, result.length);
+
+    if (encryptionRequired && !encrypt) {
+      throw new IllegalStateException("Encryption is required to decrypt cookie but a non-encrypted cookie was presented");
+    } else if (encrypt) {
+      if (currentFlags >= 0) {
+        // Only ask whether the cipher and key are current when the caller wants to know, so plain decrypt is used otherwise
+        Encryptor.Decrypted decrypted = encryptor.decryptAndCheck(result);
+        result = decrypted.bytes;
+        current &= decrypted.current;
+      } else {
+        result = encryptor.decrypt(result);
+      }
+    }
+
+    if (compress) {
+      result = Compressor.decompress(result);
+    }
+
+    return new DecodedCookie<>(newFunction.apply(result), current);
+  }
+
+  /**
+   * A decoded cookie value along with whether the encoded value can be sent back as-is.
+   *
+   * @param <T> The type of the value.
+   */
+  public static final class DecodedCookie<T> {
+    /**
+     * True if the cookie was written in the current format, with the current options, cipher and key.
+     */
+    public final boolean current;
+
+    public final T value;
+
+    public DecodedCookie(T value, boolean current) {
+      this.value = value;
+      this.current = current;
+    }
+  }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2022-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,6 +36,17 @@ import org.primeframework.mvc.action.annotation.URIModifier;
  * @author Brian Pontarelli
  */
 public class DefaultURIBuilder implements URIBuilder {
+  /**
+   * The URIs only depend on the class and its package annotations. Subclasses that depend on other state must override
+   * this.
+   *
+   * @return The class of this builder.
+   */
+  @Override
+  public Object cacheKey() {
+    return getClass();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2023, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2022-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,7 +31,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.primeframework.mvc.parameter.annotation.FieldName;
 import org.primeframework.mvc.parameter.el.BeanExpressionException;
@@ -42,18 +42,36 @@ import org.primeframework.mvc.parameter.el.UpdateExpressionException;
 
 /**
  * Provides support for reflection, bean properties and field access.
+ * <p>
+ * The per-class caches are {@link ClassValue}s, which are read without locking and do not hold a monitor while the
+ * class is being introspected. This keeps virtual threads from pinning their carrier thread here.
  *
  * @author Brian Pontarelli
  */
 @SuppressWarnings("unchecked")
 public class ReflectionUtils {
-  private static final Map<Class<?>, Map<String, Field>> fieldCache = new WeakHashMap<>();
+  private static final ClassValue<Map<String, Field>> fieldCache = new ClassValue<>() {
+    @Override
+    protected Map<String, Field> computeValue(Class<?> type) {
+      return loadFields(type);
+    }
+  };
 
-  private static final Map<Class<?>, Method[]> methods = new WeakHashMap<>();
+  private static final ClassValue<Method[]> methods = new ClassValue<>() {
+    @Override
+    protected Method[] computeValue(Class<?> type) {
+      return loadMethods(type);
+    }
+  };
 
-  private static final Map<String, Package> packageCache = new WeakHashMap<>();
+  private static final Map<String, Package> packageCache = new ConcurrentHashMap<>();
 
-  private static final Map<Class<?>, Map<String, PropertyInfo>> propertyCache = new WeakHashMap<>();
+  private static final ClassValue<Map<String, PropertyInfo>> propertyCache = new ClassValue<>() {
+    @Override
+    protected Map<String, PropertyInfo> computeValue(Class<?> type) {
+      return loadPropertyInfo(type);
+    }
+  };
 
   private static final Map<String, MethodInformationExtractor> verifiers = new HashMap<>();
 
@@ -127,6 +145,28 @@ public class ReflectionUtils {
     return names;
   }
 
+  /**
+   * Pulls the names of the members that an expression can start with from the given Class. These are the java bean
+   * properties and the fields, where the fields annotated with one of the unwrap annotations are replaced by the fields
+   * of their type.
+   *
+   * @param type              The Class to pull the names from.
+   * @param unwrapAnnotations The annotations that mark a field as unwrapped.
+   * @return The names of the members.
+   */
+  public static Set<String> findAllMembers(Class<?> type, List<Class<? extends Annotation>> unwrapAnnotations) {
+    Set<String> names = new HashSet<>(findPropertyInfo(type).keySet());
+    for (Map.Entry<String, Field> entry : findFields(type).entrySet()) {
+      if (areAnyAnnotationsPresent(entry.getValue(), unwrapAnnotations)) {
+        names.addAll(findFields(entry.getValue().getType()).keySet());
+      } else {
+        names.add(entry.getKey());
+      }
+    }
+
+    return names;
+  }
+
   /**
    * Locates all the members (fields and JavaBean properties) that have the given annotation and returns the name of the member and the annotation
    * itself.
@@ -181,43 +221,7 @@ public class ReflectionUtils {
    * @return The Map, which could be null if the class has no fields.
    */
   public static Map<String, Field> findFields(Class<?> type) {
-    Map<String, Field> fieldMap;
-    synchronized (fieldCache) {
-      // Otherwise look for the property Map or create and store
-      fieldMap = fieldCache.get(type);
-      if (fieldMap != null) {
-        return fieldMap;
-      }
-
-      fieldMap = new HashMap<>();
-      Field[] fields = type.getFields();
-      // Just a guess for initial capacity, but I doubt we'll have many NamedParameters.
-      List<Field> namedFields = new ArrayList<>(2);
-
-      for (Field field : fields) {
-        // Skip fields annotated with FieldName on th first pass
-        if (field.isAnnotationPresent(FieldName.class)) {
-          namedFields.add(field);
-          continue;
-        }
-
-        fieldMap.put(field.getName(), field);
-      }
-
-      // Process named parameters last so that we know the annotation is causing the duplicate name.
-      for (Field field : namedFields) {
-        String name = field.getAnnotation(FieldName.class).value();
-        if (fieldMap.containsKey(name)) {
-          throw new BeanExpressionException("Invalid JavaBean class [" + type + "]. Errors are:\n[A field annotated with " + FieldName.class.getSimpleName() + "] and value of [" + name + "] effectively duplicates the existing field of the same name. Rename or remove the duplicate field.]");
-        }
-
-        fieldMap.put(name, field);
-      }
-
-      fieldCache.put(type, Collections.unmodifiableMap(fieldMap));
-    }
-
-    return fieldMap;
+    return fieldCache.get(type);
   }
 
   /**
@@ -228,21 +232,7 @@ public class ReflectionUtils {
    * @return The methods.
    */
   public static Method[] findMethods(final Class<?> type) {
-    synchronized (methods) {
-      Method[] array = methods.get(type);
-      if (array == null) {
-        array = type.getMethods();
-        array = Arrays.stream(array)
-                      .map(m -> new SortableMethod(m, type))
-                      .sorted()
-                      .map(sm -> sm.method)
-                      .toArray(Method[]::new);
-        methods.put(type, array);
-        return array;
-      }
-
-      return array;
-    }
+    return methods.get(type);
   }
 
   /**
@@ -253,14 +243,11 @@ public class ReflectionUtils {
    * @return the package if it exists and has the requested annotation or null.
    */
   public static Package findPackageWithAnnotation(String packageName, Class<? extends Annotation> annotation) {
-    Package pkg;
-    synchronized (packageCache) {
-      pkg = packageCache.get(packageName);
-      if (pkg == null) {
-        pkg = Package.getPackage(packageName);
-        if (pkg != null) {
-          packageCache.put(packageName, pkg);
-        }
+    Package pkg = packageCache.get(packageName);
+    if (pkg == null) {
+      pkg = Package.getPackage(packageName);
+      if (pkg != null) {
+        packageCache.put(packageName, pkg);
       }
     }
 
@@ -283,111 +270,7 @@ public class ReflectionUtils {
    * Instead of a property <code>setFoo</code> being resolved, <code>setBar</code> will be found instead.
    */
   public static Map<String, PropertyInfo> findPropertyInfo(Class<?> type) {
-    Map<String, PropertyInfo> propMap;
-    synchronized (propertyCache) {
-      // Otherwise look for the property Map or create and store
-      propMap = propertyCache.get(type);
-      if (propMap != null) {
-        return propMap;
-      }
-
-      propMap = new HashMap<>();
-      Set<String> errors = new HashSet<>();
-      Method[] methods = findMethods(type);
-      for (Method method : methods) {
-        // Skip bridge methods (covariant or generics) because the non-bridge method is the one that should be correct
-        if (method.isBridge()) {
-          continue;
-        }
-
-        PropertyName name = method.isAnnotationPresent(FieldName.class)
-            ? new PropertyName("set", method.getAnnotation(FieldName.class).value())
-            : getPropertyNames(method.getName());
-
-        if (name == null) {
-          continue;
-        }
-
-        PropertyInfo info = propMap.get(name.getName());
-        boolean constructed = false;
-        if (info == null) {
-          info = new PropertyInfo();
-          info.setName(name.getName());
-          info.setDeclaringClass(method.getDeclaringClass());
-          constructed = true;
-        }
-
-        // Unify get and is
-        String prefix = name.getPrefix();
-        if (prefix.equals("is")) {
-          prefix = "get";
-        }
-
-        Method existingMethod = info.getMethods().get(prefix);
-        if (existingMethod != null) {
-          errors.add("Two or more [" + prefix + "] methods named [" + existingMethod.getName() + "] exist. Rename or remove the duplicate method.");
-          continue;
-        }
-
-        MethodInformationExtractor verifier = verifiers.get(prefix);
-        if (verifier == null) {
-          continue;
-        }
-
-        info.getMethods().put(prefix, method);
-        info.setGenericType(verifier.determineGenericType(method));
-        info.setType(verifier.determineType(method));
-        info.setIndexed(verifier.isIndexed(method));
-
-        if (constructed) {
-          propMap.put(name.getName(), info);
-        }
-      }
-
-      // Check for property errors
-      for (PropertyInfo info : propMap.values()) {
-        Method read = info.getMethods().get("get");
-        Method write = info.getMethods().get("set");
-        if (read != null && isValidGetter(read)) {
-          if (info.isIndexed()) {
-            errors.add("Invalid property named [" + info.getName() + "]. It mixes indexed and normal JavaBean methods.");
-          }
-        } else if (read != null && isValidIndexedGetter(read)) {
-          if (!info.isIndexed() && write != null) {
-            errors.add("Invalid property named [" + info.getName() + "]. It mixes indexed and normal JavaBean methods.");
-          }
-        } else if (read != null) {
-          errors.add("Invalid getter method for property named [" + info.getName() + "]");
-        }
-
-        if (write != null && isValidSetter(write)) {
-          if (info.isIndexed()) {
-            errors.add("Invalid property named [" + info.getName() + "]. It mixes indexed and normal JavaBean methods.");
-          }
-        } else if (write != null && isValidIndexedSetter(write)) {
-          if (!info.isIndexed() && read != null) {
-            errors.add("Invalid property named [" + info.getName() + "]. It mixes indexed and normal JavaBean methods.");
-          }
-        } else if (write != null) {
-          errors.add("Invalid setter method for property named [" + info.getName() + "]");
-        }
-
-        if (read != null && write != null &&
-            ((info.isIndexed() && read.getReturnType() != write.getParameterTypes()[1]) ||
-                (!info.isIndexed() && read.getReturnType() != write.getParameterTypes()[0]))) {
-          errors.add("Invalid getter/setter pair for JavaBean property named [" + info.getName() + "] in class [" +
-              write.getDeclaringClass() + "]. The return type and parameter types must be identical");
-        }
-      }
-
-      if (errors.size() > 0) {
-        throw new BeanExpressionException("Invalid JavaBean class [" + type + "]. Errors are:\n" + errors);
-      }
-
-      propertyCache.put(type, Collections.unmodifiableMap(propMap));
-    }
-
-    return propMap;
+    return propertyCache.get(type);
   }
 
   /**
@@ -687,6 +570,140 @@ public class ReflectionUtils {
     return new PropertyName(prefix, propertyName);
   }
 
+  private static Map<String, Field> loadFields(Class<?> type) {
+    Map<String, Field> fieldMap = new HashMap<>();
+    Field[] fields = type.getFields();
+    // Just a guess for initial capacity, but I doubt we'll have many NamedParameters.
+    List<Field> namedFields = new ArrayList<>(2);
+
+    for (Field field : fields) {
+      // Skip fields annotated with FieldName on th first pass
+      if (field.isAnnotationPresent(FieldName.class)) {
+        namedFields.add(field);
+        continue;
+      }
+
+      fieldMap.put(field.getName(), field);
+    }
+
+    // Process named parameters last so that we know the annotation is causing the duplicate name.
+    for (Field field : namedFields) {
+      String name = field.getAnnotation(FieldName.class).value();
+      if (fieldMap.containsKey(name)) {
+        throw new BeanExpressionException("Invalid JavaBean class [" + type + "]. Errors are:\n[A field annotated with " + FieldName.class.getSimpleName() + "] and value of [" + name + "] effectively duplicates the existing field of the same name. Rename or remove the duplicate field.]");
+      }
+
+      fieldMap.put(name, field);
+    }
+
+    return Collections.unmodifiableMap(fieldMap);
+  }
+
+  private static Method[] loadMethods(Class<?> type) {
+    return Arrays.stream(type.getMethods())
+                 .map(m -> new SortableMethod(m, type))
+                 .sorted()
+                 .map(sm -> sm.method)
+                 .toArray(Method[]::new);
+  }
+
+  private static Map<String, PropertyInfo> loadPropertyInfo(Class<?> type) {
+    Map<String, PropertyInfo> propMap = new HashMap<>();
+    Set<String> errors = new HashSet<>();
+    Method[] methods = findMethods(type);
+    for (Method method : methods) {
+      // Skip bridge methods (covariant or generics) because the non-bridge method is the one that should be correct
+      if (method.isBridge()) {
+        continue;
+      }
+
+      PropertyName name = method.isAnnotationPresent(FieldName.class)
+          ? new PropertyName("set", method.getAnnotation(FieldName.class).value())
+          : getPropertyNames(method.getName());
+
+      if (name == null) {
+        continue;
+      }
+
+      PropertyInfo info = propMap.get(name.getName());
+      boolean constructed = false;
+      if (info == null) {
+        info = new PropertyInfo();
+        info.setName(name.getName());
+        info.setDeclaringClass(method.getDeclaringClass());
+        constructed = true;
+      }
+
+      // Unify get and is
+      String prefix = name.getPrefix();
+      if (prefix.equals("is")) {
+        prefix = "get";
+      }
+
+      Method existingMethod = info.getMethods().get(prefix);
+      if (existingMethod != null) {
+        errors.add("Two or more [" + prefix + "] methods named [" + existingMethod.getName() + "] exist. Rename or remove the duplicate method.");
+        continue;
+      }
+
+      MethodInformationExtractor verifier = verifiers.get(prefix);
+      if (verifier == null) {
+        continue;
+      }
+
+      info.getMethods().put(prefix, method);
+      info.setGenericType(verifier.determineGenericType(method));
+      info.setType(verifier.determineType(method));
+      info.setIndexed(verifier.isIndexed(method));
+
+      if (constructed) {
+        propMap.put(name.getName(), info);
+      }
+    }
+
+    // Check for property errors
+    for (PropertyInfo info : propMap.values()) {
+      Method read = info.getMethods().get("get");
+      Method write = info.getMethods().get("set");
+      if (read != null && isValidGetter(read)) {
+        if (info.isIndexed()) {
+          errors.add("Invalid property named [" + info.getName() + "]. It mixes indexed and normal JavaBean methods.");
+        }
+      } else if (read != null && isValidIndexedGetter(read)) {
+        if (!info.isIndexed() && write != null) {
+          errors.add("Invalid property named [" + info.getName() + "]. It mixes indexed and normal JavaBean methods.");
+        }
+      } else if (read != null) {
+        errors.add("Invalid getter method for property named [" + info.getName() + "]");
+      }
+
+      if (write != null && isValidSetter(write)) {
+        if (info.isIndexed()) {
+          errors.add("Invalid property named [" + info.getName() + "]. It mixes indexed and normal JavaBean methods.");
+        }
+      } else if (write != null && isValidIndexedSetter(write)) {
+        if (!info.isIndexed() && read != null) {
+          errors.add("Invalid property named [" + info.getName() + "]. It mixes indexed and normal JavaBean methods.");
+        }
+      } else if (write != null) {
+        errors.add("Invalid setter method for property named [" + info.getName() + "]");
+      }
+
+      if (read != null && write != null &&
+          ((info.isIndexed() && read.getReturnType() != write.getParameterTypes()[1]) ||
+              (!info.isIndexed() && read.getReturnType() != write.getParameterTypes()[0]))) {
+        errors.add("Invalid getter/setter pair for JavaBean property named [" + info.getName() + "] in class [" +
+            write.getDeclaringClass() + "]. The return type and parameter types must be identical");
+      }
+    }
+
+    if (errors.size() > 0) {
+      throw new BeanExpressionException("Invalid JavaBean class [" + type + "]. Errors are:\n" + errors);
+    }
+
+    return Collections.unmodifiableMap(propMap);
+  }
+
   /**
    * This interface defines a mechanism to extract information from JavaBean properties.
    *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2007, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,4 +28,14 @@ public interface URIBuilder {
    * @return The URI.
    */
   String build(Class<?> type);
+
+  /**
+   * Returns a key that identifies the URIs built by this builder (see
+   * {@link org.primeframework.mvc.action.config.ActionConfigurator#cacheKey()}).
+   *
+   * @return The key or null if the URIs must be built for each injector, which is the default.
+   */
+  default Object cacheKey() {
+    return null;
+  }
 }
\ No newline at end of file
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012-2022, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2012-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,12 +17,13 @@ package org.primeframework.mvc.workflow;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.google.inject.Inject;
+import com.google.inject.Provider;
 import org.primeframework.mvc.action.result.ResultInvocationWorkflow;
 import org.primeframework.mvc.message.MessageWorkflow;
 import org.primeframework.mvc.scope.ScopeStorageWorkflow;
-import static java.util.Arrays.asList;
 
 /**
  * Default error workflow. This executes the workflows passed into the constructor in order.
@@ -33,9 +34,13 @@ public class DefaultErrorWorkflow implements ErrorWorkflow {
   private final List<Workflow> errorWorkflows;
 
   @Inject
-  public DefaultErrorWorkflow(ScopeStorageWorkflow scopeStorageWorkflow, MessageWorkflow messageWorkflow,
-                              ResultInvocationWorkflow resultInvocationWorkflow, MissingWorkflow missingWorkflow) {
-    errorWorkflows = asList(scopeStorageWorkflow, messageWorkflow, resultInvocationWorkflow, missingWorkflow);
+  public DefaultErrorWorkflow(Provider<ScopeStorageWorkflow> scopeStorageWorkflow,
+                              Provider<MessageWorkflow> messageWorkflow,
+                              Provider<ResultInvocationWorkflow> resultInvocationWorkflow,
+                              Provider<MissingWorkflow> missingWorkflow) {
+    errorWorkflows = Stream.of(scopeStorageWorkflow, messageWorkflow, resultInvocationWorkflow, missingWorkflow)
+                           .<Workflow>map(ProvidedWorkflow::new)
+                           .toList();
   }
 
   @Override
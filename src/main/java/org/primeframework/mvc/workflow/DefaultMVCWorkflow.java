@@ -1,5 +1,5 @@
 /*
-` * Copyright (c) 2001-2025, Inversoft Inc., All Rights Reserved
+` * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,8 +18,10 @@ package org.primeframework.mvc.workflow;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import com.google.inject.Inject;
+import com.google.inject.Provider;
 import io.fusionauth.http.server.HTTPResponse;
 import org.primeframework.mvc.ErrorException;
 import org.primeframework.mvc.action.ActionInvocationWorkflow;
@@ -36,49 +38,52 @@ import org.primeframework.mvc.scope.ScopeStorageWorkflow;
 import org.primeframework.mvc.security.SavedRequestWorkflow;
 import org.primeframework.mvc.security.SecurityWorkflow;
 import org.primeframework.mvc.validation.ValidationWorkflow;
-import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 
 /**
  * This class is the main entry point for the Prime MVC. It uses the workflows passed into the constructor in the order
  * they are passed in. It also catches {@link ErrorException} and then processes errors using an error workflow set. The
  * error set consists of the {@link ScopeStorageWorkflow} followed by the {@link ResultInvocationWorkflow}.
+ * <p>
+ * The workflows are injected as providers and are only created when the chain reaches them. This allows this class to
+ * be a singleton and means a request only builds the part of the object graph that it actually uses. For example, the
+ * static resource, missing and error workflows are never built for a request that is handled by an action.
  *
  * @author Brian Pontarelli
  */
 public class DefaultMVCWorkflow implements MVCWorkflow {
-  private final ErrorWorkflow errorWorkflow;
+  private final Provider<ErrorWorkflow> errorWorkflow;
 
-  private final ExceptionHandler exceptionHandler;
+  private final Provider<ExceptionHandler> exceptionHandler;
 
-  private final HTTPResponse response;
+  private final Provider<HTTPResponse> response;
 
   private final List<Workflow> workflows;
 
   @Inject
-  public DefaultMVCWorkflow(CORSRequestWorkflow corsRequestWorkflow,
-                            SavedRequestWorkflow savedRequestWorkflow,
-                            ActionMappingWorkflow actionMappingWorkflow,
-                            ScopeRetrievalWorkflow scopeRetrievalWorkflow,
-                            URIParameterWorkflow uriParameterWorkflow,
-                            ParameterWorkflow parameterWorkflow,
-                            ContentWorkflow contentWorkflow,
-                            PostParameterWorkflow postParameterWorkflow,
-                            SecurityWorkflow securityWorkflow,
-                            ValidationWorkflow validationWorkflow,
-                            MessageWorkflow messageWorkflow,
-                            ActionInvocationWorkflow actionInvocationWorkflow,
-                            ScopeStorageWorkflow scopeStorageWorkflow,
-                            ResultInvocationWorkflow resultInvocationWorkflow,
-                            StaticResourceWorkflow staticResourceWorkflow,
-                            MissingWorkflow missingWorkflow,
-                            ErrorWorkflow errorWorkflow,
-                            ExceptionHandler exceptionHandler,
-                            HTTPResponse response) {
+  public DefaultMVCWorkflow(Provider<CORSRequestWorkflow> corsRequestWorkflow,
+                            Provider<SavedRequestWorkflow> savedRequestWorkflow,
+                            Provider<ActionMappingWorkflow> actionMappingWorkflow,
+                            Provider<ScopeRetrievalWorkflow> scopeRetrievalWorkflow,
+                            Provider<URIParameterWorkflow> uriParameterWorkflow,
+                            Provider<ParameterWorkflow> parameterWorkflow,
+                            Provider<ContentWorkflow> contentWorkflow,
+                            Provider<PostParameterWorkflow> postParameterWorkflow,
+                            Provider<SecurityWorkflow> securityWorkflow,
+                            Provider<ValidationWorkflow> validationWorkflow,
+                            Provider<MessageWorkflow> messageWorkflow,
+                            Provider<ActionInvocationWorkflow> actionInvocationWorkflow,
+                            Provider<ScopeStorageWorkflow> scopeStorageWorkflow,
+                            Provider<ResultInvocationWorkflow> resultInvocationWorkflow,
+                            Provider<StaticResourceWorkflow> staticResourceWorkflow,
+                            Provider<MissingWorkflow> missingWorkflow,
+                            Provider<ErrorWorkflow> errorWorkflow,
+                            Provider<ExceptionHandler> exceptionHandler,
+                            Provider<HTTPResponse> response) {
     this.exceptionHandler = exceptionHandler;
     this.errorWorkflow = errorWorkflow;
     this.response = response;
-    this.workflows = asList(
+    this.workflows = Stream.of(
         corsRequestWorkflow,
         savedRequestWorkflow,
         actionMappingWorkflow,
@@ -94,7 +99,7 @@ public class DefaultMVCWorkflow implements MVCWorkflow {
         scopeStorageWorkflow,
         resultInvocationWorkflow,
         staticResourceWorkflow,
-        missingWorkflow);
+        missingWorkflow).<Workflow>map(ProvidedWorkflow::new).toList();
   }
 
   /**
@@ -109,6 +114,7 @@ public class DefaultMVCWorkflow implements MVCWorkflow {
       chain.continueWorkflow();
     } catch (RuntimeException | Error e) {
       // If any bytes were written, we are screwed and can't do anything here. Re-throw
+      HTTPResponse response = this.response.get();
       if (response.isCommitted()) {
         throw e;
       }
@@ -121,10 +127,10 @@ public class DefaultMVCWorkflow implements MVCWorkflow {
       cookies.forEach(response::addCookie);
 
       // Call the exception handler
-      exceptionHandler.handle(e);
+      exceptionHandler.get().handle(e);
 
       // Continue the error workflow
-      WorkflowChain errorChain = new SubWorkflowChain(singletonList(errorWorkflow), workflowChain);
+      WorkflowChain errorChain = new SubWorkflowChain(singletonList(errorWorkflow.get()), workflowChain);
       errorChain.continueWorkflow();
     }
   }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021-2025, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2021-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.util.List;
 
 import com.google.inject.Inject;
+import com.google.inject.Provider;
 import io.fusionauth.http.HTTPMethod;
 import org.primeframework.mvc.action.ActionInvocation;
 import org.primeframework.mvc.action.ActionInvocationStore;
@@ -44,13 +45,15 @@ public class DefaultMissingWorkflow implements MissingWorkflow {
 
   @Inject
   public DefaultMissingWorkflow(ActionInvocationStore actionInvocationStore, ActionMapper actionMapper,
-                                MVCConfiguration configuration, ActionInvocationWorkflow actionInvocationWorkflow,
-                                ScopeStorageWorkflow scopeStorageWorkflow,
-                                ResultInvocationWorkflow resultInvocationWorkflow) {
+                                MVCConfiguration configuration,
+                                Provider<ActionInvocationWorkflow> actionInvocationWorkflow,
+                                Provider<ScopeStorageWorkflow> scopeStorageWorkflow,
+                                Provider<ResultInvocationWorkflow> resultInvocationWorkflow) {
     this.actionInvocationStore = actionInvocationStore;
     this.actionMapper = actionMapper;
     this.configuration = configuration;
-    this.workflows = List.of(actionInvocationWorkflow, scopeStorageWorkflow, resultInvocationWorkflow);
+    this.workflows = List.of(new ProvidedWorkflow(actionInvocationWorkflow), new ProvidedWorkflow(scopeStorageWorkflow),
+        new ProvidedWorkflow(resultInvocationWorkflow));
   }
 
   @Override
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.workflow;
+
+import java.io.IOException;
+
+import com.google.inject.Provider;
+
+/**
+ * A workflow that defers creating the real workflow until the chain actually reaches it. This allows singleton
+ * workflows that compose other workflows to hold onto the chain once, while the request scoped parts of the graph are
+ * only built for the workflows that a request actually uses.
+ */
+final class ProvidedWorkflow implements Workflow {
+  private final Provider<? extends Workflow> provider;
+
+  ProvidedWorkflow(Provider<? extends Workflow> provider) {
+    this.provider = provider;
+  }
+
+  @Override
+  public void perform(WorkflowChain workflowChain) throws IOException {
+    provider.get().perform(workflowChain);
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012-2025, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2012-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import io.fusionauth.http.HTTPProcessingException;
 import org.primeframework.mvc.ErrorException;
 import org.primeframework.mvc.action.result.DefaultMVCWorkflowFinalizer;
 import org.primeframework.mvc.action.result.MVCWorkflowFinalizer;
+import org.primeframework.mvc.cors.CORSFilterCache;
 import org.primeframework.mvc.workflow.DefaultErrorWorkflow;
 import org.primeframework.mvc.workflow.DefaultExceptionHandler;
 import org.primeframework.mvc.workflow.DefaultMVCWorkflow;
@@ -40,7 +41,7 @@ import org.primeframework.mvc.workflow.TypedExceptionHandlerFactory;
  */
 public class WorkflowModule extends AbstractModule {
   protected void bindErrorWorkflow() {
-    bind(ErrorWorkflow.class).to(DefaultErrorWorkflow.class);
+    bind(ErrorWorkflow.class).to(DefaultErrorWorkflow.class).in(Singleton.class);
   }
 
   protected void bindExceptionHandler() {
@@ -48,7 +49,7 @@ public class WorkflowModule extends AbstractModule {
   }
 
   protected void bindMVCWorkflow() {
-    bind(MVCWorkflow.class).to(DefaultMVCWorkflow.class);
+    bind(MVCWorkflow.class).to(DefaultMVCWorkflow.class).in(Singleton.class);
   }
 
   protected void bindMVCWorkflowFinalizer() {
@@ -56,12 +57,13 @@ public class WorkflowModule extends AbstractModule {
   }
 
   protected void bindMissingWorkflow() {
-    bind(MissingWorkflow.class).to(DefaultMissingWorkflow.class);
+    bind(MissingWorkflow.class).to(DefaultMissingWorkflow.class).in(Singleton.class);
   }
 
   @Override
   protected void configure() {
-    bind(TypedExceptionHandlerFactory.class);
+    bind(CORSFilterCache.class).in(Singleton.class);
+    bind(TypedExceptionHandlerFactory.class).in(Singleton.class);
     TypedExceptionHandlerFactory.addExceptionHandler(binder(), ErrorException.class, ErrorExceptionHandler.class);
     TypedExceptionHandlerFactory.addExceptionHandler(binder(), HTTPProcessingException.class, HTTPProcessingExceptionHandler.class);
 
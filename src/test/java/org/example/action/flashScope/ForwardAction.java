@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.example.action.flashScope;
+
+import com.google.inject.Inject;
+import org.primeframework.mvc.action.annotation.Action;
+import org.primeframework.mvc.action.result.annotation.Forward;
+import org.primeframework.mvc.message.MessageStore;
+import org.primeframework.mvc.message.MessageType;
+import org.primeframework.mvc.message.SimpleMessage;
+import org.primeframework.mvc.message.l10n.MessageProvider;
+import org.primeframework.mvc.message.scope.MessageScope;
+
+/**
+ * Adds a flash message and then renders a page larger than the response buffer.
+ */
+@Action
+@Forward
+public class ForwardAction {
+  private final MessageProvider messageProvider;
+
+  private final MessageStore messageStore;
+
+  @Inject
+  public ForwardAction(MessageProvider messageProvider, MessageStore messageStore) {
+    this.messageProvider = messageProvider;
+    this.messageStore = messageStore;
+  }
+
+  public String get() {
+    messageStore.add(MessageScope.FLASH, new SimpleMessage(MessageType.INFO, "[FlashScopeMessageKey]", messageProvider.getMessage("[FlashScopeMessageKey]")));
+    return "success";
+  }
+}
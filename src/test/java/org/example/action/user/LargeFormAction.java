@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.example.action.user;
+
+import javax.inject.Inject;
+
+import io.fusionauth.http.server.HTTPRequest;
+import org.primeframework.mvc.action.annotation.Action;
+
+/**
+ * This class renders a form with a large number of controls for performance testing.
+ */
+@Action
+public class LargeFormAction extends FullFormAction {
+  @Inject
+  public LargeFormAction(HTTPRequest request) {
+    super(request);
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2024, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,7 +21,9 @@ import org.example.domain.User;
 import org.primeframework.mvc.security.CBCCipherProvider;
 import org.primeframework.mvc.security.DefaultEncryptor;
 import org.primeframework.mvc.security.Encryptor;
+import org.primeframework.mvc.util.CookieTools;
 import org.testng.annotations.Test;
+import static org.testng.Assert.assertNotEquals;
 
 /**
  * This class tests managed JSON cookies.
@@ -74,6 +76,15 @@ public class BrowserSessionTest extends PrimeBaseTest {
                                  .assertStatusCode(200)
                                  .assertBodyContains("The user is Brian Pontarelli")
                                  .assertContainsCookie("user"));
+
+    // A cookie in the current format that was encrypted with AES/CBC is encrypted again even though the user didn't change
+    String current = CookieTools.toCookie(serialized, true, true, cbcEncryptor);
+    test.simulate(() -> simulator.test("/browser-session/second")
+                                 .withCookie("user", current)
+                                 .get()
+                                 .assertStatusCode(200)
+                                 .assertBodyContains("The user is Brian Pontarelli")
+                                 .assertCookie("user", cookie -> assertNotEquals(cookie.actual.value, current)));
   }
 
   @Test
@@ -87,7 +98,8 @@ public class BrowserSessionTest extends PrimeBaseTest {
                                  .get()
                                  .assertStatusCode(200)
                                  .assertBodyContains("The user is Brian Pontarelli")
-                                 .assertContainsCookie("user"))
+                                 // The user wasn't changed, so the session cookie isn't written again
+                                 .assertDoesNotContainsCookie("user"))
         .simulate(() -> simulator.test("/browser-session/second")
                                  .post()
                                  .assertStatusCode(302)
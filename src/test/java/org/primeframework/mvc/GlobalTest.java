@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2025, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -1228,6 +1228,22 @@ public class GlobalTest extends PrimeBaseTest {
     }
   }
 
+  @Test
+  public void get_forward_flash_scope_largeBody() throws Exception {
+    // Use case: the flash cookie is written before a page larger than the response buffer commits the response
+    simulator.test("/flash-scope/forward")
+             .get()
+             .assertStatusCode(200)
+             .assertBodyContains("This line is repeated to render a page larger than the response buffer 4096")
+             .assertContainsCookie(configuration.messageFlashScopeCookieName());
+
+    simulator.test("/flash-scope/")
+             .get()
+             .assertStatusCode(200)
+             .assertContainsGeneralMessageCodes(MessageType.INFO, "[FlashScopeMessageKey]")
+             .assertBodyContains("Info:This is a message!");
+  }
+
   @Test
   public void get_redirect_flash_scope_messageLookup() throws Exception {
     // Use case, see if we can correctly assert on a message key in a body when the message only exists in a bundle for the initial action
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2025, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import org.primeframework.mvc.security.DefaultEncryptor;
 import org.primeframework.mvc.security.Encryptor;
 import org.primeframework.mvc.util.CookieTools;
 import org.testng.annotations.Test;
+import static org.testng.Assert.assertNotEquals;
 
 /**
  * This class tests managed cookies.
@@ -260,6 +261,33 @@ public class ManagedCookieTest extends PrimeBaseTest {
                                  .assertNormalizedBody("bar"));
   }
 
+  @Test
+  public void legacy_cipher_cookie_is_encrypted_again() throws Exception {
+    // Scenario:
+    // 1) Browser has a cookie in the current format that was encrypted with AES/CBC
+    // 2) Browser submits the cookie and the action doesn't change it
+    // 3) The cookie can still be decrypted, but it is encrypted again with AES/GCM rather than sent back as-is
+    Encryptor cbcEncryptor = new DefaultEncryptor(new CBCCipherProvider(configuration), new CBCCipherProvider(configuration));
+    String legacy = CookieTools.toCookie("foo".getBytes(StandardCharsets.UTF_8), false, true, cbcEncryptor);
+
+    test.simulate(() -> simulator.test("/encrypted-managed-cookie")
+                                 .withCookie("cookie", legacy)
+                                 .get()
+                                 .assertStatusCode(200)
+                                 .assertNormalizedBody("foo")
+                                 .assertEncryptedCookie("cookie", "foo")
+                                 .assertCookie("cookie", cookie -> assertNotEquals(cookie.actual.value, legacy)))
+
+        // The same applies to session cookies, which are otherwise not written when they are unchanged
+        .simulate(() -> simulator.test("/managed-session-cookie")
+                                 .withCookie("cookie", legacy)
+                                 .get()
+                                 .assertStatusCode(200)
+                                 .assertNormalizedBody("foo")
+                                 .assertEncryptedCookie("cookie", "foo")
+                                 .assertCookie("cookie", cookie -> assertNotEquals(cookie.actual.value, legacy)));
+  }
+
   @Test
   public void managed_cookie_scope() throws Exception {
     // Test use of multiple cookies on a single action
@@ -343,6 +371,48 @@ public class ManagedCookieTest extends PrimeBaseTest {
                                  .assertDoesNotContainsCookie("fusionauth.sso"));
   }
 
+  @Test
+  public void unchanged_cookie() throws Exception {
+    String encrypted = simulator.test("/encrypted-managed-cookie")
+                                .withParameter("value", "bar")
+                                .post()
+                                .assertStatusCode(200)
+                                .assertEncryptedCookie("cookie", "bar")
+                                .getCookie("cookie").value;
+
+    // The cookie has a max age, so it is sent back for the expiration to slide forward, but with the value from the
+    // request instead of being encrypted again
+    simulator.test("/encrypted-managed-cookie")
+             .get()
+             .assertStatusCode(200)
+             .assertNormalizedBody("bar")
+             .assertCookie("cookie", cookie -> cookie.assertValue(encrypted)
+                                                     .assertMaxAge((long) Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void unchanged_session_cookie() throws Exception {
+    test.simulate(() -> simulator.test("/managed-session-cookie")
+                                 .withParameter("value", "bar")
+                                 .post()
+                                 .assertStatusCode(200)
+                                 .assertEncryptedCookie("cookie", "bar"))
+
+        // The action didn't change the session cookie, so it isn't written again
+        .simulate(() -> simulator.test("/managed-session-cookie")
+                                 .get()
+                                 .assertStatusCode(200)
+                                 .assertNormalizedBody("bar")
+                                 .assertDoesNotContainsCookie("cookie"))
+
+        // Changing the value writes it again
+        .simulate(() -> simulator.test("/managed-session-cookie")
+                                 .withParameter("value", "baz")
+                                 .post()
+                                 .assertStatusCode(200)
+                                 .assertEncryptedCookie("cookie", "baz"));
+  }
+
   @Test
   public void uncompressed_unencrypted_contains_json() throws Exception {
     // 1) The legacy cookie contains a value that can be parsed as JSON
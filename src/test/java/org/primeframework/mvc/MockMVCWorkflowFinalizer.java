@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2023-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,16 +17,26 @@ package org.primeframework.mvc;
 
 import java.util.concurrent.atomic.AtomicInteger;
 
-import org.primeframework.mvc.action.result.MVCWorkflowFinalizer;
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import org.primeframework.mvc.action.result.DefaultMVCWorkflowFinalizer;
+import org.primeframework.mvc.action.result.ResultStore;
+import org.primeframework.mvc.message.scope.FlashScope;
 
 /**
  * @author Daniel DeGroff
  */
-public class MockMVCWorkflowFinalizer implements MVCWorkflowFinalizer {
+public class MockMVCWorkflowFinalizer extends DefaultMVCWorkflowFinalizer {
   public static AtomicInteger Called = new AtomicInteger(0);
 
+  @Inject
+  public MockMVCWorkflowFinalizer(Provider<FlashScope> flashScopeProvider, ResultStore resultStore) {
+    super(flashScopeProvider, resultStore);
+  }
+
   @Override
   public void run() {
     Called.getAndIncrement();
+    super.run();
   }
 }
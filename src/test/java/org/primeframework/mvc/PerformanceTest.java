@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2023, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,7 +15,21 @@
  */
 package org.primeframework.mvc;
 
+import java.lang.management.ManagementFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.ThreadMXBean;
+import io.fusionauth.http.server.HTTPRequest;
+import org.primeframework.mvc.http.HTTPTools;
+import org.primeframework.mvc.security.Encryptor;
+import org.primeframework.mvc.security.UserLoginSecurityContext;
+import org.primeframework.mvc.security.csrf.CSRFProvider;
+import org.primeframework.mvc.security.csrf.DefaultEncryptionBasedTokenCSRFProvider;
+import org.primeframework.mvc.security.csrf.HMACTokenCSRFProvider;
 import org.testng.annotations.Test;
+import static org.easymock.EasyMock.createNiceMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
 
 /**
  * This class tests performance issues.
@@ -23,6 +37,16 @@ import org.testng.annotations.Test;
  * @author Brian Pontarelli
  */
 public class PerformanceTest extends PrimeBaseTest {
+  @Test(enabled = false)
+  public void csrfTokens() {
+    UserLoginSecurityContext securityContext = createNiceMock(UserLoginSecurityContext.class);
+    expect(securityContext.getSessionId()).andReturn("c8e0f1a4-5b2d-4e8b-9d51-1f0c2a3b4d5e").anyTimes();
+    replay(securityContext);
+
+    benchmarkCSRF(new DefaultEncryptionBasedTokenCSRFProvider(injector.getInstance(Encryptor.class), injector.getInstance(ObjectMapper.class), securityContext));
+    benchmarkCSRF(new HMACTokenCSRFProvider(configuration, () -> securityContext));
+  }
+
   @Test(enabled = false)
   public void get() throws Exception {
     for (int i = 0; i < 30_000; i++) {
@@ -36,4 +60,116 @@ public class PerformanceTest extends PrimeBaseTest {
       }
     }
   }
-}
\ No newline at end of file
+
+  @Test(enabled = false)
+  public void allocationsPerRequest() throws Exception {
+    ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Warm up
+    for (int i = 0; i < 1_000; i++) {
+      simulator.test("/user/edit")
+               .get()
+               .assertStatusCode(200);
+    }
+
+    int iterations = 10_000;
+    long startBytes = allocatedBytes(threads);
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      simulator.test("/user/edit")
+               .get()
+               .assertStatusCode(200);
+    }
+
+    long total = System.nanoTime() - start;
+    long bytes = allocatedBytes(threads) - startBytes;
+    System.out.println("Handled [" + iterations + "] requests in [" + (total / 1_000_000) + "] ms. Average [" + (total / iterations / 1_000) + "] µs and [" + (bytes / iterations) + "] bytes allocated per request (client and server)");
+  }
+
+  @Test(enabled = false)
+  public void largeForm() throws Exception {
+    // Warm up
+    for (int i = 0; i < 1_000; i++) {
+      simulator.test("/user/large-form")
+               .get()
+               .assertStatusCode(200);
+    }
+
+    int iterations = 10_000;
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      simulator.test("/user/large-form")
+               .get()
+               .assertStatusCode(200)
+               .assertBodyContains("user.favoriteYear");
+    }
+
+    long total = System.nanoTime() - start;
+    System.out.println("Rendered the large form [" + iterations + "] times in [" + (total / 1_000_000) + "] ms. Average [" + (total / iterations / 1_000) + "] µs");
+  }
+
+  @Test(enabled = false)
+  public void uriNormalization() {
+    String[] paths = {"/api/user/search", "/css/../js/app.min.js", "//static///images/logo.png", "/admin/user/edit;jsessionid=42", "/.well-known/openid-configuration"};
+    HTTPRequest[] requests = new HTTPRequest[paths.length];
+    for (int i = 0; i < paths.length; i++) {
+      String path = paths[i];
+      requests[i] = new HTTPRequest().with(r -> r.setPath(path));
+    }
+
+    ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    int blackhole = 0;
+
+    // Warm up
+    for (int i = 0; i < 1_000_000; i++) {
+      String sanitized = HTTPTools.sanitizeURI(HTTPTools.getRequestURI(requests[i % requests.length]));
+      blackhole += sanitized != null ? sanitized.length() : 0;
+    }
+
+    int iterations = 10_000_000;
+    long startBytes = threads.getCurrentThreadAllocatedBytes();
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      String sanitized = HTTPTools.sanitizeURI(HTTPTools.getRequestURI(requests[i % requests.length]));
+      blackhole += sanitized != null ? sanitized.length() : 0;
+    }
+
+    long total = System.nanoTime() - start;
+    long bytes = threads.getCurrentThreadAllocatedBytes() - startBytes;
+    System.out.println("Normalized [" + iterations + "] URIs in [" + (total / 1_000_000) + "] ms. Average [" + (total / iterations) + "] ns and [" + (bytes / iterations) + "] bytes allocated per URI [" + blackhole + "]");
+  }
+
+  private void benchmarkCSRF(CSRFProvider provider) {
+    // Warm up
+    for (int i = 0; i < 10_000; i++) {
+      generateAndValidate(provider);
+    }
+
+    int iterations = 100_000;
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      generateAndValidate(provider);
+    }
+
+    long total = System.nanoTime() - start;
+    String token = provider.getToken(new HTTPRequest());
+    System.out.println("[" + provider.getClass().getSimpleName() + "] generated and validated [" + iterations + "] tokens in [" + (total / 1_000_000) + "] ms. Average [" + (total / iterations) + "] ns. Token length [" + token.length() + "]");
+  }
+
+  private void generateAndValidate(CSRFProvider provider) {
+    String token = provider.getToken(new HTTPRequest());
+    HTTPRequest request = new HTTPRequest();
+    request.addURLParameter(provider.getParameterName(), token);
+    if (!provider.validateRequest(request)) {
+      throw new AssertionError("Invalid CSRF token [" + token + "]");
+    }
+  }
+
+  private long allocatedBytes(ThreadMXBean threads) {
+    long total = 0;
+    for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+      total += Math.max(bytes, 0);
+    }
+    return total;
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.fusionauth.http.server.HTTPContext;
+import io.fusionauth.http.server.HTTPRequest;
+import io.fusionauth.http.server.HTTPResponse;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.domain.User;
+import org.primeframework.mvc.action.ActionInvocation;
+import org.primeframework.mvc.action.ActionInvocationStore;
+import org.primeframework.mvc.action.DefaultActionInvocationStore;
+import org.primeframework.mvc.action.result.DefaultResourceLocator;
+import org.primeframework.mvc.action.result.RequestResultStore;
+import org.primeframework.mvc.action.result.ResultStore;
+import org.primeframework.mvc.http.HTTPObjectsHolder;
+import org.primeframework.mvc.util.ReflectionUtils;
+import org.testng.annotations.Test;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Uses JFR to verify that the per-request state and caches do not pin the carrier thread when a request is handled on a
+ * virtual thread.
+ */
+public class VirtualThreadPinningTest {
+  private static final Object lock = new Object();
+
+  @Test
+  public void requestHotPath() throws Exception {
+    // Locating a resource is blocking I/O, which parks a virtual thread
+    HTTPContext context = new HTTPContext(Path.of("src/main/web")) {
+      @Override
+      public URL getResource(String path) {
+        sleep();
+        return null;
+      }
+    };
+
+    ResultStore resultStore = new RequestResultStore();
+    ActionInvocationStore actionInvocationStore = new DefaultActionInvocationStore(HTTPObjectsHolder::getRequest);
+    DefaultResourceLocator locator = new DefaultResourceLocator(actionInvocationStore, resultStore, context);
+
+    Path file = Files.createTempFile("prime-pinning", ".jfr");
+    try {
+      try (Recording recording = new Recording()) {
+        recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+        recording.start();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+          List<Future<?>> futures = new ArrayList<>();
+          for (int i = 0; i < 64; i++) {
+            String uri = "/pinning/" + i;
+            futures.add(executor.submit(() -> {
+              HTTPObjectsHolder.run(new HTTPRequest(), new HTTPResponse(), () -> {
+                actionInvocationStore.setCurrent(new ActionInvocation(null, null, uri, null, null));
+                resultStore.set("success");
+                assertNull(locator.locate("/WEB-INF/templates"));
+                assertNull(locator.locateIndex("/WEB-INF/templates"));
+                assertTrue(ReflectionUtils.findPropertyInfo(User.class).containsKey("name"));
+                assertEquals(resultStore.get(), "success");
+                assertEquals(actionInvocationStore.getCurrent().actionURI, uri);
+              });
+              return null;
+            }));
+          }
+
+          // Control that proves the recording catches pinning in this JVM
+          futures.add(executor.submit(VirtualThreadPinningTest::pinOnPurpose));
+
+          for (Future<?> future : futures) {
+            future.get();
+          }
+        }
+
+        recording.stop();
+        recording.dump(file);
+      }
+
+      int control = 0;
+      List<String> pinned = new ArrayList<>();
+      for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+        if (!event.getEventType().getName().equals("jdk.VirtualThreadPinned")) {
+          continue;
+        }
+
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        if (frames.stream().anyMatch(frame -> frame.getMethod().getName().equals("pinOnPurpose"))) {
+          control++;
+        } else {
+          pinned.add(event.toString());
+        }
+      }
+
+      assertTrue(control > 0, "The JFR recording did not capture the intentionally pinned virtual thread");
+      assertEquals(pinned, List.of(), "Virtual threads were pinned on the request path");
+      assertNull(HTTPObjectsHolder.getRequest());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static void pinOnPurpose() {
+    synchronized (lock) {
+      sleep();
+    }
+  }
+
+  private static void sleep() {
+    try {
+      Thread.sleep(1);
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
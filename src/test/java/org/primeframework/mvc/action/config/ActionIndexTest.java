@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.action.config;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.example.action.SimpleAction;
+import org.primeframework.mvc.action.annotation.Action;
+import org.primeframework.mvc.content.binary.BinaryActionConfigurator;
+import org.primeframework.mvc.content.json.JacksonActionConfigurator;
+import org.primeframework.mvc.util.ClassClasspathResolver;
+import org.primeframework.mvc.util.DefaultURIBuilder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the action index and the annotation processor that writes it.
+ */
+public class ActionIndexTest {
+  private final List<Path> tempDirectories = new ArrayList<>();
+
+  @AfterMethod
+  public void deleteTempDirectories() throws Exception {
+    for (Path dir : tempDirectories) {
+      try (Stream<Path> paths = Files.walk(dir)) {
+        for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+          Files.delete(path);
+        }
+      }
+    }
+
+    tempDirectories.clear();
+  }
+
+  @Test
+  public void inActionPackage() {
+    assertTrue(ActionIndexProcessor.inActionPackage("action"));
+    assertTrue(ActionIndexProcessor.inActionPackage("com.example.action"));
+    assertTrue(ActionIndexProcessor.inActionPackage("com.example.action.user"));
+    assertFalse(ActionIndexProcessor.inActionPackage("com.example.actions"));
+    assertFalse(ActionIndexProcessor.inActionPackage("com.example.domain"));
+    assertFalse(ActionIndexProcessor.inActionPackage(""));
+  }
+
+  @Test
+  public void noIndex() throws Exception {
+    Path dir = tempDirectory();
+    assertNull(ActionIndex.read(dir.toFile()));
+
+    Path jar = dir.resolve("actions.jar");
+    try (JarOutputStream jos = new JarOutputStream(Files.newOutputStream(jar))) {
+      jos.putNextEntry(new JarEntry("org/example/action/SimpleAction.class"));
+      jos.closeEntry();
+    }
+    assertNull(ActionIndex.read(jar.toFile()));
+  }
+
+  @Test
+  public void jar() throws Exception {
+    Path jar = tempDirectory().resolve("actions.jar");
+    try (JarOutputStream jos = new JarOutputStream(Files.newOutputStream(jar))) {
+      jos.putNextEntry(new JarEntry(ActionIndex.LOCATION));
+      jos.write("org.example.action.SimpleAction\n".getBytes(StandardCharsets.UTF_8));
+      jos.closeEntry();
+    }
+
+    assertEquals(ActionIndex.read(jar.toFile()), Set.of("org.example.action.SimpleAction"));
+  }
+
+  @Test
+  public void load() {
+    Set<String> names = new LinkedHashSet<>(List.of("org.example.action.SimpleAction", "org.example.domain.User", "org.example.action.Missing"));
+    assertEquals(ActionIndex.load(names, "classes", getClass().getClassLoader()), Set.of(SimpleAction.class));
+  }
+
+  @Test
+  public void processor() throws Exception {
+    Path dir = tempDirectory();
+    Path source = dir.resolve("src");
+    Path output = dir.resolve("classes");
+    Files.createDirectories(output);
+    write(source.resolve("com/example/action/user/EditAction.java"),
+        "package com.example.action.user;\n" +
+            "@org.primeframework.mvc.action.annotation.Action\n" +
+            "public class EditAction {\n" +
+            "  @org.primeframework.mvc.action.annotation.Action(\"{id}\")\n" +
+            "  public static class Nested {}\n" +
+            "}\n");
+    write(source.resolve("com/example/action/Helper.java"), "package com.example.action;\npublic class Helper {}\n");
+    write(source.resolve("com/example/domain/DomainAction.java"),
+        "package com.example.domain;\n@org.primeframework.mvc.action.annotation.Action\npublic class DomainAction {}\n");
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    int result = compiler.run(null, null, null,
+        "-proc:only", "-processor", ActionIndexProcessor.class.getName(),
+        "-classpath", System.getProperty("java.class.path"),
+        "-d", output.toString(),
+        source.resolve("com/example/action/user/EditAction.java").toString(),
+        source.resolve("com/example/action/Helper.java").toString(),
+        source.resolve("com/example/domain/DomainAction.java").toString());
+    assertEquals(result, 0);
+
+    Path index = output.resolve(ActionIndex.LOCATION);
+    assertTrue(Files.isRegularFile(index));
+    assertEquals(ActionIndex.read(output.toFile()), Set.of("com.example.action.user.EditAction", "com.example.action.user.EditAction$Nested"));
+  }
+
+  @Test
+  public void read() throws Exception {
+    String index = "# Comment\n\norg.example.action.SimpleAction\n  org.example.action.user.IndexAction  \n";
+    assertEquals(ActionIndex.read(new ByteArrayInputStream(index.getBytes(StandardCharsets.UTF_8))),
+        Set.of("org.example.action.SimpleAction", "org.example.action.user.IndexAction"));
+  }
+
+  @Test(enabled = false)
+  public void startup() throws Exception {
+    int iterations = 50;
+    long scanning = time(iterations);
+
+    // Write an index into each classpath entry that has action classes
+    ClassClasspathResolver<Object> resolver = new ClassClasspathResolver<>();
+    Set<Class<Object>> actionClasses = resolver.findByLocators(new ClassClasspathResolver.AnnotatedWith<>(Action.class), true, null, "action");
+    Map<Path, List<String>> roots = new HashMap<>();
+    for (Class<?> actionClass : actionClasses) {
+      Path root = Path.of(actionClass.getProtectionDomain().getCodeSource().getLocation().toURI());
+      roots.computeIfAbsent(root, k -> new ArrayList<>()).add(actionClass.getName());
+    }
+
+    try {
+      for (Entry<Path, List<String>> entry : roots.entrySet()) {
+        write(entry.getKey().resolve(ActionIndex.LOCATION), String.join("\n", entry.getValue()));
+      }
+
+      long indexed = time(iterations);
+      System.out.println("Built the action configuration for [" + actionClasses.size() + "] actions [" + iterations + "] times. " +
+          "Average with scanning [" + (scanning / iterations / 1_000_000) + "] ms. " +
+          "Average with the index [" + (indexed / iterations / 1_000_000) + "] ms");
+    } finally {
+      for (Path root : roots.keySet()) {
+        Files.deleteIfExists(root.resolve(ActionIndex.LOCATION));
+      }
+    }
+  }
+
+  private long time(int iterations) {
+    DefaultActionConfigurationBuilder builder = new DefaultActionConfigurationBuilder(new DefaultURIBuilder(),
+        new HashSet<>(Arrays.asList(new JacksonActionConfigurator(), new BinaryActionConfigurator())));
+
+    // Warm up
+    for (int i = 0; i < 5; i++) {
+      DefaultActionConfigurationProvider.clearCache();
+      new DefaultActionConfigurationProvider(builder);
+    }
+
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      DefaultActionConfigurationProvider.clearCache();
+      new DefaultActionConfigurationProvider(builder);
+    }
+
+    return System.nanoTime() - start;
+  }
+
+  private Path tempDirectory() throws Exception {
+    Path dir = Files.createTempDirectory("prime-mvc-index");
+    tempDirectories.add(dir);
+    return dir;
+  }
+
+  private void write(Path file, String contents) throws Exception {
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, contents);
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2018, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -43,6 +43,7 @@ import static java.util.Collections.singletonList;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
@@ -179,6 +180,40 @@ public class DefaultActionConfigurationProviderTest {
 //    assertEquals(invocation.uriParameters.get("param2"), singletonList("two"));
   }
 
+  @Test
+  public void hup() {
+    DefaultActionConfigurationProvider.clearCache();
+    DefaultActionConfigurationProvider first = new DefaultActionConfigurationProvider(
+        new DefaultActionConfigurationBuilder(new DefaultURIBuilder(), new HashSet<>(Arrays.asList(new JacksonActionConfigurator(),
+            new BinaryActionConfigurator())))
+    );
+
+    // A new builder with the same configurators reuses the configurations
+    DefaultActionConfigurationProvider second = new DefaultActionConfigurationProvider(
+        new DefaultActionConfigurationBuilder(new DefaultURIBuilder(), new HashSet<>(Arrays.asList(new BinaryActionConfigurator(),
+            new JacksonActionConfigurator())))
+    );
+    assertSame(second.lookup("/simple").configuration, first.lookup("/simple").configuration);
+
+    // Different configurators cause the configurations to be rebuilt
+    DefaultActionConfigurationProvider third = new DefaultActionConfigurationProvider(
+        new DefaultActionConfigurationBuilder(new DefaultURIBuilder(), new HashSet<>(singletonList(new JacksonActionConfigurator())))
+    );
+    assertNotSame(third.lookup("/simple").configuration, first.lookup("/simple").configuration);
+    assertNull(third.lookup("/simple").configuration.additionalConfiguration.get(BinaryActionConfiguration.class));
+    assertEquals(third.getActionConfigurations().size(), first.getActionConfigurations().size());
+
+    // A configurator without a key is rebuilt for each injector
+    ActionConfigurator configurator = actionClass -> null;
+    DefaultActionConfigurationProvider fourth = new DefaultActionConfigurationProvider(
+        new DefaultActionConfigurationBuilder(new DefaultURIBuilder(), new HashSet<>(singletonList(configurator)))
+    );
+    DefaultActionConfigurationProvider fifth = new DefaultActionConfigurationProvider(
+        new DefaultActionConfigurationBuilder(new DefaultURIBuilder(), new HashSet<>(singletonList(configurator)))
+    );
+    assertNotSame(fifth.lookup("/simple").configuration, fourth.lookup("/simple").configuration);
+  }
+
   @Test
   public void lookupMultipleTreePaths() {
     DefaultActionConfigurationProvider provider = new DefaultActionConfigurationProvider(
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.cors;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import io.fusionauth.http.HTTPMethod;
+import io.fusionauth.http.HTTPValues.Headers;
+import io.fusionauth.http.server.HTTPRequest;
+import io.fusionauth.http.server.HTTPResponse;
+import org.testng.annotations.Test;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Tests the compiled origin matching and the cached path and pre-flight decisions of the CORS filter.
+ */
+public class CORSFilterCacheTest {
+  @Test
+  public void configurations() {
+    CORSFilterCache cache = new CORSFilterCache();
+    CORSConfiguration tenant1 = new CORSConfiguration().withAllowedMethods(HTTPMethod.GET)
+                                                       .withAllowedOrigins(URI.create("https://one.example.com"))
+                                                       .withExcludedPathPattern(Pattern.compile("^/admin"));
+    CORSConfiguration tenant2 = new CORSConfiguration().withAllowedMethods(HTTPMethod.GET)
+                                                       .withAllowedOrigins(URI.create("https://two.example.com"));
+
+    // Alternating configurations each keep their own filter
+    CORSFilter filter1 = cache.get(tenant1);
+    CORSFilter filter2 = cache.get(tenant2);
+    assertNotSame(filter1, filter2);
+    assertSame(cache.get(tenant1), filter1);
+    assertSame(cache.get(tenant2), filter2);
+
+    // An equal configuration, including an equal pattern, shares the filter
+    assertSame(cache.get(new CORSConfiguration().withAllowedMethods(HTTPMethod.GET)
+                                                .withAllowedOrigins(URI.create("https://one.example.com"))
+                                                .withExcludedPathPattern(Pattern.compile("^/admin"))), filter1);
+
+    // Changing the configuration builds a new filter
+    tenant1.withAllowedOrigins(URI.create("https://three.example.com"));
+    assertNotSame(cache.get(tenant1), filter1);
+    assertSame(cache.get(tenant2), filter2);
+
+    // The cache is bounded
+    for (int i = 0; i < CORSFilterCache.MaxFilters; i++) {
+      cache.get(new CORSConfiguration().withPreflightMaxAgeInSeconds(i));
+    }
+    assertNotSame(cache.get(tenant2), filter2);
+  }
+
+  @Test
+  public void excludedPaths() throws Exception {
+    CORSFilter filter = new CORSFilter()
+        .withAllowedHTTPMethods(List.of(HTTPMethod.GET))
+        .withAllowedOrigins(List.of(URI.create("https://app.example.com")))
+        .withExcludedPathPattern(Pattern.compile("^/admin"));
+
+    // The cached decision for each path is reused
+    for (int i = 0; i < 2; i++) {
+      assertEquals(preflight(filter, "https://app.example.com", "/admin/users", "GET", null).getStatus(), 403);
+      assertEquals(preflight(filter, "https://app.example.com", "/api/users", "GET", null).getStatus(), 204);
+    }
+  }
+
+  @Test
+  public void preflight() throws Exception {
+    CORSFilter filter = new CORSFilter()
+        .withAllowCredentials(true)
+        .withAllowedHTTPHeaders(List.of("Content-Type", "Authorization"))
+        .withAllowedHTTPMethods(List.of(HTTPMethod.GET, HTTPMethod.PUT))
+        .withAllowedOrigins(List.of(URI.create("https://app.example.com")))
+        .withPreflightMaxAge(600);
+
+    // The second request of each pair is replayed from the cache and must produce the same response
+    for (int i = 0; i < 2; i++) {
+      HTTPResponse response = preflight(filter, "https://app.example.com", "/api", "PUT", "content-type, authorization");
+      assertEquals(response.getStatus(), 204);
+      assertEquals(response.getHeader(Headers.AccessControlAllowOrigin), "https://app.example.com");
+      assertEquals(response.getHeader(Headers.AccessControlAllowCredentials), "true");
+      assertEquals(response.getHeader(Headers.AccessControlAllowMethods), "PUT");
+      assertEquals(response.getHeader(Headers.AccessControlAllowHeaders), "Content-Type,Authorization");
+      assertEquals(response.getHeader(Headers.AccessControlMaxAge), "600");
+      assertEquals(response.getHeader("Vary"), "Origin");
+
+      assertEquals(preflight(filter, "https://app.example.com", "/api", "PUT", "x-other").getStatus(), 403);
+      assertEquals(preflight(filter, "https://app.example.com", "/api", "DELETE", null).getStatus(), 403);
+      assertEquals(preflight(filter, "https://other.example.com", "/api", "PUT", null).getStatus(), 403);
+    }
+
+    // Reconfiguring the filter clears the cached responses
+    filter.withAllowedHTTPHeaders(List.of("Content-Type", "X-Other"));
+    assertEquals(preflight(filter, "https://app.example.com", "/api", "PUT", "x-other").getStatus(), 204);
+    assertEquals(preflight(filter, "https://app.example.com", "/api", "PUT", "authorization").getStatus(), 403);
+  }
+
+  @Test
+  public void wildcardOrigins() throws Exception {
+    CORSFilter filter = new CORSFilter()
+        .withAllowedHTTPMethods(List.of(HTTPMethod.GET))
+        .withAllowedOrigins(List.of(URI.create("https://app.example.com"), URI.create("https://*.example.org"), URI.create("http://*.example.net:8080")))
+        .withExposedHeaders(List.of("X-Total"));
+
+    assertAllowed(filter, "https://app.example.com");
+    assertAllowed(filter, "https://foo.example.org");
+    assertAllowed(filter, "https://foo-bar.baz.example.org");
+    assertAllowed(filter, "http://foo.example.net:8080");
+
+    assertNotAllowed(filter, "https://other.example.com");
+    assertNotAllowed(filter, "https://example.org");
+    assertNotAllowed(filter, "https://.example.org");
+    assertNotAllowed(filter, "https://foo..example.org");
+    assertNotAllowed(filter, "https://evil-example.org");
+    assertNotAllowed(filter, "https://foo.example.org.evil.com");
+    assertNotAllowed(filter, "https://evil.com/.example.org");
+    assertNotAllowed(filter, "http://foo.example.org");
+    assertNotAllowed(filter, "http://foo.example.net");
+  }
+
+  private void assertAllowed(CORSFilter filter, String origin) throws Exception {
+    AtomicInteger chain = new AtomicInteger();
+    HTTPResponse response = simple(filter, origin, chain);
+    assertEquals(chain.get(), 1, origin);
+    assertEquals(response.getHeader(Headers.AccessControlAllowOrigin), origin);
+    assertEquals(response.getHeader(Headers.AccessControlExposeHeaders), "X-Total");
+  }
+
+  private void assertNotAllowed(CORSFilter filter, String origin) throws Exception {
+    AtomicInteger chain = new AtomicInteger();
+    HTTPResponse response = simple(filter, origin, chain);
+    assertEquals(chain.get(), 0, origin);
+    assertEquals(response.getStatus(), 403, origin);
+    assertNull(response.getHeader(Headers.AccessControlAllowOrigin), origin);
+  }
+
+  private HTTPResponse preflight(CORSFilter filter, String origin, String path, String method, String headers)
+      throws Exception {
+    HTTPRequest request = new HTTPRequest();
+    request.setMethod(HTTPMethod.OPTIONS);
+    request.setPath(path);
+    request.addHeader(Headers.Origin, origin);
+    request.addHeader(Headers.AccessControlRequestMethod, method);
+    if (headers != null) {
+      request.addHeader(Headers.AccessControlRequestHeaders, headers);
+    }
+
+    HTTPResponse response = new HTTPResponse();
+    filter.doFilter(request, response, () -> {
+      throw new AssertionError("Pre-flight requests should not continue the workflow");
+    });
+    return response;
+  }
+
+  private HTTPResponse simple(CORSFilter filter, String origin, AtomicInteger chain) throws Exception {
+    HTTPRequest request = new HTTPRequest();
+    request.setMethod(HTTPMethod.GET);
+    request.setPath("/api");
+    request.addHeader(Headers.Origin, origin);
+
+    HTTPResponse response = new HTTPResponse();
+    filter.doFilter(request, response, chain::incrementAndGet);
+    return response;
+  }
+}
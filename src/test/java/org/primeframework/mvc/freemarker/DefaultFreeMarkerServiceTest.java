@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2020, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,6 +41,7 @@ public class DefaultFreeMarkerServiceTest {
   @Test
   public void locale() {
     MVCConfiguration config = EasyMock.createStrictMock(MVCConfiguration.class);
+    EasyMock.expect(config.templateWatchEnabled()).andReturn(false);
     EasyMock.expect(config.templateCheckSeconds()).andReturn(2);
     EasyMock.expect(config.autoHTMLEscapingEnabled()).andReturn(true);
     EasyMock.replay(config);
@@ -64,6 +65,7 @@ public class DefaultFreeMarkerServiceTest {
   @Test
   public void objectWrapper() {
     MVCConfiguration config = EasyMock.createStrictMock(MVCConfiguration.class);
+    EasyMock.expect(config.templateWatchEnabled()).andReturn(false);
     EasyMock.expect(config.templateCheckSeconds()).andReturn(2);
     EasyMock.expect(config.autoHTMLEscapingEnabled()).andReturn(true);
     EasyMock.replay(config);
@@ -92,6 +94,7 @@ public class DefaultFreeMarkerServiceTest {
   @Test
   public void use() {
     MVCConfiguration config = EasyMock.createStrictMock(MVCConfiguration.class);
+    EasyMock.expect(config.templateWatchEnabled()).andReturn(false);
     EasyMock.expect(config.templateCheckSeconds()).andReturn(2);
     EasyMock.expect(config.autoHTMLEscapingEnabled()).andReturn(true);
     EasyMock.replay(config);
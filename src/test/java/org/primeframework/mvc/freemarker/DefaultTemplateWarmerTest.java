@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.freemarker;
+
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.primeframework.mvc.MockConfiguration;
+import org.primeframework.mvc.container.ContainerResolver;
+import org.primeframework.mvc.freemarker.guice.FreeMarkerConfigurationProvider;
+import org.testng.annotations.Test;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests the default template warmer.
+ */
+public class DefaultTemplateWarmerTest {
+  @Test
+  public void disabled() {
+    MockConfiguration configuration = new MockConfiguration();
+    configuration.templateDirectory = "warm-up";
+    assertEquals(newWarmer(configuration).warmUp(), Set.of());
+  }
+
+  @Test
+  public void parseErrors_fail() {
+    MockConfiguration configuration = new MockConfiguration();
+    configuration.templateDirectory = "warm-up-broken";
+    configuration.templateWarmUpEnabled = true;
+
+    try {
+      newWarmer(configuration).warmUp();
+      fail("Should have failed");
+    } catch (TemplateWarmUpException e) {
+      assertEquals(e.errors.size(), 1);
+      assertTrue(e.errors.get(0).startsWith("Template [warm-up-broken/broken.ftl]"), e.errors.get(0));
+    }
+  }
+
+  @Test
+  public void parseErrors_log() {
+    MockConfiguration configuration = new MockConfiguration();
+    configuration.templateDirectory = "warm-up-broken";
+    configuration.templateWarmUpEnabled = true;
+    configuration.templateWarmUpFailOnError = false;
+
+    assertEquals(newWarmer(configuration).warmUp(), Set.of("warm-up-broken/good.ftl"));
+  }
+
+  @Test
+  public void warmUp() {
+    MockConfiguration configuration = new MockConfiguration();
+    configuration.templateDirectory = "warm-up";
+    configuration.templateWarmUpEnabled = true;
+    configuration.templateWarmUpLocales = List.of(Locale.US, Locale.FRENCH);
+
+    assertEquals(newWarmer(configuration).warmUp(), Set.of("warm-up/good.ftl", "warm-up/nested/nested.ftl"));
+  }
+
+  private DefaultTemplateWarmer newWarmer(MockConfiguration configuration) {
+    configuration.controlTemplateDirectory = "missing-control-templates";
+
+    Path root = Path.of("src/test/java/org/primeframework/mvc/freemarker");
+    ContainerResolver containerResolver = new ContainerResolver() {
+      @Override
+      public String getRealPath(String path) {
+        return root.resolve(path).toString();
+      }
+
+      @Override
+      public URL getResource(String path) {
+        return null;
+      }
+    };
+
+    return new DefaultTemplateWarmer(configuration, new FreeMarkerConfigurationProvider(configuration, new OverridingTemplateLoader(containerResolver)).get(), containerResolver);
+  }
+}
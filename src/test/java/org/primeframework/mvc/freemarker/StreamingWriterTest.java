@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.freemarker;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import org.primeframework.mvc.freemarker.directives.Flush;
+import org.testng.annotations.Test;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests the streaming writer and the flush directive.
+ */
+public class StreamingWriterTest {
+  @Test
+  public void directive() throws Exception {
+    Configuration configuration = new Configuration(Configuration.VERSION_2_3_32);
+    configuration.setTagSyntax(Configuration.SQUARE_BRACKET_TAG_SYNTAX);
+    Template template = new Template("test", new StringReader("one[@prime.flush/]two[@prime.flush/]three"), configuration);
+    Map<String, Object> root = Map.of("prime", Map.of("flush", new Flush()));
+
+    // Streaming
+    RecordingWriter writer = new RecordingWriter();
+    template.process(root, new StreamingWriter(writer));
+    assertEquals(writer.flushes, List.of("one", "onetwo", "onetwothree"));
+
+    // Not streaming, the directive is ignored and only FreeMarker's flush at the end happens
+    writer = new RecordingWriter();
+    template.process(root, writer);
+    assertEquals(writer.flushes, List.of("onetwothree"));
+  }
+
+  @Test
+  public void head() throws Exception {
+    RecordingWriter writer = new RecordingWriter();
+    StreamingWriter streamingWriter = new StreamingWriter(writer);
+    streamingWriter.write("<html><head><title>Test</title></he");
+    assertEquals(writer.flushes, List.of());
+
+    // Split across writes and mixed case
+    streamingWriter.write("AD><body>");
+    assertEquals(writer.flushes, List.of("<html><head><title>Test</title></heAD>"));
+
+    // Only the first one
+    streamingWriter.write("</head>".toCharArray());
+    streamingWriter.write("</body></html>");
+    assertEquals(writer.flushes, List.of("<html><head><title>Test</title></heAD>"));
+    assertEquals(writer.toString(), "<html><head><title>Test</title></heAD><body></head></body></html>");
+  }
+
+  @Test
+  public void head_singleCharacters() throws Exception {
+    RecordingWriter writer = new RecordingWriter();
+    StreamingWriter streamingWriter = new StreamingWriter(writer);
+    for (char c : "<</head>body".toCharArray()) {
+      streamingWriter.write(c);
+    }
+
+    assertEquals(writer.flushes, List.of("<</head>"));
+    assertEquals(writer.toString(), "<</head>body");
+  }
+
+  private static class RecordingWriter extends StringWriter {
+    public final List<String> flushes = new ArrayList<>();
+
+    @Override
+    public void flush() {
+      flushes.add(toString());
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.freemarker;
+
+import java.io.StringWriter;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import freemarker.template.Configuration;
+import org.primeframework.mvc.MockConfiguration;
+import org.primeframework.mvc.container.ContainerResolver;
+import org.primeframework.mvc.freemarker.guice.FreeMarkerConfigurationProvider;
+import org.testng.annotations.Test;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests the template watcher.
+ */
+public class TemplateWatcherTest {
+  @Test
+  public void watch() throws Exception {
+    Path root = Files.createTempDirectory("prime-mvc-templates");
+    Files.createDirectories(root.resolve("templates/nested"));
+    Files.writeString(root.resolve("templates/nested/test.ftl"), "one");
+
+    MockConfiguration configuration = new MockConfiguration();
+    configuration.templateWatchEnabled = true;
+    configuration.controlTemplateDirectory = "missing-control-templates";
+
+    ContainerResolver containerResolver = new ContainerResolver() {
+      @Override
+      public String getRealPath(String path) {
+        return root.resolve(path).toString();
+      }
+
+      @Override
+      public URL getResource(String path) {
+        return null;
+      }
+    };
+
+    Configuration freeMarkerConfiguration = new FreeMarkerConfigurationProvider(configuration, new OverridingTemplateLoader(containerResolver, configuration)).get();
+    TemplateWatcher watcher = new TemplateWatcher(configuration, containerResolver, () -> freeMarkerConfiguration);
+    try {
+      assertEquals(render(freeMarkerConfiguration, "templates/nested/test.ftl"), "one");
+
+      // Polling is disabled, so only the watcher can cause the change to be picked up
+      Files.writeString(root.resolve("templates/nested/test.ftl"), "two");
+      assertEquals(waitFor(freeMarkerConfiguration, "templates/nested/test.ftl", "two"), "two");
+
+      // Directories created after the watcher started are watched too
+      Files.createDirectories(root.resolve("templates/added"));
+      Thread.sleep(500);
+      Files.writeString(root.resolve("templates/added/test.ftl"), "three");
+      assertEquals(waitFor(freeMarkerConfiguration, "templates/added/test.ftl", "three"), "three");
+    } finally {
+      watcher.close();
+    }
+  }
+
+  private String render(Configuration configuration, String name) throws Exception {
+    StringWriter writer = new StringWriter();
+    configuration.getTemplate(name).process(null, writer);
+    return writer.toString();
+  }
+
+  private String waitFor(Configuration configuration, String name, String expected) throws Exception {
+    String result = null;
+    for (int i = 0; i < 200; i++) {
+      try {
+        result = render(configuration, name);
+        if (result.equals(expected)) {
+          break;
+        }
+      } catch (freemarker.template.TemplateNotFoundException e) {
+        // Not there yet
+      }
+
+      Thread.sleep(100);
+    }
+
+    return result;
+  }
+}
@@ -0,0 +1 @@
+[#if name??]${name}
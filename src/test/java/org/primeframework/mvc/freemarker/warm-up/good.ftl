@@ -0,0 +1 @@
+Hello [#if name??]${name}[/#if]
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.http;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.example.action.user.EditAction;
+import org.primeframework.mvc.PrimeBaseTest;
+import org.testng.annotations.Test;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class DefaultRequestWarmerTest extends PrimeBaseTest {
+  @Test
+  public void disabled() {
+    assertTrue(injector.getInstance(RequestWarmer.class).warmUp().isEmpty());
+    assertTrue(simulator.main.getWarmUpTimings().isEmpty());
+    assertTrue(simulator.main.isReady());
+  }
+
+  @Test
+  public void discoverURIs() {
+    configuration.requestWarmUpEnabled = true;
+    configuration.requestWarmUpIterations = 1;
+    try {
+      List<RequestWarmUpTiming> timings = injector.getInstance(RequestWarmer.class).warmUp();
+      assertFalse(timings.isEmpty());
+
+      // Every GET action without URI parameters is requested once
+      RequestWarmUpTiming locale = timings.stream().filter(timing -> timing.uri.equals("/locale")).findFirst().orElseThrow();
+      assertEquals(locale.status, 200);
+      assertEquals(locale.requests, 1);
+
+      // The actions with URI parameters are skipped
+      timings.forEach(timing -> assertFalse(timing.uri.startsWith("/user/edit"), timing.uri));
+    } finally {
+      configuration.requestWarmUpEnabled = false;
+      configuration.requestWarmUpIterations = 10;
+    }
+  }
+
+  @Test
+  public void warmUp() {
+    configuration.requestWarmUpEnabled = true;
+    configuration.requestWarmUpIterations = 3;
+    configuration.requestWarmUpURIs = List.of("/user/edit/42", "/not-an-action");
+    try {
+      List<RequestWarmUpTiming> timings = injector.getInstance(RequestWarmer.class).warmUp();
+      assertEquals(timings.size(), 2);
+      assertEquals(timings.get(0).uri, "/user/edit/42");
+      assertEquals(timings.get(0).status, 200);
+      assertEquals(timings.get(0).requests, 3);
+      assertEquals(timings.get(1).uri, "/not-an-action");
+      assertEquals(timings.get(1).status, 404);
+
+      // The requests went through the MVC workflow of the injector
+      assertTrue(EditAction.getCalled);
+    } finally {
+      configuration.requestWarmUpEnabled = false;
+      configuration.requestWarmUpIterations = 10;
+      configuration.requestWarmUpURIs = Collections.emptyList();
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2023, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,11 +17,15 @@
 package org.primeframework.mvc.http;
 
 import java.net.URI;
+import java.util.LinkedList;
+import java.util.Random;
+import java.util.regex.Pattern;
 
 import io.fusionauth.http.server.HTTPRequest;
 import org.testng.annotations.Test;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 
 /**
  * HTTPTools test.
@@ -182,6 +186,35 @@ public class HTTPToolsTest {
     assertOkRequestURI("/f.o.o/b.a.r/1.2.0.1.9.2.22.1.x./f.o.o.png");
   }
 
+  @Test
+  public void normalizeFuzz() {
+    // Compare against the previous regex and LinkedList based implementations using random paths built from the
+    // characters that matter to normalization
+    String[] tokens = {"/", "/", "/", ".", ".", "%2E", "%2e", "%", "2", "E", "a", "b", "foo", ";", ";x=1", "//", ".."};
+    Random random = new Random(42);
+    for (int i = 0; i < 200_000; i++) {
+      StringBuilder build = new StringBuilder();
+      int count = random.nextInt(12);
+      for (int j = 0; j < count; j++) {
+        build.append(tokens[random.nextInt(tokens.length)]);
+      }
+
+      String path = build.toString();
+      String uri = HTTPTools.getRequestURI(new HTTPRequest().with(r -> r.setPath(path)));
+      assertEquals(uri, legacyGetRequestURI(path), path);
+      assertEquals(HTTPTools.sanitizeURI(uri), legacySanitizeURI(uri), uri);
+      assertEquals(HTTPTools.sanitizeURI(path), legacySanitizeURI(path), path);
+    }
+  }
+
+  @Test
+  public void normalizeWithoutChanges() {
+    String path = "/foo/version/1.2.0/foo.png";
+    assertSame(HTTPTools.getRequestURI(new HTTPRequest().with(r -> r.setPath(path))), path);
+    assertSame(HTTPTools.sanitizeURI(path), path);
+    assertEquals(HTTPTools.getRequestURI(new HTTPRequest().with(r -> r.setPath("//foo///bar;jsessionid=1//baz"))), "/foo/bar");
+  }
+
   private void assertBadRequestURI(String path, String expectedResult) {
     assertEquals(HTTPTools.sanitizeURI(HTTPTools.getRequestURI(new HTTPRequest().with(r -> r.setPath(path)))), expectedResult);
   }
@@ -197,4 +230,52 @@ public class HTTPToolsTest {
   private void assertOkRequestURI(String path) {
     assertEquals(HTTPTools.sanitizeURI(HTTPTools.getRequestURI(new HTTPRequest().with(r -> r.setPath(path)))), path);
   }
+
+  private String legacyGetRequestURI(String uri) {
+    int semicolon = uri.indexOf(';');
+    if (semicolon >= 0) {
+      uri = uri.substring(0, semicolon);
+    }
+
+    return Pattern.compile("/{2,}").matcher(uri).replaceAll("/");
+  }
+
+  private String legacySanitizeURI(String uri) {
+    char[] ca = uri.replace("%2E", ".").toCharArray();
+    int dots = 0;
+    int slash = 0;
+    boolean goodSegment = false;
+    LinkedList<String> segments = new LinkedList<>();
+
+    for (int i = 0; i < ca.length; i++) {
+      char c = ca[i];
+
+      if (c == '/') {
+        if (goodSegment || dots > 2) {
+          segments.addLast(new String(ca, slash, i - slash));
+        } else if (dots == 2) {
+          if (segments.isEmpty()) {
+            return null;
+          }
+
+          segments.removeLast();
+        }
+
+        slash = i;
+        dots = 0;
+        goodSegment = false;
+      } else if (c == '.') {
+        dots++;
+      } else {
+        goodSegment = true;
+        dots = 0;
+      }
+    }
+
+    if (goodSegment) {
+      segments.addLast(new String(ca, slash, ca.length - slash));
+    }
+
+    return String.join("", segments);
+  }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.io;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.testng.annotations.Test;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests the UTF-8 writer.
+ */
+public class UTF8WriterTest {
+  @Test
+  public void encoding() throws Exception {
+    String str = "ASCII é ü ñ 日本語 😀 end";
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    UTF8Writer writer = new UTF8Writer(out);
+    writer.write(str);
+    writer.write(str.toCharArray());
+    for (char c : str.toCharArray()) {
+      writer.write(c);
+    }
+    writer.close();
+
+    assertEquals(out.toString(StandardCharsets.UTF_8), str + str + str);
+  }
+
+  @Test
+  public void large() throws Exception {
+    String str = "<div class=\"row\">Ünïcödé</div>\n".repeat(5_000);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    UTF8Writer writer = new UTF8Writer(out);
+    writer.write(str);
+    writer.close();
+
+    assertEquals(out.toByteArray(), str.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void malformedSurrogates() throws Exception {
+    String str = "a\uD83Db\uDE00c\uD83D";
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    UTF8Writer writer = new UTF8Writer(out);
+    writer.write(str);
+    writer.close();
+
+    assertEquals(out.toByteArray(), str.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void recycle() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    UTF8Writer writer = new UTF8Writer(out);
+    writer.write("Discarded");
+    writer.recycle();
+    writer.close();
+    assertEquals(out.size(), 0);
+  }
+
+  @Test
+  public void splitSurrogatePair() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    UTF8Writer writer = new UTF8Writer(out);
+    writer.write("x\uD83D");
+    writer.flush();
+    writer.write("\uDE00y");
+    writer.close();
+
+    assertEquals(out.toString(StandardCharsets.UTF_8), "x😀y");
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.locale;
+
+import java.util.List;
+import java.util.Locale;
+
+import io.fusionauth.http.Cookie;
+import io.fusionauth.http.server.HTTPRequest;
+import io.fusionauth.http.server.HTTPResponse;
+import org.primeframework.mvc.config.MVCConfiguration;
+import org.testng.annotations.Test;
+import static org.easymock.EasyMock.createNiceMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Tests the default locale provider.
+ */
+public class DefaultLocaleProviderTest {
+  @Test
+  public void get() {
+    HTTPRequest request = new HTTPRequest();
+    request.addLocales(Locale.CHINESE);
+    request.addCookies(new Cookie("prime-locale", "fr_CA"));
+
+    Locale locale = new DefaultLocaleProvider(request, new HTTPResponse(), configuration()).get();
+    assertEquals(locale, Locale.CANADA_FRENCH);
+
+    // The Locale is resolved once per request and shared by every provider
+    request.deleteCookie("prime-locale");
+    assertSame(new DefaultLocaleProvider(request, new HTTPResponse(), configuration()).get(), locale);
+
+    // A new request without the cookie uses the Accept-Language header
+    HTTPRequest next = new HTTPRequest();
+    next.addLocales(Locale.CHINESE);
+    assertEquals(new DefaultLocaleProvider(next, new HTTPResponse(), configuration()).get(), Locale.CHINESE);
+  }
+
+  @Test
+  public void set() {
+    HTTPRequest request = new HTTPRequest();
+    request.addLocales(Locale.CHINESE);
+    request.addCookies(new Cookie("prime-locale", "fr"));
+    HTTPResponse response = new HTTPResponse();
+
+    DefaultLocaleProvider provider = new DefaultLocaleProvider(request, response, configuration());
+    assertEquals(provider.get(), Locale.FRENCH);
+
+    provider.set(Locale.GERMAN);
+    assertEquals(provider.get(), Locale.GERMAN);
+
+    List<Cookie> cookies = response.getCookies();
+    assertEquals(cookies.size(), 1);
+    assertEquals(cookies.get(0).value, "de");
+
+    // Deleting the cookie falls back to the Accept-Language header
+    provider.set(null);
+    assertEquals(provider.get(), Locale.CHINESE);
+  }
+
+  private MVCConfiguration configuration() {
+    MVCConfiguration configuration = createNiceMock(MVCConfiguration.class);
+    expect(configuration.localeCookieName()).andReturn("prime-locale").anyTimes();
+    replay(configuration);
+    return configuration;
+  }
+}
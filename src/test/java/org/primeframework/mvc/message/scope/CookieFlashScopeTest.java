@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.message.scope;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fusionauth.http.Cookie;
+import io.fusionauth.http.server.HTTPRequest;
+import io.fusionauth.http.server.HTTPResponse;
+import org.primeframework.mvc.config.MVCConfiguration;
+import org.primeframework.mvc.content.guice.JacksonModule;
+import org.primeframework.mvc.message.Message;
+import org.primeframework.mvc.message.MessageType;
+import org.primeframework.mvc.message.SimpleMessage;
+import org.primeframework.mvc.security.Encryptor;
+import org.primeframework.mvc.util.CookieTools;
+import org.testng.annotations.Test;
+import static org.easymock.EasyMock.createNiceMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * This tests the cookie flash scope.
+ */
+public class CookieFlashScopeTest {
+  private final Encryptor encryptor = new Encryptor() {
+    @Override
+    public byte[] decrypt(byte[] bytes) {
+      return bytes;
+    }
+
+    @Override
+    public byte[] encrypt(byte[] bytes) {
+      return bytes;
+    }
+  };
+
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JacksonModule());
+
+  @Test
+  public void addAll_writesOnce() throws Exception {
+    HTTPRequest request = new HTTPRequest();
+    HTTPResponse response = new HTTPResponse();
+
+    CookieFlashScope scope = new CookieFlashScope(encryptor, configuration(), objectMapper, request, response);
+    scope.add(new SimpleMessage(MessageType.INFO, "code1", "message1"));
+    scope.addAll(List.of(new SimpleMessage(MessageType.INFO, "code2", "message2")));
+    assertTrue(response.getCookies().isEmpty());
+
+    // Another instance for the same request sees the pending messages
+    CookieFlashScope other = new CookieFlashScope(encryptor, configuration(), objectMapper, request, response);
+    other.add(new SimpleMessage(MessageType.INFO, "code3", "message3"));
+    assertEquals(scope.get().size(), 3);
+
+    scope.flush();
+    other.flush();
+    assertEquals(response.getCookies().size(), 1);
+
+    // Reading the cookie on the next request returns all the messages
+    HTTPRequest next = new HTTPRequest();
+    next.addCookies(new Cookie("flash", response.getCookies().get(0).value));
+    List<Message> messages = new CookieFlashScope(encryptor, configuration(), objectMapper, next, new HTTPResponse()).get();
+    assertEquals(messages.stream().map(Message::getCode).toList(), List.of("code1", "code2", "code3"));
+  }
+
+  @Test
+  public void clear() throws Exception {
+    String value = CookieTools.toJSONCookie(List.of(new SimpleMessage(MessageType.INFO, "code1", "message1")), true, true, encryptor, objectMapper);
+    HTTPRequest request = new HTTPRequest();
+    request.addCookies(new Cookie("flash", value));
+    HTTPResponse response = new HTTPResponse();
+
+    CookieFlashScope scope = new CookieFlashScope(encryptor, configuration(), objectMapper, request, response);
+    assertEquals(scope.get().size(), 1);
+    scope.clear();
+    assertTrue(scope.get().isEmpty());
+
+    // The cookie is expired right away rather than waiting for the flush
+    assertEquals(response.getCookies().size(), 1);
+    assertNull(response.getCookies().get(0).value);
+    assertEquals(response.getCookies().get(0).maxAge, Long.valueOf(0));
+
+    scope.flush();
+    assertEquals(response.getCookies().size(), 1);
+    assertNull(response.getCookies().get(0).value);
+  }
+
+  @Test
+  public void clear_afterFlush() throws Exception {
+    HTTPRequest request = new HTTPRequest();
+    HTTPResponse response = new HTTPResponse();
+
+    CookieFlashScope scope = new CookieFlashScope(encryptor, configuration(), objectMapper, request, response);
+    scope.add(new SimpleMessage(MessageType.INFO, "code1", "message1"));
+    scope.flush();
+    assertEquals(response.getCookies().size(), 1);
+    assertNotNull(response.getCookies().get(0).value);
+
+    // The flushed cookie must be removed again
+    scope.clear();
+    scope.flush();
+    assertEquals(response.getCookies().size(), 1);
+    assertNull(response.getCookies().get(0).value);
+    assertEquals(response.getCookies().get(0).maxAge, Long.valueOf(0));
+  }
+
+  @Test
+  public void clear_noCookie() {
+    HTTPRequest request = new HTTPRequest();
+    HTTPResponse response = new HTTPResponse();
+
+    CookieFlashScope scope = new CookieFlashScope(encryptor, configuration(), objectMapper, request, response);
+    scope.clear();
+    scope.flush();
+    assertTrue(response.getCookies().isEmpty());
+  }
+
+  @Test
+  public void flush_untouched() {
+    HTTPRequest request = new HTTPRequest();
+    request.addCookies(new Cookie("flash", "not-decoded"));
+    HTTPResponse response = new HTTPResponse();
+
+    new CookieFlashScope(encryptor, configuration(), objectMapper, request, response).flush();
+    assertNull(request.getAttribute(CookieFlashScope.FLASH_KEY));
+    assertTrue(response.getCookies().isEmpty());
+  }
+
+  private MVCConfiguration configuration() {
+    MVCConfiguration configuration = createNiceMock(MVCConfiguration.class);
+    expect(configuration.messageFlashScopeCookieName()).andReturn("flash");
+    replay(configuration);
+    return configuration;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.parameter;
+
+import java.util.LinkedHashMap;
+
+import org.example.domain.NestedDataUnwrappedAction;
+import org.primeframework.mvc.MockConfiguration;
+import org.testng.annotations.Test;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class ParameterActionConfigurationTest {
+  @Test
+  public void isKnown() {
+    ParameterActionConfigurator configurator = new ParameterActionConfigurator(new MockConfiguration());
+    ParameterActionConfiguration configuration = (ParameterActionConfiguration) configurator.configure(NestedDataUnwrappedAction.class);
+
+    // Plain members
+    assertTrue(configuration.isKnown("bean1"));
+    assertTrue(configuration.isKnown("bean1.bar"));
+    assertTrue(configuration.isKnown("bean2['foo']"));
+
+    // Unwrapped members, including the ones from the base class
+    assertTrue(configuration.isKnown("bing"));
+    assertTrue(configuration.isKnown("bing.length"));
+    assertFalse(configuration.isKnown("bean3"));
+
+    // Unknown
+    assertFalse(configuration.isKnown("submit.x"));
+    assertFalse(configuration.isKnown("bean"));
+    assertFalse(configuration.isKnown("bean1x.bar"));
+
+    // Not a simple expression
+    assertTrue(configuration.isKnown("['foo']"));
+
+    // Maps can take anything
+    assertNull(configurator.configure(LinkedHashMap.class));
+  }
+}
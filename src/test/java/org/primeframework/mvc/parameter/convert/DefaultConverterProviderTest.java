@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2017, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -137,5 +137,9 @@ public class DefaultConverterProviderTest extends PrimeBaseTest {
     // Failure
     tc = provider.lookup(this.getClass());
     assertNull(tc);
+
+    // Cached results, including the failure
+    assertSame(provider.lookup(Integer.class), provider.lookup(Integer.class));
+    assertNull(provider.lookup(this.getClass()));
   }
 }
\ No newline at end of file
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2001-2024, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2001-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,9 +26,12 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Random;
 
 import com.google.inject.Inject;
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.text.StrLookup;
+import org.apache.commons.lang3.text.StrSubstitutor;
 import org.example.action.ExtensionInheritanceAction;
 import org.example.domain.Action;
 import org.example.domain.ActionField;
@@ -136,6 +139,75 @@ public class DefaultExpressionEvaluatorTest extends PrimeBaseTest {
     assertEquals(result, "My age is ");
   }
 
+  @Test
+  public void expansionTemplates() {
+    ActionField action = new ActionField();
+    action.user = new UserField();
+    action.user.name = "Fred";
+    action.user.age = 35;
+
+    // Constant strings are returned as is
+    String constant = "application/octet-stream";
+    assertSame(evaluator.expand(constant, action, false), constant);
+
+    // The cached template is reused with the current values
+    assertEquals(evaluator.expand("/user/${user.age}/${user.name}", action, false), "/user/35/Fred");
+    action.user.name = "Barney";
+    assertEquals(evaluator.expand("/user/${user.age}/${user.name}", action, false), "/user/35/Barney");
+    assertEquals(evaluator.expand("/user/${user.age", action, false), "/user/${user.age");
+
+    // The StrSubstitutor escapes, default values and recursive values still work
+    assertEquals(evaluator.expand("$${user.name} is ${user.name}", action, false), "${user.name} is Barney");
+    assertEquals(evaluator.expand("${user.name:-Wilma}", action, false), "Barney");
+    action.user.name = "${user.age}";
+    assertEquals(evaluator.expand("My name is ${user.name}", action, false), "My name is 35");
+  }
+
+  @SuppressWarnings("deprecation")
+  @Test
+  public void expansionTemplatesFuzz() {
+    // Compare against the StrSubstitutor using random strings and values built from the characters that matter to
+    // expansion, including the exceptions thrown
+    String[] tokens = {"$", "{", "}", "${", "${a}", "${b}", "${c}", "${d}", "${e}", ":-", "a", "b", " ", "$${a}"};
+    String[] values = {"x", "", "$", "${b}", "y$", "${a}", "{z}", "$$", "${", null};
+    MapExpressionEvaluator mapEvaluator = new MapExpressionEvaluator();
+    Random random = new Random(7);
+    for (int i = 0; i < 300_000; i++) {
+      mapEvaluator.values.clear();
+      for (String name : List.of("a", "b", "c", "d", "e", "a:-x", "a ")) {
+        mapEvaluator.values.put(name, values[random.nextInt(values.length)]);
+      }
+
+      StringBuilder build = new StringBuilder();
+      int count = random.nextInt(8);
+      for (int j = 0; j < count; j++) {
+        build.append(tokens[random.nextInt(tokens.length)]);
+      }
+
+      String str = build.toString();
+      String expected;
+      try {
+        expected = new StrSubstitutor(new StrLookup<String>() {
+          public String lookup(String name) {
+            String value = mapEvaluator.getValue(name, null, Collections.emptyMap());
+            return value == null ? "" : value;
+          }
+        }).replace(str);
+      } catch (RuntimeException e) {
+        expected = e.getClass().getName();
+      }
+
+      String actual;
+      try {
+        actual = mapEvaluator.expand(str, new Object(), false);
+      } catch (RuntimeException e) {
+        actual = e.getClass().getName();
+      }
+
+      assertEquals(actual, expected, str + " " + mapEvaluator.values);
+    }
+  }
+
   @Test
   public void fieldGetting() {
     // Test local property null
@@ -322,6 +394,31 @@ public class DefaultExpressionEvaluatorTest extends PrimeBaseTest {
     assertEquals(bean.mapImplements.get("foo"), "value");
   }
 
+  @Test
+  public void hasMember() {
+    // Fields and JavaBean properties
+    assertTrue(evaluator.hasMember("user", new ActionField()));
+    assertTrue(evaluator.hasMember("user", new Action()));
+    assertFalse(evaluator.hasMember("notAMember", new ActionField()));
+    assertFalse(evaluator.hasMember("notAMember", new Action()));
+
+    // Unwrapped fields are resolved at the top-level, but the unwrapped field itself is not
+    NestedDataUnwrappedAction action = new NestedDataUnwrappedAction();
+    assertTrue(evaluator.hasMember("bean1", action));
+    assertTrue(evaluator.hasMember("bing", action));
+    assertTrue(evaluator.hasMember("bam", action));
+    assertFalse(evaluator.hasMember("bean3", action));
+
+    // Complex names and collections can't be answered from the index
+    assertTrue(evaluator.hasMember("user.name", new ActionField()));
+    assertTrue(evaluator.hasMember("foo", new HashMap<>()));
+
+    // Every member from the index must be resolvable
+    for (String name : List.of("bean1", "bing", "bam")) {
+      evaluator.getValue(name, action);
+    }
+  }
+
   @Test
   public void immutableList() {
     // Expect this to fail nicely w/out a 500 based upon the MVC configuration
@@ -878,6 +975,22 @@ public class DefaultExpressionEvaluatorTest extends PrimeBaseTest {
     }
   }
 
+  /**
+   * Looks up the variables in a Map so the expansion can be compared without building objects for every value.
+   */
+  private static class MapExpressionEvaluator extends DefaultExpressionEvaluator {
+    final Map<String, String> values = new HashMap<>();
+
+    MapExpressionEvaluator() {
+      super(null, null);
+    }
+
+    @Override
+    public String getValue(String expression, Object object, Map<String, String> attributes) {
+      return values.get(expression);
+    }
+  }
+
 //    public class MVELThread extends Thread {
 //        @Override
 //        public void run() {
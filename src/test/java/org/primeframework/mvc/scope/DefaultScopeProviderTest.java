@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.scope;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import io.fusionauth.http.server.HTTPRequest;
+import io.fusionauth.http.server.HTTPResponse;
+import org.primeframework.mvc.http.HTTPObjectsHolder;
+import org.primeframework.mvc.scope.annotation.Request;
+import org.testng.annotations.Test;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class DefaultScopeProviderTest {
+  @Test
+  public void lookup() throws Exception {
+    Injector injector = Guice.createInjector(new AbstractModule() {
+      @Override
+      protected void configure() {
+        bind(HTTPRequest.class).toProvider(HTTPObjectsHolder::getRequest);
+      }
+    });
+
+    DefaultScopeProvider provider = new DefaultScopeProvider(injector);
+    ScopeField scopeField = new ScopeField(GenericAction.class.getField("value"), GenericAction.class.getField("value").getAnnotation(Request.class), StringAction.class);
+
+    List<Scope<?>> scopes = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      HTTPObjectsHolder.run(new HTTPRequest(), new HTTPResponse(), () -> {
+        Scope<?> scope = provider.lookup(scopeField);
+        assertEquals(scope.getClass(), RequestScope.class);
+        assertSame(provider.lookup(scopeField), scope);
+        assertSame(provider.lookup(Request.class), scope);
+        scopes.add(scope);
+      });
+    }
+
+    // Each request gets its own scope instances
+    assertNotSame(scopes.get(0), scopes.get(1));
+  }
+
+  @Test
+  public void scopeField() throws Exception {
+    ScopeField value = new ScopeField(GenericAction.class.getField("value"), GenericAction.class.getField("value").getAnnotation(Request.class), StringAction.class);
+    assertEquals(value.name, "value");
+    assertEquals(value.scopeType, RequestScope.class);
+    assertEquals(value.type, String.class);
+
+    ScopeField list = new ScopeField(GenericAction.class.getField("list"), GenericAction.class.getField("list").getAnnotation(Request.class), StringAction.class);
+    assertEquals(list.type, List.class);
+
+    // Without the action class the type is resolved against the action instance at request time
+    ScopeField unresolved = new ScopeField(GenericAction.class.getField("value"), GenericAction.class.getField("value").getAnnotation(Request.class));
+    assertNull(unresolved.type);
+    assertEquals(ScopeField.resolveType(unresolved.field, StringAction.class), String.class);
+  }
+
+  public static class GenericAction<T> {
+    @Request
+    public List<String> list;
+
+    @Request
+    public T value;
+  }
+
+  public static class StringAction extends GenericAction<String> {
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.codahale.metrics.MetricRegistry;
+import org.testng.annotations.Test;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class DefaultAuthorizationCacheTest {
+  @Test
+  public void expiration() {
+    MutableClock clock = new MutableClock();
+    DefaultAuthorizationCache cache = new DefaultAuthorizationCache(clock, 10, Duration.ofMinutes(5));
+    AtomicInteger calls = new AtomicInteger();
+
+    // Expires with the token
+    ZonedDateTime expiration = ZonedDateTime.ofInstant(clock.instant().plusSeconds(60), ZoneOffset.UTC);
+    assertTrue(cache.validate("jwt", expiration, new String[]{"admin"}, () -> calls.incrementAndGet() > 0));
+    assertTrue(cache.validate("jwt", expiration, new String[]{"admin"}, () -> calls.incrementAndGet() > 0));
+    assertEquals(calls.get(), 1);
+
+    clock.now = clock.now.plusSeconds(61);
+    assertTrue(cache.validate("jwt", expiration, new String[]{"admin"}, () -> calls.incrementAndGet() > 0));
+    assertEquals(calls.get(), 2);
+
+    // Expires with the time to live
+    assertTrue(cache.validate("session", null, new String[]{"admin"}, () -> calls.incrementAndGet() > 0));
+    clock.now = clock.now.plus(Duration.ofMinutes(5));
+    assertTrue(cache.validate("session", null, new String[]{"admin"}, () -> calls.incrementAndGet() > 0));
+    assertEquals(calls.get(), 4);
+  }
+
+  @Test
+  public void invalidateDuringValidation() {
+    DefaultAuthorizationCache cache = new DefaultAuthorizationCache();
+    AtomicInteger calls = new AtomicInteger();
+
+    // The principal is invalidated while its first decision is being made, so that decision must not be cached
+    assertTrue(cache.validate("session", null, new String[]{"admin"}, () -> {
+      calls.incrementAndGet();
+      cache.invalidate("session");
+      return true;
+    }));
+    assertFalse(cache.validate("session", null, new String[]{"admin"}, () -> calls.incrementAndGet() < 0));
+    assertEquals(calls.get(), 2);
+
+    // Same for a principal that already has decisions
+    assertFalse(cache.validate("session", null, new String[]{"user"}, () -> {
+      calls.incrementAndGet();
+      cache.invalidate("session");
+      return false;
+    }));
+    assertTrue(cache.validate("session", null, new String[]{"user"}, () -> calls.incrementAndGet() > 0));
+    assertEquals(calls.get(), 4);
+  }
+
+  @Test
+  public void maximumSize() {
+    DefaultAuthorizationCache cache = new DefaultAuthorizationCache(Clock.systemUTC(), 10, Duration.ofMinutes(5));
+    AtomicInteger calls = new AtomicInteger();
+    for (int i = 0; i < 100; i++) {
+      cache.validate("session" + i, null, new String[]{"admin"}, () -> calls.incrementAndGet() > 0);
+    }
+
+    // The last principal is still cached, but most of the others were evicted
+    cache.validate("session99", null, new String[]{"admin"}, () -> calls.incrementAndGet() > 0);
+    assertEquals(calls.get(), 100);
+
+    calls.set(0);
+    for (int i = 0; i < 100; i++) {
+      cache.validate("session" + i, null, new String[]{"admin"}, () -> calls.incrementAndGet() > 0);
+    }
+    assertTrue(calls.get() >= 90);
+  }
+
+  @Test
+  public void validate() {
+    MetricRegistry metricRegistry = new MetricRegistry();
+    DefaultAuthorizationCache cache = new DefaultAuthorizationCache();
+    cache.setMetricRegistry(metricRegistry);
+    AtomicInteger calls = new AtomicInteger();
+
+    assertFalse(cache.validate("session", null, new String[]{"admin"}, () -> calls.incrementAndGet() < 0));
+    assertFalse(cache.validate("session", null, new String[]{"admin"}, () -> calls.incrementAndGet() < 0));
+    assertTrue(cache.validate("session", null, new String[]{"user"}, () -> calls.incrementAndGet() > 0));
+    assertTrue(cache.validate("session", null, new String[]{"user"}, () -> calls.incrementAndGet() > 0));
+    assertEquals(calls.get(), 2);
+
+    // Invalidating the principal drops all of its decisions
+    cache.invalidate("session");
+    assertTrue(cache.validate("session", null, new String[]{"admin"}, () -> calls.incrementAndGet() > 0));
+    assertEquals(calls.get(), 3);
+
+    assertEquals(cache.getHitRatio(), 0.4);
+    assertEquals(metricRegistry.meter("prime-mvc.authorization-cache.hits").getCount(), 2);
+    assertEquals(metricRegistry.meter("prime-mvc.authorization-cache.misses").getCount(), 3);
+    assertEquals(metricRegistry.getGauges().get("prime-mvc.authorization-cache.hit-ratio").getValue(), 0.4);
+  }
+
+  private static class MutableClock extends Clock {
+    Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015-2022, Inversoft Inc., All Rights Reserved
+ * Copyright (c) 2015-2026, Inversoft Inc., All Rights Reserved
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,6 +36,8 @@ import org.testng.annotations.Test;
 import static org.easymock.EasyMock.createStrictMock;
 import static org.easymock.EasyMock.replay;
 import static org.easymock.EasyMock.verify;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.fail;
 
 /**
@@ -51,7 +53,7 @@ public class DefaultSecurityWorkflowTest extends PrimeBaseTest {
     ActionConfiguration configuration = actionConfigurationBuilder.build(PostAction.class);
     ExecuteMethodConfiguration methodConfiguration = new ExecuteMethodConfiguration(HTTPMethod.GET, null, null);
     ActionInvocation actionInvocation = new ActionInvocation(new PostAction(), methodConfiguration, null, null, configuration);
-    DefaultActionInvocationStore store = new DefaultActionInvocationStore(request);
+    DefaultActionInvocationStore store = new DefaultActionInvocationStore(() -> request);
     store.setCurrent(actionInvocation);
 
     MockUserLoginSecurityContext.roles.clear();
@@ -71,7 +73,7 @@ public class DefaultSecurityWorkflowTest extends PrimeBaseTest {
     ActionConfiguration configuration = actionConfigurationBuilder.build(SecureNoRolesAction.class);
     ExecuteMethodConfiguration methodConfiguration = new ExecuteMethodConfiguration(HTTPMethod.GET, null, null);
     ActionInvocation actionInvocation = new ActionInvocation(new SecureNoRolesAction(), methodConfiguration, null, null, configuration);
-    DefaultActionInvocationStore store = new DefaultActionInvocationStore(request);
+    DefaultActionInvocationStore store = new DefaultActionInvocationStore(() -> request);
     store.setCurrent(actionInvocation);
 
     MockUserLoginSecurityContext.roles.clear();
@@ -101,7 +103,7 @@ public class DefaultSecurityWorkflowTest extends PrimeBaseTest {
     ActionConfiguration configuration = actionConfigurationBuilder.build(SecureAction.class);
     ExecuteMethodConfiguration methodConfiguration = new ExecuteMethodConfiguration(HTTPMethod.GET, null, null);
     ActionInvocation actionInvocation = new ActionInvocation(new SecureAction(), methodConfiguration, null, null, configuration);
-    DefaultActionInvocationStore store = new DefaultActionInvocationStore(request);
+    DefaultActionInvocationStore store = new DefaultActionInvocationStore(() -> request);
     store.setCurrent(actionInvocation);
 
     request.setMethod(HTTPMethod.GET);
@@ -130,7 +132,7 @@ public class DefaultSecurityWorkflowTest extends PrimeBaseTest {
     ActionConfiguration configuration = actionConfigurationBuilder.build(SecureAction.class);
     ExecuteMethodConfiguration methodConfiguration = new ExecuteMethodConfiguration(HTTPMethod.POST, null, null);
     ActionInvocation actionInvocation = new ActionInvocation(new SecureAction(), methodConfiguration, null, null, configuration);
-    DefaultActionInvocationStore store = new DefaultActionInvocationStore(request);
+    DefaultActionInvocationStore store = new DefaultActionInvocationStore(() -> request);
     store.setCurrent(actionInvocation);
 
     request.setMethod(HTTPMethod.POST);
@@ -159,7 +161,7 @@ public class DefaultSecurityWorkflowTest extends PrimeBaseTest {
     ActionConfiguration configuration = actionConfigurationBuilder.build(SecureAction.class);
     ExecuteMethodConfiguration methodConfiguration = new ExecuteMethodConfiguration(HTTPMethod.GET, null, null);
     ActionInvocation actionInvocation = new ActionInvocation(new SecureAction(), methodConfiguration, null, null, configuration);
-    DefaultActionInvocationStore store = new DefaultActionInvocationStore(request);
+    DefaultActionInvocationStore store = new DefaultActionInvocationStore(() -> request);
     store.setCurrent(actionInvocation);
 
     MockUserLoginSecurityContext.roles.clear();
@@ -189,7 +191,7 @@ public class DefaultSecurityWorkflowTest extends PrimeBaseTest {
     ActionConfiguration configuration = actionConfigurationBuilder.build(SecureAction.class);
     ExecuteMethodConfiguration methodConfiguration = new ExecuteMethodConfiguration(HTTPMethod.GET, null, null);
     ActionInvocation actionInvocation = new ActionInvocation(new SecureAction(), methodConfiguration, null, null, configuration);
-    DefaultActionInvocationStore store = new DefaultActionInvocationStore(request);
+    DefaultActionInvocationStore store = new DefaultActionInvocationStore(() -> request);
     store.setCurrent(actionInvocation);
 
     MockUserLoginSecurityContext.roles.clear();
@@ -214,12 +216,43 @@ public class DefaultSecurityWorkflowTest extends PrimeBaseTest {
     verify(workflowChain);
   }
 
+  @Test
+  public void performCachesSecurityPlan() throws Exception {
+    ActionConfiguration configuration = actionConfigurationBuilder.build(SecureAction.class);
+    ExecuteMethodConfiguration methodConfiguration = configuration.executeMethods.get(HTTPMethod.GET);
+    ActionInvocation actionInvocation = new ActionInvocation(new SecureAction(), methodConfiguration, null, null, configuration);
+    DefaultActionInvocationStore store = new DefaultActionInvocationStore(() -> request);
+    store.setCurrent(actionInvocation);
+
+    MockUserLoginSecurityContext.roles.clear();
+    MockUserLoginSecurityContext.roles.add("admin");
+    MockUserLoginSecurityContext securityContext = new MockUserLoginSecurityContext();
+    securityContext.login("user");
+    request.addCookies(response.getCookies());
+
+    DefaultSecurityWorkflow workflow = new DefaultSecurityWorkflow(store, new TestSecuritySchemeFactory(PrimeBaseTest.configuration, securityContext, request, csrfProvider));
+    WorkflowChain workflowChain = createStrictMock(WorkflowChain.class);
+    workflowChain.continueWorkflow();
+    workflowChain.continueWorkflow();
+    replay(workflowChain);
+
+    workflow.perform(workflowChain);
+    SecurityPlan plan = configuration.securityPlans.get(HTTPMethod.GET);
+    assertNotNull(plan);
+
+    // The second request uses the same plan
+    workflow.perform(workflowChain);
+    assertSame(configuration.securityPlans.get(HTTPMethod.GET), plan);
+
+    verify(workflowChain);
+  }
+
   @Test
   public void performNotConfigured() throws Exception {
     ActionConfiguration configuration = actionConfigurationBuilder.build(PostAction.class);
     ExecuteMethodConfiguration methodConfiguration = new ExecuteMethodConfiguration(HTTPMethod.GET, null, null);
     ActionInvocation actionInvocation = new ActionInvocation(new PostAction(), methodConfiguration, null, null, configuration);
-    DefaultActionInvocationStore store = new DefaultActionInvocationStore(request);
+    DefaultActionInvocationStore store = new DefaultActionInvocationStore(() -> request);
     store.setCurrent(actionInvocation);
 
     DefaultSecurityWorkflow workflow = new DefaultSecurityWorkflow(store, new TestSecuritySchemeFactory(PrimeBaseTest.configuration, null, request, csrfProvider));
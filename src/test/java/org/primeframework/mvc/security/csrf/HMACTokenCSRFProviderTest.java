@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.security.csrf;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Base64;
+
+import io.fusionauth.http.server.HTTPRequest;
+import org.primeframework.mvc.config.MVCConfiguration;
+import org.primeframework.mvc.security.UserLoginSecurityContext;
+import org.testng.annotations.Test;
+import static org.easymock.EasyMock.createNiceMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * This tests the HMAC token CSRF provider.
+ */
+public class HMACTokenCSRFProviderTest {
+  private static final Key KEY = new SecretKeySpec("0123456789abcdef".getBytes(StandardCharsets.UTF_8), "AES");
+
+  @Test
+  public void expired() {
+    HMACTokenCSRFProvider provider = new HMACTokenCSRFProvider(configuration(), () -> context("session"));
+    String token = provider.getToken(new HTTPRequest());
+    provider.setNonceTimeout(-1);
+    assertFalse(provider.validateRequest(request(provider, token)));
+  }
+
+  @Test
+  public void getToken() {
+    HMACTokenCSRFProvider provider = new HMACTokenCSRFProvider(configuration(), () -> context("session"));
+    HTTPRequest request = new HTTPRequest();
+    String token = provider.getToken(request);
+    assertEquals(token.length(), 34);
+    assertSame(provider.getToken(request), token);
+    assertTrue(provider.validateRequest(request(provider, token)));
+
+    // No session, no token
+    provider = new HMACTokenCSRFProvider(configuration(), () -> context(null));
+    assertNull(provider.getToken(new HTTPRequest()));
+    assertFalse(provider.validateRequest(request(provider, token)));
+  }
+
+  @Test
+  public void invalid() {
+    HMACTokenCSRFProvider provider = new HMACTokenCSRFProvider(configuration(), () -> context("session"));
+    String token = provider.getToken(new HTTPRequest());
+
+    // Another session
+    HMACTokenCSRFProvider other = new HMACTokenCSRFProvider(configuration(), () -> context("other"));
+    assertFalse(other.validateRequest(request(other, token)));
+
+    // Tampered instant
+    byte[] bytes = Base64.getUrlDecoder().decode(token);
+    bytes[8]++;
+    assertFalse(provider.validateRequest(request(provider, Base64.getUrlEncoder().withoutPadding().encodeToString(bytes))));
+
+    // Garbage
+    assertFalse(provider.validateRequest(request(provider, "not a token")));
+    assertFalse(provider.validateRequest(request(provider, token.substring(1))));
+    assertFalse(provider.validateRequest(new HTTPRequest()));
+  }
+
+  @Test
+  public void rotation() {
+    Key oldKey = new SecretKeySpec("old".getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+    Key newKey = new SecretKeySpec("new".getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+
+    HMACTokenCSRFProvider provider = new HMACTokenCSRFProvider(configuration(), () -> context("session"));
+    provider.setSigningKeys(oldKey);
+    String oldToken = provider.getToken(new HTTPRequest());
+
+    provider.setSigningKeys(newKey, oldKey);
+    String newToken = provider.getToken(new HTTPRequest());
+    assertTrue(provider.validateRequest(request(provider, oldToken)));
+    assertTrue(provider.validateRequest(request(provider, newToken)));
+
+    provider.setSigningKeys(newKey);
+    assertFalse(provider.validateRequest(request(provider, oldToken)));
+    assertTrue(provider.validateRequest(request(provider, newToken)));
+  }
+
+  private MVCConfiguration configuration() {
+    MVCConfiguration configuration = createNiceMock(MVCConfiguration.class);
+    expect(configuration.cookieEncryptionKey()).andReturn(KEY);
+    replay(configuration);
+    return configuration;
+  }
+
+  private UserLoginSecurityContext context(String sessionId) {
+    UserLoginSecurityContext context = createNiceMock(UserLoginSecurityContext.class);
+    expect(context.getSessionId()).andReturn(sessionId).anyTimes();
+    replay(context);
+    return context;
+  }
+
+  private HTTPRequest request(CSRFProvider provider, String token) {
+    HTTPRequest request = new HTTPRequest();
+    request.addURLParameter(provider.getParameterName(), token);
+    return request;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.util;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.example.action.SimpleAction;
+import org.example.action.user.EditAction;
+import org.example.domain.NestedDataUnwrappedAction;
+import org.primeframework.mvc.action.annotation.Action;
+import org.testng.annotations.Test;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ClassClasspathResolverTest {
+  @Test
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public void findByLocators() throws Exception {
+    Set<Class<Object>> sequential = new ClassClasspathResolver<>().findByLocators(new ClassClasspathResolver.AnnotatedWith(Action.class), true, "action");
+    assertTrue(sequential.contains(SimpleAction.class));
+    assertTrue(sequential.contains(EditAction.class));
+
+    // Not in an action package
+    assertFalse(sequential.contains(NestedDataUnwrappedAction.class));
+
+    // Every class is annotated
+    sequential.forEach(type -> assertTrue(type.isAnnotationPresent(Action.class), type.toString()));
+
+    // The parallel scan finds the same classes in the same order
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      for (int i = 0; i < 3; i++) {
+        Set<Class<Object>> parallel = new ClassClasspathResolver<>(executor).findByLocators(new ClassClasspathResolver.AnnotatedWith(Action.class), true, "action");
+        assertEquals(new ArrayList<>(parallel), new ArrayList<>(sequential));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
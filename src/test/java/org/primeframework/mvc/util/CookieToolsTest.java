@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, Inversoft Inc., All Rights Reserved
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+package org.primeframework.mvc.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.primeframework.mvc.MockConfiguration;
+import org.primeframework.mvc.security.CBCCipherProvider;
+import org.primeframework.mvc.security.DefaultEncryptor;
+import org.primeframework.mvc.security.Encryptor;
+import org.primeframework.mvc.security.GCMCipherProvider;
+import org.primeframework.mvc.util.CookieTools.DecodedCookie;
+import org.testng.annotations.Test;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class CookieToolsTest {
+  private final byte[] value = "{\"name\":\"Brian Pontarelli\"}".getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  public void decodeCookie() throws Exception {
+    MockConfiguration configuration = new MockConfiguration();
+    Encryptor encryptor = new DefaultEncryptor(new CBCCipherProvider(configuration), new GCMCipherProvider(configuration));
+
+    assertTrue(current(CookieTools.toCookie(value, true, true, encryptor), true, true, encryptor));
+    assertTrue(current(CookieTools.toCookie(value, false, true, encryptor), false, true, encryptor));
+    assertTrue(current(CookieTools.toCookie(value, true, false, encryptor), true, false, encryptor));
+    assertTrue(current(CookieTools.toCookie(value, false, false, encryptor), false, false, encryptor));
+
+    // Different options
+    assertFalse(current(CookieTools.toCookie(value, false, true, encryptor), true, true, encryptor));
+    assertFalse(current(CookieTools.toCookie(value, true, true, encryptor), false, true, encryptor));
+
+    // Encryption is required
+    expectThrows(IllegalStateException.class, () -> current(CookieTools.toCookie(value, true, false, encryptor), true, true, encryptor));
+
+    // Legacy format without the header
+    assertFalse(current(Base64.getUrlEncoder().encodeToString(encryptor.encrypt(value)), false, true, encryptor));
+    assertNull(CookieTools.decodeCookie(null, false, false, encryptor, r -> r, r -> r));
+    assertNull(CookieTools.decodeCookie("", false, false, encryptor, r -> r, r -> r));
+  }
+
+  @Test
+  public void decodeCookie_legacyCipher() throws Exception {
+    MockConfiguration configuration = new MockConfiguration();
+    Encryptor encryptor = new DefaultEncryptor(new CBCCipherProvider(configuration), new GCMCipherProvider(configuration));
+
+    // Encrypted with AES/CBC and the current header. It can still be decrypted, but it must be encrypted again.
+    Encryptor cbcEncryptor = new DefaultEncryptor(new CBCCipherProvider(configuration), new CBCCipherProvider(configuration));
+    String cookie = CookieTools.toCookie(value, true, true, cbcEncryptor);
+    assertFalse(current(cookie, true, true, encryptor));
+  }
+
+  @Test
+  public void decodeCookie_previousKey() throws Exception {
+    MockConfiguration previous = new MockConfiguration();
+    Encryptor previousEncryptor = new DefaultEncryptor(new CBCCipherProvider(previous), new GCMCipherProvider(previous));
+    String cookie = CookieTools.toCookie(value, true, true, previousEncryptor);
+
+    MockConfiguration current = new MockConfiguration();
+    Encryptor encryptor = new DefaultEncryptor(new CBCCipherProvider(current), new GCMCipherProvider(current));
+    expectThrows(Exception.class, () -> current(cookie, true, true, encryptor));
+
+    // An encryptor that can decrypt cookies from the previous key (i.e. during a key rotation) must still re-encrypt them
+    Encryptor rotating = new Encryptor() {
+      @Override
+      public byte[] decrypt(byte[] bytes) throws Exception {
+        try {
+          return encryptor.decrypt(bytes);
+        } catch (Exception e) {
+          return previousEncryptor.decrypt(bytes);
+        }
+      }
+
+      @Override
+      public byte[] encrypt(byte[] bytes) throws Exception {
+        return encryptor.encrypt(bytes);
+      }
+
+      @Override
+      public Decrypted decryptAndCheck(byte[] bytes) throws Exception {
+        try {
+          return encryptor.decryptAndCheck(bytes);
+        } catch (Exception e) {
+          return new Decrypted(previousEncryptor.decrypt(bytes), false);
+        }
+      }
+    };
+    assertFalse(current(cookie, true, true, rotating));
+    assertTrue(current(CookieTools.toCookie(value, true, true, rotating), true, true, rotating));
+  }
+
+  @Test
+  public void decodeCookie_customEncryptor() throws Exception {
+    // An encryptor that doesn't implement decryptAndCheck is always encrypted again
+    Encryptor encryptor = new Encryptor() {
+      @Override
+      public byte[] decrypt(byte[] bytes) {
+        return bytes;
+      }
+
+      @Override
+      public byte[] encrypt(byte[] bytes) {
+        return bytes;
+      }
+    };
+    assertFalse(current(CookieTools.toCookie(value, true, true, encryptor), true, true, encryptor));
+    assertTrue(current(CookieTools.toCookie(value, true, false, encryptor), true, false, encryptor));
+  }
+
+  private boolean current(String cookie, boolean compress, boolean encrypt, Encryptor encryptor) throws Exception {
+    DecodedCookie<byte[]> decoded = CookieTools.decodeCookie(cookie, compress, encrypt, encryptor, r -> r, r -> r);
+    assertEquals(decoded.value, value);
+    return decoded.current;
+  }
+}
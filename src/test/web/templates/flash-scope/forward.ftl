@@ -0,0 +1,3 @@
+[#list 1..4096 as i]
+This line is repeated to render a page larger than the response buffer ${i}
+[/#list]
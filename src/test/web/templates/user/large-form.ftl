@@ -0,0 +1,23 @@
+[#ftl/]
+<html>
+<head><title>User details</title></head>
+<body>
+[@control.form action="/user/large-form" type="multipart"]
+  [#list 1..5 as i]
+  [@control.checkbox name="user.active" checked=false disabled=false readonly=false required=true/]
+  [@control.checkbox_list headerL10n="pick" headerValue="" l10nExpr="name" items=roles name="roleIds" disabled=false readonly=false required=true valueExpr="id"/]
+  [@control.country_select name="user.addresses['home'].country" disabled=false includeBlank=false multiple=false readonly=false required=true size=3/]
+  [@control.hidden name="user.id"/]
+  [@control.month_select name="user.favoriteMonth" disabled=false multiple=false readonly=false required=true size=3/]
+  [@control.password name="user.password" disabled=false maxlength=16 readonly=false required=true size=10/]
+  [@control.radio_list headerL10n="pick" headerValue="" items=userTypes name="user.type" disabled=false readonly=false required=true/]
+  [@control.select headerL10n="pick" headerValue="" items=ages name="user.age" disabled=false multiple=false readonly=false required=false size=3/]
+  [@control.state_select name="user.addresses['home'].state" disabled=false includeBlank=true multiple=false readonly=false required=false size=3/]
+  [@control.text name="user.name" disabled=false maxlength=24 readonly=false required=false size=10/]
+  [@control.textarea name="user.lifeStory" cols=40 disabled=false readonly=false required=false rows=10/]
+  [@control.year_select name="user.favoriteYear" disabled=false endYear=2090 mulitple=false numberOfYears=100 readonly=false required=false size=3 startYear=1900/]
+  [/#list]
+  [@control.submit name="submit" disabled=false/]
+[/@control.form]
+</body>
+</html>